@@ -0,0 +1,111 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.benchmark.EmployeeDataGenerator;
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeChangeStream;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of publishing changes through an {@code EmployeeChangeStream}: single saves and deletes
+ * with and without a stream with four subscribers attached, and publishing alone, to a stream
+ * without subscribers or with them. Run with {@code -prof gc} to see that publishing allocates nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChangeStreamBenchmarks {
+    private static final int EMPLOYEES = 100_000;
+    private static final int SUBSCRIBERS = 4;
+
+    @Param({"false", "true"})
+    public boolean stream;
+
+    private EmployeeRepository<Integer> repository;
+    private EmployeeChangeStream<Integer> changes;
+    private Employee<Integer>[] originals;
+    private Employee<Integer>[] copies;
+    // One counter per subscriber, in arrays long enough not to share a cache line
+    private final long[][] handled = new long[SUBSCRIBERS][16];
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void attachStream() {
+        repository = new EmployeeRepository<>();
+        originals = new Employee[EMPLOYEES];
+        copies = new Employee[EMPLOYEES];
+        for (int id = 0; id < EMPLOYEES; id++) {
+            originals[id] = EmployeeDataGenerator.employee(id);
+            copies[id] = new Employee<>(originals[id]);
+            repository.save(originals[id]);
+        }
+        changes = EmployeeChangeStream.attach(repository);
+        if (stream) {
+            for (int i = 0; i < SUBSCRIBERS; i++) {
+                long[] count = handled[i];
+                changes.subscribe("benchmark-" + i, (event, endOfBatch) -> count[0]++);
+            }
+        } else {
+            changes.close();
+        }
+    }
+
+    @TearDown
+    public void closeStream() {
+        changes.close();
+    }
+
+    /**
+     * Replaces an existing employee with a preallocated copy, so the dataset does not grow.
+     */
+    @Benchmark
+    public boolean save() {
+        int id = ThreadLocalRandom.current().nextInt(EMPLOYEES);
+        return repository.save(ThreadLocalRandom.current().nextBoolean() ? originals[id] : copies[id]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean saveConcurrently() {
+        return save();
+    }
+
+    /**
+     * Deletes an employee and saves it again.
+     */
+    @Benchmark
+    public boolean deleteAndSave() {
+        int id = ThreadLocalRandom.current().nextInt(EMPLOYEES);
+        repository.delete(id);
+        return repository.save(originals[id]);
+    }
+
+    /**
+     * Only the publishing of a change, without the repository, followed by the wait for a free slot
+     * the repository leaves until after its locks are released.
+     */
+    @Benchmark
+    public void publish() {
+        int id = ThreadLocalRandom.current().nextInt(EMPLOYEES);
+        changes.onChange(originals[id], copies[id]);
+        changes.afterUnlock();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.benchmark.EmployeeDataGenerator;
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.service.EmployeeQueryService;
+import com.example.employee_management_system.service.EmployeeReportService;
+import com.example.employee_management_system.service.EmployeeSalaryService;
+import com.example.employee_management_system.service.EmployeeSortService;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A repository filled with {@link EmployeeDataGenerator} employees {@code 0} to {@code size - 1}, and
+ * the services over it. The dataset is the same on every run, so results are comparable across runs.
+ */
+@State(Scope.Benchmark)
+public class EmployeeDataset {
+    /**
+     * Heap for the forked benchmark JVMs: the repository takes about 850 bytes per employee,
+     * so 10 million employees need 8.5 GB before the copies made by sorts and {@code findAll}.
+     */
+    public static final String HEAP = "-Xmx16g";
+    private static final int LOAD_BATCH_SIZE = 1 << 16;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int size;
+
+    public EmployeeRepository<Integer> repository;
+    public EmployeeQueryService<Integer> queryService;
+    public EmployeeSortService<Integer> sortService;
+    public EmployeeSalaryService<Integer> salaryService;
+    public EmployeeReportService<Integer> reportService;
+
+    @Setup
+    public void load() {
+        repository = new EmployeeRepository<>();
+        List<Employee<Integer>> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        for (int id = 0; id < size; id++) {
+            batch.add(EmployeeDataGenerator.employee(id));
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+
+        queryService = new EmployeeQueryService<>(repository);
+        sortService = new EmployeeSortService<>(repository);
+        salaryService = new EmployeeSalaryService<>(repository);
+        reportService = new EmployeeReportService<>(repository);
+    }
+
+    /**
+     * @return a stable pseudo-random ID of an employee in the dataset
+     */
+    public int employeeId(int sequence) {
+        return Math.floorMod(sequence * 0x9E3779B1, size);
+    }
+}
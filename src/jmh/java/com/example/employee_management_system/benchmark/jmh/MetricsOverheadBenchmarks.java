@@ -0,0 +1,82 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.metrics.OperationMetrics;
+import com.example.employee_management_system.metrics.ServiceMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of service metrics: the cheapest service operations, where the recording is the largest
+ * share of the call, with recording enabled and disabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsOverheadBenchmarks {
+    private static final OperationMetrics EMPTY_OPERATION = ServiceMetrics.operation("MetricsOverheadBenchmarks", "empty");
+    private static final OperationMetrics EMPTY_SAMPLED_OPERATION = ServiceMetrics.operation("MetricsOverheadBenchmarks",
+            "emptySampled", ServiceMetrics.CONSTANT_TIME_SAMPLE_INTERVAL);
+
+    @Param({"true", "false"})
+    public boolean metrics;
+
+    @Setup
+    public void enableMetrics() {
+        ServiceMetrics.setEnabled(metrics);
+    }
+
+    /**
+     * Only the recording, around an empty operation.
+     */
+    @Benchmark
+    public void recordEmptyOperation() {
+        long start = EMPTY_OPERATION.start();
+        EMPTY_OPERATION.stop(start);
+    }
+
+    /**
+     * Only the recording, around an empty operation timed one call in
+     * {@value ServiceMetrics#CONSTANT_TIME_SAMPLE_INTERVAL}.
+     */
+    @Benchmark
+    public void recordEmptySampledOperation() {
+        long start = EMPTY_SAMPLED_OPERATION.start();
+        EMPTY_SAMPLED_OPERATION.stop(start);
+    }
+
+    @Benchmark
+    public double getAverageSalary(EmployeeDataset dataset) {
+        return dataset.salaryService.getAverageSalary("Backend");
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> getTopPaid(EmployeeDataset dataset) {
+        return dataset.salaryService.getTopPaid(10);
+    }
+
+    /**
+     * The same operation called from four threads, for contention on the shared histogram.
+     */
+    @Benchmark
+    @Threads(4)
+    public List<Employee<Integer>> getTopPaidConcurrently(EmployeeDataset dataset) {
+        return dataset.salaryService.getTopPaid(10);
+    }
+}
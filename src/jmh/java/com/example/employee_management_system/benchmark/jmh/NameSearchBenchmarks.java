@@ -0,0 +1,102 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.benchmark.EmployeeDataGenerator;
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Substring name search through the trigram name index against the previous full scan that
+ * lowercased every name, at a million employees, on names shared by many employees and on names
+ * unique to each employee.
+ * <p>
+ * The {@value #SELECTIVE} query matches one surname among shared names, or one employee among unique
+ * names. {@code "Ama M"} spans a first name and a surname, and {@code "zz"} matches no one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameSearchBenchmarks {
+    private static final String SELECTIVE = "selective";
+    private static final int LOAD_BATCH_SIZE = 1 << 16;
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean uniqueNames;
+
+    @Param({SELECTIVE, "Ama M", "zz"})
+    public String query;
+
+    private EmployeeRepository<Integer> repository;
+    private String name;
+
+    @Setup
+    public void load() {
+        repository = new EmployeeRepository<>();
+        List<Employee<Integer>> batch = new ArrayList<>(LOAD_BATCH_SIZE);
+        for (int id = 0; id < size; id++) {
+            Employee<Integer> employee = EmployeeDataGenerator.employee(id);
+            if (uniqueNames) {
+                employee.setName(employee.getName() + " " + suffix(id));
+            }
+            batch.add(employee);
+            if (batch.size() == LOAD_BATCH_SIZE) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+        name = !query.equals(SELECTIVE) ? query : uniqueNames ? suffix(size / 2) : "Kowalski";
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> scan() {
+        String lowerCase = name.toLowerCase();
+        return repository.stream()
+                .filter(e -> e.getName().toLowerCase().contains(lowerCase))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> index() {
+        return repository.findByNameContaining(name);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return repository.suggestNames(name.substring(0, Math.min(3, name.length())), 8);
+    }
+
+    /**
+     * Spells the ID in letters, since names may not contain digits.
+     */
+    private static String suffix(int id) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + id % 26));
+            id /= 26;
+        } while (id > 0);
+        return letters.toString().toUpperCase(Locale.ROOT);
+    }
+}
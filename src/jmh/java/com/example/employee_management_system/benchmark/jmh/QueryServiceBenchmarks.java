@@ -0,0 +1,81 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.domain.comparators.EmployeeSalaryComparator;
+import com.example.employee_management_system.repository.EmployeeQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every {@code EmployeeQueryService} filter. The salary range and rating select about one employee
+ * in twenty; the name matches about one employee in twenty and the department one in five.
+ * <p>
+ * The composite queries ask for the 20 best-paid active DevOps employees rated at least 8, once through
+ * the query planner and once by filtering, sorting and limiting a stream of every employee.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryServiceBenchmarks {
+    private static final EmployeeQuery TOP_PAID_QUERY = EmployeeQuery.builder()
+            .department("DevOps").active(true).minRating(8.0)
+            .orderBy(EmployeeQuery.Order.SALARY_DESCENDING).limit(20).build();
+    private static final EmployeeQuery RANGE_QUERY = EmployeeQuery.builder()
+            .department("DevOps").salaryBetween(100_000.0, 108_500.0).experienceBetween(10, 20).build();
+    private static final Comparator<Employee<Integer>> SALARY_ORDER = new EmployeeSalaryComparator<>();
+
+    @Benchmark
+    public List<Employee<Integer>> filterByDepartment(EmployeeDataset dataset) {
+        return dataset.queryService.filterByDepartment("DevOps");
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> filterByName(EmployeeDataset dataset) {
+        return dataset.queryService.filterByName("mensah");
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> filterByRating(EmployeeDataset dataset) {
+        return dataset.queryService.filterByRating(9.6);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> filterBySalaryRange(EmployeeDataset dataset) {
+        return dataset.queryService.filterBySalaryRange(100_000, 108_500);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> queryTopPaid(EmployeeDataset dataset) {
+        return dataset.queryService.query(TOP_PAID_QUERY);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> streamTopPaid(EmployeeDataset dataset) {
+        return dataset.repository.stream()
+                .filter(e -> e.getDepartment().equalsIgnoreCase("DevOps") && e.isActive() && e.getPerformanceRating() >= 8.0)
+                .sorted(SALARY_ORDER)
+                .limit(20)
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> queryRange(EmployeeDataset dataset) {
+        return dataset.queryService.query(RANGE_QUERY);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> streamRange(EmployeeDataset dataset) {
+        return dataset.repository.stream().filter(RANGE_QUERY::matches).toList();
+    }
+}
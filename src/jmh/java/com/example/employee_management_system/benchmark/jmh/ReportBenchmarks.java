@@ -0,0 +1,125 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.service.ReportFormat;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a full report of the dataset to a temporary file in each format, and with the previous
+ * report, which called {@code printf} once per employee.
+ * <p>
+ * {@code writeReport} gives the time per report. {@code reportThroughput} writes the same reports
+ * and gives the rate in megabytes and rows per second as its {@code megabytes} and {@code rows}
+ * secondary results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReportBenchmarks {
+    private static final String PRINTF = "PRINTF";
+    private static final String HEADER_FORMAT = "%-6s | %-20s | %-10s | %-12s | %-6s | %-5s | %-6s%n";
+
+    /**
+     * A {@link ReportFormat}, or {@value #PRINTF} for the previous report.
+     */
+    @Param({PRINTF, "TEXT", "CSV", "JSON"})
+    public String writer;
+
+    private Path file;
+
+    /**
+     * What the reports of an iteration wrote, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Written {
+        public double megabytes;
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+            rows = 0;
+        }
+    }
+
+    @Setup
+    public void createFile() throws IOException {
+        file = Files.createTempFile("employees", ".report");
+    }
+
+    @TearDown
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long writeReport(EmployeeDataset dataset) throws IOException {
+        return write(dataset);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public long reportThroughput(EmployeeDataset dataset, Written written) throws IOException {
+        long bytes = write(dataset);
+        written.megabytes += bytes / (1024.0 * 1024.0);
+        written.rows += dataset.size;
+        return bytes;
+    }
+
+    /**
+     * @return the number of bytes written
+     */
+    private long write(EmployeeDataset dataset) throws IOException {
+        if (writer.equals(PRINTF)) {
+            writePrintfReport(dataset.repository, file);
+            return Files.size(file);
+        }
+        return dataset.reportService.writeReport(file, ReportFormat.valueOf(writer)).getBytesWritten();
+    }
+
+    /**
+     * The previous report: one {@code printf} per employee, then two more passes for the statistics.
+     */
+    private static void writePrintfReport(EmployeeRepository<Integer> repository, Path file) throws IOException {
+        try (PrintStream out = new PrintStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.printf(HEADER_FORMAT, "ID", "Name", "Department", "Salary", "Rating", "Exp", "Active");
+            repository.forEach(emp -> out.printf(HEADER_FORMAT,
+                    emp.getEmployeeId(),
+                    emp.getName(),
+                    emp.getDepartment(),
+                    emp.getSalary(),
+                    emp.getPerformanceRating(),
+                    emp.getYearsOfExperience(),
+                    emp.isActive() ? "Yes" : "No"));
+            long activeCount = repository.count(emp -> emp.isActive());
+            double totalSalary = repository.stream().mapToDouble(emp -> emp.getSalary()).sum();
+            out.printf("%n%-30s: %d (%.1f%%)", "Active Employees", activeCount, activeCount * 100.0 / repository.size());
+            out.printf("%n%-30s: $%,.2f%n", "Total Salary Expenditure", totalSalary);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.benchmark.EmployeeDataGenerator;
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeCursor;
+import com.example.employee_management_system.repository.EmployeePage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-employee reads and writes, a page of 50 employees following a random one, and a full copy,
+ * of {@code EmployeeRepository}, and saves split across 1 to 8 threads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RepositoryBenchmarks {
+    private static final int PAGE_SIZE = 50;
+    private static final int SAVE_BATCH_SIZE = 4096;
+    private int sequence;
+
+    /**
+     * A pool of {@code threads} writers, so the thread count can be a parameter rather than a fixed
+     * {@code @Threads} value.
+     */
+    @State(Scope.Benchmark)
+    public static class Writers {
+        @Param({"1", "2", "4", "8"})
+        public int threads;
+
+        private ExecutorService executor;
+        private int batch;
+
+        @Setup
+        public void startWriters() {
+            executor = Executors.newFixedThreadPool(threads);
+        }
+
+        @TearDown
+        public void stopWriters() {
+            executor.shutdownNow();
+        }
+    }
+
+    @Setup
+    public void startAt(ThreadParams thread) {
+        // Each thread walks its own part of the IDs; the first starts where a single thread does
+        sequence = thread.getThreadIndex() * (Integer.MAX_VALUE / thread.getThreadCount());
+    }
+
+    /**
+     * Replaces an existing employee with an identical copy, so the dataset does not grow.
+     */
+    @Benchmark
+    public boolean save(EmployeeDataset dataset) {
+        return dataset.repository.save(EmployeeDataGenerator.employee(dataset.employeeId(sequence++)));
+    }
+
+    /**
+     * Saves {@value #SAVE_BATCH_SIZE} employees split evenly across the writer threads, reported per
+     * save. The writers lock different stripes but all swap the one version of the employees by ID,
+     * so on enough cores the time per save falls with the thread count until that swap contends.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SAVE_BATCH_SIZE)
+    public int saveConcurrently(EmployeeDataset dataset, Writers writers) throws Exception {
+        int first = writers.batch++ * SAVE_BATCH_SIZE;
+        int share = SAVE_BATCH_SIZE / writers.threads;
+        List<Future<Integer>> saved = new ArrayList<>(writers.threads);
+        for (int thread = 0; thread < writers.threads; thread++) {
+            int from = first + thread * share;
+            saved.add(writers.executor.submit(() -> {
+                int count = 0;
+                for (int i = from; i < from + share; i++) {
+                    if (dataset.repository.save(EmployeeDataGenerator.employee(dataset.employeeId(i)))) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+        int count = 0;
+        for (Future<Integer> future : saved) {
+            count += future.get();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Optional<Employee<Integer>> findById(EmployeeDataset dataset) {
+        return dataset.repository.findById(dataset.employeeId(sequence++));
+    }
+
+    @Benchmark
+    public EmployeePage<Integer> findPageById(EmployeeDataset dataset) {
+        return findPageAfterRandom(dataset, EmployeeCursor.Order.ID_ASCENDING);
+    }
+
+    @Benchmark
+    public EmployeePage<Integer> findPageBySalary(EmployeeDataset dataset) {
+        return findPageAfterRandom(dataset, EmployeeCursor.Order.SALARY_DESCENDING);
+    }
+
+    @Benchmark
+    public EmployeePage<Integer> findPageByExperience(EmployeeDataset dataset) {
+        return findPageAfterRandom(dataset, EmployeeCursor.Order.EXPERIENCE_DESCENDING);
+    }
+
+    private EmployeePage<Integer> findPageAfterRandom(EmployeeDataset dataset, EmployeeCursor.Order order) {
+        Employee<Integer> after = dataset.repository.findById(dataset.employeeId(sequence++)).orElseThrow();
+        return dataset.repository.findPage(order, EmployeeCursor.after(order, after), PAGE_SIZE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<Employee<Integer>> findAll(EmployeeDataset dataset) {
+        return dataset.repository.findAll();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.service.RaiseSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EmployeeSalaryService} reads and the bulk raise.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalaryServiceBenchmarks {
+
+    @Benchmark
+    public List<Employee<Integer>> getTopPaid(EmployeeDataset dataset) {
+        return dataset.salaryService.getTopPaid(10);
+    }
+
+    @Benchmark
+    public double getAverageSalary(EmployeeDataset dataset) {
+        return dataset.salaryService.getAverageSalary("Backend");
+    }
+
+    /**
+     * Raises the salary of every employee rated 9.0 or more, about one in eight, by zero percent:
+     * the full raise runs but the dataset stays the same between invocations.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public RaiseSummary applyRaise(EmployeeDataset dataset) {
+        return dataset.salaryService.applyRaise(0.0, 9.0);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.domain.comparators.EmployeeSalaryComparator;
+import com.example.employee_management_system.service.SortKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every full sort of {@code EmployeeSortService}. The sorts return lazily paged views, so each
+ * benchmark reads the rows a screen of the grid shows, and {@link #readAllBySalary} the whole order.
+ * The multi-key sorts compare the radix sort of {@code sortBy} with a comparator-based {@code sorted()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SortServiceBenchmarks {
+    private static final int SCREEN_ROWS = 50;
+    private static final SortKey[] DEPARTMENT_SALARY_ID = {
+            SortKey.ascending(SortKey.Field.DEPARTMENT),
+            SortKey.descending(SortKey.Field.SALARY),
+            SortKey.ascending(SortKey.Field.ID)
+    };
+    private static final Comparator<Employee<Integer>> DEPARTMENT_SALARY_ID_ORDER =
+            Comparator.comparing(Employee<Integer>::getDepartment, String.CASE_INSENSITIVE_ORDER)
+                    .thenComparing(new EmployeeSalaryComparator<>())
+                    .thenComparing(Employee::getEmployeeId);
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Employee<Integer>> sortByExperience(EmployeeDataset dataset) {
+        return List.copyOf(dataset.sortService.sortByExperience().subList(0, SCREEN_ROWS));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Employee<Integer>> sortBySalary(EmployeeDataset dataset) {
+        return List.copyOf(dataset.sortService.sortBySalary().subList(0, SCREEN_ROWS));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Employee<Integer>> sortByPerformance(EmployeeDataset dataset) {
+        return List.copyOf(dataset.sortService.sortByPerformance().subList(0, SCREEN_ROWS));
+    }
+
+    @Benchmark
+    public long readAllBySalary(EmployeeDataset dataset) {
+        long checksum = 0;
+        for (Employee<Integer> employee : dataset.sortService.sortBySalary()) {
+            checksum += employee.getEmployeeId();
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortByDepartmentSalaryId(EmployeeDataset dataset) {
+        return dataset.sortService.sortBy(DEPARTMENT_SALARY_ID);
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> streamSortByDepartmentSalaryId(EmployeeDataset dataset) {
+        return dataset.repository.stream().sorted(DEPARTMENT_SALARY_ID_ORDER).toList();
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> sortBySalaryKey(EmployeeDataset dataset) {
+        return dataset.sortService.sortBy(SortKey.descending(SortKey.Field.SALARY));
+    }
+
+    @Benchmark
+    public List<Employee<Integer>> streamSortBySalary(EmployeeDataset dataset) {
+        return dataset.repository.stream().sorted(new EmployeeSalaryComparator<>()).toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.employee_management_system.benchmark.jmh;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.domain.EmployeeValidator;
+import com.example.employee_management_system.domain.ValidationResult;
+import com.example.employee_management_system.exceptions.InvalidDepartmentException;
+import com.example.employee_management_system.exceptions.InvalidEmployeeArgumentException;
+import com.example.employee_management_system.exceptions.InvalidNameException;
+import com.example.employee_management_system.exceptions.InvalidSalaryException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EmployeeValidator} on single employees and on the whole dataset, on valid input and on
+ * input where every employee breaks one rule (name, salary or department in turn), against the
+ * throwing validator as it was before the non-throwing checks were added.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = EmployeeDataset.HEAP)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmarks {
+    private final EmployeeValidator<Integer> validator = new EmployeeValidator<>();
+    private final OriginalValidator original = new OriginalValidator();
+    private List<Employee<Integer>> employees;
+    private List<Employee<Integer>> invalidEmployees;
+    private int sequence;
+
+    @Setup
+    public void copyEmployees(EmployeeDataset dataset) {
+        employees = dataset.repository.findAll();
+        invalidEmployees = new ArrayList<>(employees.size());
+        for (Employee<Integer> employee : employees) {
+            Employee<Integer> broken = new Employee<>(employee);
+            switch (employee.getEmployeeId() % 3) {
+                case 0 -> broken.setName(employee.getName() + " #" + employee.getEmployeeId());
+                case 1 -> broken.setSalary(-employee.getSalary());
+                default -> broken.setDepartment("Marketing");
+            }
+            invalidEmployees.add(broken);
+        }
+    }
+
+    @Benchmark
+    public Employee<Integer> validate(EmployeeDataset dataset) {
+        Employee<Integer> employee = employees.get(dataset.employeeId(sequence++));
+        validator.validate(employee);
+        return employee;
+    }
+
+    @Benchmark
+    public ValidationResult check(EmployeeDataset dataset) {
+        return validator.check(employees.get(dataset.employeeId(sequence++)));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SortedMap<Integer, ValidationResult> checkAll() {
+        return validator.checkAll(employees);
+    }
+
+    @Benchmark
+    public Employee<Integer> originalValidate(EmployeeDataset dataset) {
+        Employee<Integer> employee = employees.get(dataset.employeeId(sequence++));
+        original.validate(employee);
+        return employee;
+    }
+
+    @Benchmark
+    public RuntimeException validateInvalid(EmployeeDataset dataset) {
+        try {
+            validator.validate(invalidEmployees.get(dataset.employeeId(sequence++)));
+            return null;
+        } catch (InvalidEmployeeArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult checkInvalid(EmployeeDataset dataset) {
+        return validator.check(invalidEmployees.get(dataset.employeeId(sequence++)));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public SortedMap<Integer, ValidationResult> checkAllInvalid() {
+        return validator.checkAll(invalidEmployees);
+    }
+
+    @Benchmark
+    public RuntimeException originalValidateInvalid(EmployeeDataset dataset) {
+        try {
+            original.validate(invalidEmployees.get(dataset.employeeId(sequence++)));
+            return null;
+        } catch (InvalidEmployeeArgumentException e) {
+            return e;
+        }
+    }
+
+    /**
+     * The validator as it was before the non-throwing checks were added: it compiled the name
+     * pattern on every call and searched a list of departments.
+     */
+    private static final class OriginalValidator {
+        private static final List<String> departments = List.of("Backend", "Frontend", "DevOps", "QA", "DataEng");
+
+        void validate(Employee<Integer> employee) {
+            String name = employee.getName();
+            if (name == null || name.trim().isEmpty()) {
+                throw new InvalidNameException("Employee name cannot be empty");
+            }
+            if (!name.matches("^[\\p{L} .'-]+$")) {
+                throw new InvalidNameException("Employee name contains invalid characters");
+            }
+            Double salary = employee.getSalary();
+            if (salary == null) {
+                throw new InvalidSalaryException("Salary cannot be empty");
+            }
+            if (salary < 0) {
+                throw new InvalidSalaryException("Salary cannot be negative");
+            }
+            String department = employee.getDepartment();
+            if (department == null || department.trim().isEmpty()) {
+                throw new InvalidDepartmentException("Department cannot be empty");
+            }
+            if (!departments.contains(department)) {
+                throw new InvalidDepartmentException(department + " is not a valid department");
+            }
+        }
+    }
+}
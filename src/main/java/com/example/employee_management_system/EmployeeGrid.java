@@ -0,0 +1,326 @@
+package com.example.employee_management_system;
+
+import com.example.employee_management_system.domain.Employee;
+import javafx.application.Platform;
+import javafx.collections.ObservableListBase;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionModel;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Virtualized table of employees: a fixed header row above a {@link ListView} that only creates
+ * row nodes for the visible rows and reuses them while scrolling.
+ * <p>
+ * {@link #setEmployees} wraps the given list without copying it or creating any nodes, so refresh
+ * time and scene-graph size do not grow with the number of employees. The selection lives in the
+ * list's selection model rather than in the row nodes, so it survives scrolling, and on refresh the
+ * selected employee stays selected if it is still shown. {@link #applyChanges} follows changes to the
+ * employees shown without replacing the rows a query chose, and without reading rows the list has not
+ * read yet, so a lazily paged list is never loaded in full.
+ *
+ * @param <T> the type of the employee ID
+ */
+public final class EmployeeGrid<T> extends VBox {
+    private static final String[] HEADERS = {"ID", "Name", "Department", "Salary", "Rating", "Exp", "Active"};
+    private static final double[] COLUMN_WIDTHS = {60.0, 150.0, 120.0, 120.0, 80.0, 60.0, 60.0};
+    private static final Pos[] COLUMN_ALIGNMENTS = {
+            Pos.CENTER_LEFT, Pos.CENTER_LEFT, Pos.CENTER_LEFT, Pos.CENTER, Pos.CENTER, Pos.CENTER, Pos.CENTER
+    };
+    private static final double ROW_HEIGHT = 34.0;
+
+    private final ListView<Employee<T>> rows = new ListView<>();
+    private Rows<T> items;
+
+    public EmployeeGrid() {
+        getStyleClass().add("employee-grid");
+
+        HBox headerRow = new HBox(10);
+        headerRow.setAlignment(Pos.CENTER_LEFT);
+        headerRow.setPadding(new Insets(10, 15, 10, 15));
+        headerRow.setStyle("-fx-background-color: #42a5f5; -fx-background-radius: 3;");
+        for (int i = 0; i < HEADERS.length; i++) {
+            Label header = new Label(HEADERS[i]);
+            header.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
+            header.setMinWidth(COLUMN_WIDTHS[i]);
+            header.setAlignment(COLUMN_ALIGNMENTS[i]);
+            headerRow.getChildren().add(header);
+        }
+
+        rows.setFixedCellSize(ROW_HEIGHT);
+        rows.setCellFactory(list -> new RowCell<>());
+        VBox.setVgrow(rows, Priority.ALWAYS);
+        getChildren().addAll(headerRow, rows);
+    }
+
+    /**
+     * Shows the given employees. The list is displayed as is, not copied, and must not be
+     * modified afterwards. If the selected employee is among them, it is selected again once its row
+     * is read, without searching the list for it.
+     *
+     * @param employees the employees to show, in display order
+     */
+    public void setEmployees(List<Employee<T>> employees) {
+        Employee<T> selected = getSelectedEmployee();
+        // A selection kept across the new items would be looked up in them by a scan
+        rows.getSelectionModel().clearSelection();
+        items = new Rows<>(employees);
+        rows.setItems(items);
+        if (selected != null) {
+            items.selectWhenRead(selected.getEmployeeId(), rows.getSelectionModel());
+        }
+    }
+
+    /**
+     * Updates the shown employees by ID, touching only the rows already read from the list: changed
+     * employees show their new version and deleted ones are removed, keeping the order of the rows and
+     * the selection. Rows not read yet show the latest version once they are read, and deleted ones
+     * are removed then. Inserted employees are appended if {@code addNew} is set, and otherwise left
+     * out, as they may not belong to the rows shown.
+     *
+     * @param changes the new version of each changed employee by ID, {@code null} for deleted ones
+     * @param inserted the IDs of the changed employees that were inserted rather than updated
+     * @param addNew whether to append inserted employees
+     */
+    public void applyChanges(Map<T, Employee<T>> changes, Set<T> inserted, boolean addNew) {
+        if (items != null) {
+            items.apply(changes, inserted, addNew);
+        }
+    }
+
+    /**
+     * @return the selected employee, or {@code null} if no row is selected
+     */
+    public Employee<T> getSelectedEmployee() {
+        return rows.getSelectionModel().getSelectedItem();
+    }
+
+    public void clearSelection() {
+        rows.getSelectionModel().clearSelection();
+    }
+
+    /**
+     * The rows shown: the given list, less the rows of deleted employees, followed by the employees
+     * inserted since. Remembers the position of every row read from the list, so a change to an
+     * employee is applied by ID to its row if it was read, and otherwise when it is read.
+     */
+    private static final class Rows<T> extends ObservableListBase<Employee<T>> {
+        private final List<Employee<T>> source;
+        // Positions in the source of the rows read so far, by employee ID
+        private final Map<T, Integer> read = new HashMap<>();
+        // Positions in the source of the rows removed, in ascending order
+        private final List<Integer> removed = new ArrayList<>();
+        private final List<Employee<T>> appended = new ArrayList<>();
+        // The latest version of every employee changed since the list was set, null if deleted
+        private final Map<T, Employee<T>> latest = new HashMap<>();
+        private T pendingSelection;
+        private SelectionModel<Employee<T>> selectionModel;
+
+        Rows(List<Employee<T>> source) {
+            this.source = source;
+        }
+
+        void selectWhenRead(T employeeId, SelectionModel<Employee<T>> selectionModel) {
+            this.pendingSelection = employeeId;
+            this.selectionModel = selectionModel;
+        }
+
+        @Override
+        public Employee<T> get(int index) {
+            int shown = source.size() - removed.size();
+            if (index >= shown) {
+                return appended.get(index - shown);
+            }
+            int row = toSource(index);
+            Employee<T> employee = source.get(row);
+            T employeeId = employee.getEmployeeId();
+            read.putIfAbsent(employeeId, row);
+            if (Objects.equals(employeeId, pendingSelection)) {
+                pendingSelection = null;
+                Platform.runLater(() -> select(employeeId));
+            }
+            if (!latest.containsKey(employeeId)) {
+                return employee;
+            }
+            Employee<T> after = latest.get(employeeId);
+            if (after == null || findAppended(employeeId) >= 0) {
+                // Deleted, or also appended as inserted: dropped once the read is over
+                Platform.runLater(() -> remove(employeeId, after != null));
+                return after == null ? employee : after;
+            }
+            return after;
+        }
+
+        @Override
+        public int size() {
+            return source.size() - removed.size() + appended.size();
+        }
+
+        void apply(Map<T, Employee<T>> changes, Set<T> inserted, boolean addNew) {
+            beginChange();
+            try {
+                changes.forEach((employeeId, after) -> {
+                    int index = rowOf(employeeId);
+                    Employee<T> before = index >= 0 ? shownAt(index) : null;
+                    latest.put(employeeId, after);
+                    if (index >= 0 && after == null) {
+                        removeAt(employeeId, index, before);
+                    } else if (index >= 0) {
+                        setAt(index, before, after);
+                    } else if (addNew && after != null && inserted.contains(employeeId)) {
+                        appended.add(after);
+                        nextAdd(size() - 1, size());
+                    }
+                });
+            } finally {
+                endChange();
+            }
+        }
+
+        private void select(T employeeId) {
+            int index = rowOf(employeeId);
+            if (index >= 0) {
+                selectionModel.select(index);
+            }
+        }
+
+        /**
+         * Removes the row of an employee, or only its appended row if {@code appendedOnly} is set.
+         */
+        private void remove(T employeeId, boolean appendedOnly) {
+            int index = appendedOnly ? appendedIndex(employeeId) : rowOf(employeeId);
+            if (index >= 0) {
+                beginChange();
+                try {
+                    removeAt(employeeId, index, shownAt(index));
+                } finally {
+                    endChange();
+                }
+            }
+        }
+
+        private void removeAt(T employeeId, int index, Employee<T> before) {
+            int shown = source.size() - removed.size();
+            if (index >= shown) {
+                appended.remove(index - shown);
+            } else {
+                int row = toSource(index);
+                removed.add(-Collections.binarySearch(removed, row) - 1, row);
+                read.remove(employeeId);
+            }
+            nextRemove(index, before);
+        }
+
+        private void setAt(int index, Employee<T> before, Employee<T> after) {
+            int shown = source.size() - removed.size();
+            if (index >= shown) {
+                appended.set(index - shown, after);
+            }
+            nextSet(index, before);
+        }
+
+        /**
+         * @return the employee shown at the index, without recording the row as read
+         */
+        private Employee<T> shownAt(int index) {
+            int shown = source.size() - removed.size();
+            if (index >= shown) {
+                return appended.get(index - shown);
+            }
+            Employee<T> employee = source.get(toSource(index));
+            Employee<T> after = latest.get(employee.getEmployeeId());
+            return after != null ? after : employee;
+        }
+
+        /**
+         * @return the index of the employee's row among the rows read or appended, or -1 if it has none
+         */
+        private int rowOf(T employeeId) {
+            Integer row = read.get(employeeId);
+            if (row != null) {
+                int before = Collections.binarySearch(removed, row);
+                return before >= 0 ? -1 : row + before + 1;
+            }
+            return appendedIndex(employeeId);
+        }
+
+        private int appendedIndex(T employeeId) {
+            int position = findAppended(employeeId);
+            return position < 0 ? -1 : source.size() - removed.size() + position;
+        }
+
+        private int findAppended(T employeeId) {
+            for (int i = 0; i < appended.size(); i++) {
+                if (Objects.equals(appended.get(i).getEmployeeId(), employeeId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return the position in the source of the row shown at the index, skipping removed rows
+         */
+        private int toSource(int index) {
+            int row = index;
+            for (int removedRow : removed) {
+                if (removedRow > row) {
+                    break;
+                }
+                row++;
+            }
+            return row;
+        }
+    }
+
+    /**
+     * A reusable row: its labels are created once and refilled for whichever employee
+     * the row currently shows.
+     */
+    private static final class RowCell<T> extends ListCell<Employee<T>> {
+        private final HBox row = new HBox(10);
+        private final Label[] cells = new Label[HEADERS.length];
+
+        RowCell() {
+            row.setAlignment(Pos.CENTER_LEFT);
+            row.setPadding(new Insets(0, 15, 0, 15));
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = new Label();
+                cells[i].setMinWidth(COLUMN_WIDTHS[i]);
+                cells[i].setAlignment(COLUMN_ALIGNMENTS[i]);
+                cells[i].setStyle("-fx-padding: 5 0;");
+                row.getChildren().add(cells[i]);
+            }
+        }
+
+        @Override
+        protected void updateItem(Employee<T> emp, boolean empty) {
+            super.updateItem(emp, empty);
+            if (empty || emp == null) {
+                setGraphic(null);
+                return;
+            }
+            cells[0].setText(String.valueOf(emp.getEmployeeId()));
+            cells[1].setText(emp.getName());
+            cells[2].setText(emp.getDepartment());
+            cells[3].setText(String.format("$%,.2f", emp.getSalary()));
+            cells[4].setText(String.format("%.1f", emp.getPerformanceRating()));
+            cells[5].setText(String.valueOf(emp.getYearsOfExperience()));
+            cells[6].setText(emp.isActive() ? "Yes" : "No");
+            setGraphic(row);
+        }
+    }
+}
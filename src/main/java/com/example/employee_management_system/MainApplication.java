@@ -71,7 +71,7 @@ public class MainApplication extends Application {
         crudService.addEmployee(new Employee<>(4, "Alice", "Backend", 75000.0, 4.0, 5, true));
 
         System.out.println("Employees before sorting:");
-        repository.findAll().forEach(System.out::println);
+        repository.forEach(System.out::println);
         System.out.println();
 
         System.out.println("Employees after sorting by performance:");
@@ -5,151 +5,266 @@ import com.example.employee_management_system.exceptions.InvalidDepartmentExcept
 import com.example.employee_management_system.exceptions.InvalidEmployeeArgumentException;
 import com.example.employee_management_system.exceptions.InvalidNameException;
 import com.example.employee_management_system.exceptions.InvalidSalaryException;
-import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.metrics.MetricsReporter;
+import com.example.employee_management_system.metrics.RepositoryMetrics;
+import com.example.employee_management_system.metrics.ServiceMetrics;
+import com.example.employee_management_system.persistence.FsyncPolicy;
+import com.example.employee_management_system.persistence.IdCodec;
+import com.example.employee_management_system.persistence.WriteAheadLog;
+import com.example.employee_management_system.repository.EmployeeChangeStream;
+import com.example.employee_management_system.repository.EmployeeIdSequence;
+import com.example.employee_management_system.repository.EmployeeQuery;
+import com.example.employee_management_system.repository.IntEmployeeRepository;
 import com.example.employee_management_system.service.*;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.geometry.*;
-import javafx.scene.Node;
 import javafx.scene.control.*;
-import javafx.scene.layout.*;
-
+import javafx.scene.layout.GridPane;
+import javafx.stage.FileChooser;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
 
 public class MainController {
+    private static final int NAME_SUGGESTIONS = 8;
+
     // Services initialization
-    private final EmployeeRepository<Integer> repository = new EmployeeRepository<>();
+    private final IntEmployeeRepository repository = new IntEmployeeRepository();
     private final EmployeeCRUDService<Integer> crudService = new EmployeeCRUDService<>(repository);
     private final EmployeeQueryService<Integer> queryService = new EmployeeQueryService<>(repository);
     private final EmployeeSortService<Integer> sortService = new EmployeeSortService<>(repository);
     private final EmployeeSalaryService<Integer> salaryService = new EmployeeSalaryService<>(repository);
 
-    @FXML private GridPane gridTable;
+    @FXML private EmployeeGrid<Integer> employeeGrid;
     @FXML private TextField nameField;
     @FXML private TextField deptField;
     @FXML private TextField salaryField;
-
-    private HBox headerRow;
-    private Employee<Integer> selectedEmployee;
+    @FXML private ProgressIndicator progressIndicator;
+    @FXML private Label statusLabel;
+    @FXML private Button cancelButton;
+
+    private final ServiceCallExecutor executor = new ServiceCallExecutor();
+    private WriteAheadLog<Integer> writeAheadLog;
+    private EmployeeIdSequence idSequence;
+    private EmployeeChangeStream<Integer> changeStream;
+    // Whether the grid shows every employee rather than the result of a filter or sort
+    private boolean showingAll;
+    // Changes not yet applied to the grid, by employee ID; only used by the grid's subscription
+    private Map<Integer, Employee<Integer>> gridChanges = new LinkedHashMap<>();
+    private Set<Integer> gridInserts = new HashSet<>();
+    private MetricsReporter metricsReporter;
 
     @FXML
     public void initialize() {
+        progressIndicator.visibleProperty().bind(executor.runningProperty());
+        statusLabel.textProperty().bind(executor.messageProperty());
+        cancelButton.disableProperty().bind(executor.queryRunningProperty().not());
+        openWriteAheadLog();
+        openIdSequence();
+        registerMetrics();
+        followChanges();
         refreshGridTable();
     }
 
-    private void refreshGridTable(List<Employee<Integer>> employees) {
-        gridTable.getChildren().clear();
-        clearRowHighlights();
-        selectedEmployee = null;
-
-        Object[][] columns = {
-                {60.0, Pos.CENTER_LEFT},    // [width, alignment]
-                {150.0, Pos.CENTER_LEFT},
-                {120.0, Pos.CENTER_LEFT},
-                {120.0, Pos.CENTER},
-                {80.0, Pos.CENTER},
-                {60.0, Pos.CENTER},
-                {60.0, Pos.CENTER}
-        };
-
-        // Adds header row
-        headerRow = new HBox(10);
-        headerRow.setAlignment(Pos.CENTER_LEFT);
-        headerRow.setPadding(new Insets(10, 15, 10, 15));
-        headerRow.setStyle("-fx-background-color: #42a5f5; -fx-background-radius: 3;");
-
-        String[] headers = {"ID", "Name", "Department", "Salary", "Rating", "Exp", "Active"};
-        for (int i = 0; i < headers.length; i++) {
-            Label header = new Label(headers[i]);
-            header.setStyle("-fx-text-fill: white; -fx-font-weight: bold;");
-            header.setMinWidth((double)columns[i][0]);
-            header.setAlignment((Pos)columns[i][1]);
-            headerRow.getChildren().add(header);
+    /**
+     * Applies every change to the repository, whoever made it, to the rows the grid shows, without
+     * re-reading the repository or replacing the result of the user's query. The changes of a burst
+     * arrive as one batch and are applied in one pass; new employees only appear while the grid
+     * shows every employee.
+     */
+    private void followChanges() {
+        changeStream = EmployeeChangeStream.attach(repository);
+        changeStream.subscribe("grid", (event, endOfBatch) -> {
+            switch (event.getType()) {
+                case INSERT -> {
+                    gridChanges.put(event.getAfter().getEmployeeId(), event.getAfter());
+                    gridInserts.add(event.getAfter().getEmployeeId());
+                }
+                case UPDATE -> gridChanges.put(event.getAfter().getEmployeeId(), event.getAfter());
+                case DELETE -> gridChanges.put(event.getBefore().getEmployeeId(), null);
+                case BULK_UPDATE -> {
+                    List<Employee<Integer>> before = event.getBulkBefore();
+                    List<Employee<Integer>> after = event.getBulkAfter();
+                    for (int i = 0; i < after.size(); i++) {
+                        gridChanges.put(after.get(i).getEmployeeId(), after.get(i));
+                        if (before.get(i) == null) {
+                            gridInserts.add(after.get(i).getEmployeeId());
+                        }
+                    }
+                }
+            }
+            if (endOfBatch) {
+                Map<Integer, Employee<Integer>> changes = gridChanges;
+                Set<Integer> inserted = gridInserts;
+                gridChanges = new LinkedHashMap<>();
+                gridInserts = new HashSet<>();
+                Platform.runLater(() -> employeeGrid.applyChanges(changes, inserted, showingAll));
+            }
+        });
+    }
+
+    /**
+     * Publishes the service and repository metrics over JMX. When the {@code ems.metrics.interval}
+     * system property is set, also prints them to the console every that many seconds.
+     */
+    private void registerMetrics() {
+        RepositoryMetrics<Integer> repositoryMetrics = RepositoryMetrics.attach(repository);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ServiceMetrics.registerMBeans(server);
+            repositoryMetrics.registerMBean(server);
+        } catch (JMException e) {
+            System.err.println("Failed to register metrics MBeans: " + e.getMessage());
         }
+        String interval = System.getProperty("ems.metrics.interval");
+        if (interval != null) {
+            try {
+                metricsReporter = new MetricsReporter(repositoryMetrics, System.out, Duration.ofSeconds(Long.parseLong(interval)));
+            } catch (IllegalArgumentException e) {
+                showAlert("Metrics Error", "Invalid metrics interval: " + interval);
+            }
+        }
+    }
 
-        gridTable.add(headerRow, 0, 0);
-        GridPane.setColumnSpan(headerRow, headers.length);
-
-        // Adds employee data rows
-        for (int row = 0; row < employees.size(); row++) {
-            Employee<Integer> emp = employees.get(row);
-
-            HBox dataRow = new HBox(10);
-            dataRow.setAlignment(Pos.CENTER_LEFT);
-            dataRow.setPadding(new Insets(5, 15, 5, 15));
-
-            dataRow.getChildren().addAll(
-                    createCell(emp.getEmployeeId().toString(), columns[0]),
-                    createCell(emp.getName(), columns[1]),
-                    createCell(emp.getDepartment(), columns[2]),
-                    createCell(String.format("$%,.2f", emp.getSalary()), columns[3]),
-                    createCell(String.format("%.1f", emp.getPerformanceRating()), columns[4]),
-                    createCell(String.valueOf(emp.getYearsOfExperience()), columns[5]),
-                    createCell(emp.isActive() ? "Yes" : "No", columns[6])
-            );
-
-            // Row selection
-            dataRow.setOnMouseClicked(event -> {
-                clearRowHighlights();
-                selectedEmployee = emp;
-                dataRow.setStyle("-fx-background-color: #e3f2fd; -fx-background-radius: 3;");
-            });
+    /**
+     * Enables the persistence mode when the {@code ems.wal} system property names a log file.
+     * The fsync policy is read from {@code ems.wal.fsync} and defaults to {@link FsyncPolicy#ALWAYS}.
+     * Startup loads the snapshot of the last checkpoint in one pass and replays only the log written
+     * since; a checkpoint then folds the replayed changes into the snapshot, as does exiting.
+     */
+    private void openWriteAheadLog() {
+        String walPath = System.getProperty("ems.wal");
+        if (walPath == null) {
+            return;
+        }
+        try {
+            FsyncPolicy policy = FsyncPolicy.valueOf(System.getProperty("ems.wal.fsync", FsyncPolicy.ALWAYS.name()));
+            writeAheadLog = WriteAheadLog.attach(repository, Path.of(walPath), IdCodec.integers(), policy);
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            showAlert("Persistence Error", "Failed to open write-ahead log: " + e.getMessage());
+            return;
+        }
+        checkpoint();
+    }
 
-            gridTable.add(dataRow, 0, row + 1);
-            GridPane.setColumnSpan(dataRow, headers.length);
+    /**
+     * Writes a snapshot and truncates the write-ahead log, unless nothing was logged since the last one.
+     */
+    private void checkpoint() {
+        try {
+            if (Files.size(writeAheadLog.getPath()) > 0 || Files.notExists(writeAheadLog.getSnapshotPath())) {
+                writeAheadLog.checkpoint();
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to checkpoint write-ahead log: " + e.getMessage());
         }
     }
 
+    /**
+     * Starts allocating employee IDs above those restored from the log. When the {@code ems.ids}
+     * system property names a file, the sequence's high-water mark is persisted there so IDs are
+     * not reused across restarts.
+     */
+    private void openIdSequence() {
+        String idsPath = System.getProperty("ems.ids");
+        if (idsPath != null) {
+            try {
+                idSequence = EmployeeIdSequence.attach(repository, Path.of(idsPath));
+                return;
+            } catch (IOException e) {
+                showAlert("Persistence Error", "Failed to open ID sequence: " + e.getMessage());
+            }
+        }
+        idSequence = EmployeeIdSequence.attach(repository);
+    }
+
+    /**
+     * Runs a query off the application thread and shows its result in the grid,
+     * replacing any query still running.
+     */
+    private void showQuery(String description, Callable<List<Employee<Integer>>> query) {
+        showQuery(description, query, false);
+    }
+
+    /**
+     * @param all whether the query returns every employee, so new employees are added to its result
+     */
+    private void showQuery(String description, Callable<List<Employee<Integer>>> query, boolean all) {
+        executor.query(description, query, employees -> {
+            showingAll = all;
+            employeeGrid.setEmployees(employees);
+        }, this::showFailure);
+    }
+
     // CRUD Operations
     @FXML
     private void handleAddEmployee() {
         try {
-            int newId = crudService.getAllEmployees().stream()
-                    .mapToInt(Employee::getEmployeeId)
-                    .max().orElse(0) + 1;
+            String name = nameField.getText();
+            String department = deptField.getText();
+            double salary = Double.parseDouble(salaryField.getText());
 
             Random rand = new Random();
             double randomRating = 2.0 + (10.0 - 2.0) * rand.nextDouble(); // 2.0 - 10.0
-            randomRating = Math.round(randomRating * 10) / 10.0;
+            double rating = Math.round(randomRating * 10) / 10.0;
 
             int randomExperience = 1 + rand.nextInt(7); // 1 - 7
 
-            Employee<Integer> newEmployee = new Employee<>(
-                    newId,
-                    nameField.getText(),
-                    deptField.getText(),
-                    Double.parseDouble(salaryField.getText()),
-                    randomRating,
-                    randomExperience,
-                    true
-            );
-
-            if (crudService.addEmployee(newEmployee)) {
-                refreshGridTable();
-                clearFormFields();
-            } else {
-                showAlert("Error", "Employee cannot be null");
-            }
+            executor.run("Adding employee...", () -> {
+                Employee<Integer> newEmployee = new Employee<>(
+                        idSequence.next(),
+                        name,
+                        department,
+                        salary,
+                        rating,
+                        randomExperience,
+                        true
+                );
+                return crudService.addEmployee(newEmployee);
+            }, added -> {
+                if (added) {
+                    clearFormFields();
+                } else {
+                    showAlert("Error", "Employee cannot be null");
+                }
+            }, e -> {
+                if (e instanceof InvalidEmployeeArgumentException) {
+                    showAlert("Input Error", e.getMessage());
+                } else {
+                    showAlert("Error", "Failed to add employee");
+                }
+            });
         } catch (NumberFormatException e) {
             showAlert("Input Error", "Please enter valid salary");
-        } catch (InvalidEmployeeArgumentException e) {
-            showAlert("Input Error", e.getMessage());
-        } catch (Exception e) {
-            showAlert("Error", "Failed to add employee");
         }
     }
 
     @FXML
     private void handleDeleteEmployee() {
+        Employee<Integer> selectedEmployee = employeeGrid.getSelectedEmployee();
         if (selectedEmployee != null) {
             Optional<ButtonType> result = showAlert("Confirm Deletion", "Are you sure you want to delete " + selectedEmployee.getName() + "?");
 
             if (result.isPresent() && result.get() == ButtonType.OK) {
-                if (crudService.removeEmployee(selectedEmployee.getEmployeeId())) {
-                    refreshGridTable();
-                    selectedEmployee = null;
-                } else {
-                    showAlert("Error", "Failed to delete employee");
-                }
+                executor.run("Deleting employee...", () -> crudService.removeEmployee(selectedEmployee.getEmployeeId()),
+                        removed -> {
+                            if (removed) {
+                                employeeGrid.clearSelection();
+                            } else {
+                                showAlert("Error", "Failed to delete employee");
+                            }
+                        }, e -> showAlert("Error", "Failed to delete employee"));
             }
         } else {
             showAlert("No Selection", "Please select an employee to delete");
@@ -159,10 +274,13 @@ public class MainController {
     // Filtering Operations
     @FXML
     private void handleFilterByName() {
-        Optional<String> result = showStringInputDialog("Enter employee name: ");
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setHeaderText("Enter employee name: ");
+        attachNameSuggestions(dialog.getEditor());
+        Optional<String> result = dialog.showAndWait();
         result.ifPresent(name -> {
             if (!name.trim().isEmpty()) {
-                refreshGridTable(queryService.filterByName(name));
+                showQuery("Filtering by name...", () -> queryService.filterByName(name));
             } else {
                 showAlert("Input Error", "Please provide employee name to search");
             }
@@ -174,7 +292,7 @@ public class MainController {
         Optional<String> result = showStringInputDialog("Enter department name: ");
         result.ifPresent(dept -> {
             if (!dept.trim().isEmpty()) {
-                refreshGridTable(queryService.filterByDepartment(dept));
+                showQuery("Filtering by department...", () -> queryService.filterByDepartment(dept));
             } else {
                 showAlert("Input Error", "Please provide department");
             }
@@ -190,7 +308,7 @@ public class MainController {
                 showAlert("Input Error", "Minimum salary cannot be greater than maximum salary");
                 return;
             }
-            refreshGridTable(queryService.filterBySalaryRange(min, max));
+            showQuery("Filtering by salary...", () -> queryService.filterBySalaryRange(min, max));
         } catch (NumberFormatException e) {
             showAlert("Input Error", "Please enter valid salary range");
         }
@@ -200,26 +318,92 @@ public class MainController {
     private void handleFilterByHighPerformers() {
         try {
             double minRating = showDoubleInputDialog("Enter minimum rating to get top performers", "5.0");
-            refreshGridTable(queryService.filterByRating(minRating));
+            showQuery("Filtering by rating...", () -> queryService.filterByRating(minRating));
         } catch (NumberFormatException e) {
             showAlert("Input Error", "Please enter valid rating");
         }
     }
 
+    @FXML
+    private void handleCombinedFilter() {
+        TextField name = new TextField();
+        TextField dept = new TextField();
+        TextField minSalary = new TextField();
+        TextField maxSalary = new TextField();
+        TextField minRating = new TextField();
+        TextField minExperience = new TextField();
+        TextField maxExperience = new TextField();
+        ChoiceBox<String> active = new ChoiceBox<>(FXCollections.observableArrayList("Any", "Yes", "No"));
+        active.setValue("Any");
+        ComboBox<EmployeeQuery.Order> order = new ComboBox<>(
+                FXCollections.observableArrayList(EmployeeQuery.Order.values()));
+        TextField limit = new TextField();
+        attachNameSuggestions(name);
+
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(8);
+        grid.addRow(0, new Label("Name contains:"), name);
+        grid.addRow(1, new Label("Department:"), dept);
+        grid.addRow(2, new Label("Salary from / to:"), minSalary, maxSalary);
+        grid.addRow(3, new Label("Minimum rating:"), minRating);
+        grid.addRow(4, new Label("Experience from / to:"), minExperience, maxExperience);
+        grid.addRow(5, new Label("Active:"), active);
+        grid.addRow(6, new Label("Order by:"), order);
+        grid.addRow(7, new Label("Limit:"), limit);
+
+        Dialog<ButtonType> dialog = new Dialog<>();
+        dialog.setTitle("Combined Filter");
+        dialog.setHeaderText("Leave a field empty to ignore it");
+        dialog.getDialogPane().setContent(grid);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+        if (dialog.showAndWait().filter(ButtonType.OK::equals).isEmpty()) {
+            return;
+        }
+
+        try {
+            EmployeeQuery.Builder query = EmployeeQuery.builder()
+                    .salaryBetween(parseOptional(minSalary, Double::valueOf), parseOptional(maxSalary, Double::valueOf))
+                    .ratingBetween(parseOptional(minRating, Double::valueOf), null)
+                    .experienceBetween(parseOptional(minExperience, Integer::valueOf), parseOptional(maxExperience, Integer::valueOf))
+                    .active(active.getValue().equals("Any") ? null : active.getValue().equals("Yes"))
+                    .orderBy(order.getValue());
+            if (!name.getText().isBlank()) {
+                query.nameContains(name.getText().trim());
+            }
+            if (!dept.getText().isBlank()) {
+                query.department(dept.getText().trim());
+            }
+            Integer maxRows = parseOptional(limit, Integer::valueOf);
+            if (maxRows != null) {
+                query.limit(maxRows);
+            }
+            EmployeeQuery built = query.build();
+            showQuery("Filtering...", () -> queryService.query(built));
+        } catch (IllegalArgumentException e) {
+            showAlert("Input Error", e instanceof NumberFormatException ? "Please enter valid numbers" : e.getMessage());
+        }
+    }
+
+    private static <N> N parseOptional(TextField field, Function<String, N> parser) {
+        String text = field.getText().trim();
+        return text.isEmpty() ? null : parser.apply(text);
+    }
+
     // Sorting Operations
     @FXML
     private void handleSortByExperience() {
-        refreshGridTable(sortService.sortByExperience());
+        showQuery("Sorting by experience...", sortService::sortByExperience);
     }
 
     @FXML
     private void handleSortBySalary() {
-        refreshGridTable(sortService.sortBySalary());
+        showQuery("Sorting by salary...", sortService::sortBySalary);
     }
 
     @FXML
     private void handleSortByPerformance() {
-        refreshGridTable(sortService.sortByPerformance());
+        showQuery("Sorting by rating...", sortService::sortByPerformance);
     }
 
     // Salary Operations
@@ -229,9 +413,10 @@ public class MainController {
             double percentage = showDoubleInputDialog("Enter raise percentage:", "10.0");
             double minRating = showDoubleInputDialog("Minimum rating for raise:", "4.5");
 
-            salaryService.applyRaise(percentage, minRating);
-            refreshGridTable();
-            showAlert("Success", String.format("Applied %.1f%% raise to employees with rating >= %.1f", percentage, minRating));
+            executor.run("Applying raises...", () -> salaryService.applyRaise(percentage, minRating), summary -> {
+                showAlert("Success", String.format("Applied %.1f%% raise to %d employees with rating >= %.1f (+$%,.2f)",
+                        percentage, summary.getAffectedCount(), minRating, summary.getTotalCostDelta()));
+            }, this::showFailure);
         } catch (NumberFormatException e) {
             showAlert("Input Error", "Please enter valid numbers");
         }
@@ -241,7 +426,7 @@ public class MainController {
     private void handleShowTopPaid() {
         try {
             int count = showIntegerInputDialog("Number of top paid employees to show:", "5");
-            refreshGridTable(salaryService.getTopPaid(count));
+            showQuery("Finding top paid employees...", () -> salaryService.getTopPaid(count));
         } catch (NumberFormatException e) {
             showAlert("Input Error", "Please enter a valid number");
         }
@@ -252,8 +437,9 @@ public class MainController {
         Optional<String> result = showStringInputDialog("Enter department to get average salary: ");
         result.ifPresent(dept -> {
             if (!dept.trim().isEmpty()) {
-                double avgSalary = salaryService.getAverageSalary(dept);
-                showAlert("Average Salary", String.format("Average salary in %s Department: $%,.2f", dept, avgSalary));
+                executor.run("Averaging salaries...", () -> salaryService.getAverageSalary(dept), avgSalary ->
+                        showAlert("Average Salary", String.format("Average salary in %s Department: $%,.2f", dept, avgSalary)),
+                        this::showFailure);
             } else {
                 showAlert("Input Error", "Please enter a department");
             }
@@ -263,23 +449,62 @@ public class MainController {
     // Report Operations
     @FXML
     private void handleShowAllViaIterator() {
-        List<Employee<Integer>> allEmployees = new ArrayList<>();
+        showQuery("Loading employees...", () -> {
+            List<Employee<Integer>> allEmployees = new ArrayList<>();
 
-        Iterator<Employee<Integer>> iterator = queryService.getEmployeeIterator();
-        while (iterator.hasNext()) {
-            allEmployees.add(iterator.next());
-        }
-        refreshGridTable(allEmployees);
+            Iterator<Employee<Integer>> iterator = queryService.getEmployeeIterator();
+            while (iterator.hasNext()) {
+                allEmployees.add(iterator.next());
+            }
+            return allEmployees;
+        }, true);
     }
 
     @FXML
     private void handleGenerateConsoleReport() {
-        new EmployeeReportService<Integer>(repository).generateFullReport();
+        executor.run("Generating report...", () -> {
+            new EmployeeReportService<Integer>(repository).generateFullReport();
+            return null;
+        }, report -> {
+        }, this::showFailure);
+    }
+
+    @FXML
+    private void handleExportReport() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Export Report");
+        for (ReportFormat format : ReportFormat.values()) {
+            chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(
+                    format.name(), "*." + format.getExtension()));
+        }
+        File file = chooser.showSaveDialog(employeeGrid.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        int selected = chooser.getExtensionFilters().indexOf(chooser.getSelectedExtensionFilter());
+        ReportFormat format = ReportFormat.values()[Math.max(selected, 0)];
+        executor.run("Exporting report...",
+                () -> new EmployeeReportService<Integer>(repository).writeReport(file.toPath(), format),
+                summary -> showAlert("Report Exported", "Wrote " + summary + " to " + file),
+                e -> showAlert("Error", "Failed to export report: " + e.getMessage()));
+    }
+
+    @FXML
+    private void handleCancel() {
+        executor.cancelQuery();
     }
 
     // Utility Methods
     private void refreshGridTable() {
-        refreshGridTable(crudService.getAllEmployees());
+        showQuery("Loading employees...", crudService::getAllEmployees, true);
+    }
+
+    private void showFailure(Throwable e) {
+        if (e instanceof InvalidEmployeeArgumentException) {
+            showAlert("Input Error", e.getMessage());
+        } else {
+            showAlert("Error", e.getMessage());
+        }
     }
 
     private Optional<ButtonType> showAlert(String title, String message) {
@@ -310,30 +535,58 @@ public class MainController {
         return dialog.showAndWait();
     }
 
+    /**
+     * Shows names from the repository's name index below the field while the user types.
+     */
+    private void attachNameSuggestions(TextField field) {
+        ContextMenu suggestions = new ContextMenu();
+        field.textProperty().addListener((observable, oldText, newText) -> {
+            suggestions.getItems().clear();
+            if (newText != null && !newText.isBlank()) {
+                for (String name : queryService.suggestNames(newText.trim(), NAME_SUGGESTIONS)) {
+                    MenuItem item = new MenuItem(name);
+                    item.setOnAction(e -> {
+                        field.setText(name);
+                        field.positionCaret(name.length());
+                        suggestions.hide();
+                    });
+                    suggestions.getItems().add(item);
+                }
+            }
+            if (suggestions.getItems().isEmpty()) {
+                suggestions.hide();
+            } else if (!suggestions.isShowing()) {
+                suggestions.show(field, Side.BOTTOM, 0, 0);
+            }
+        });
+    }
+
     private void clearFormFields() {
         nameField.clear();
         deptField.clear();
         salaryField.clear();
     }
 
-    private void clearRowHighlights() {
-        for (Node node : gridTable.getChildren()) {
-            if (node instanceof HBox && node != headerRow) {
-                node.setStyle("");
-            }
-        }
-    }
-
-    private Node createCell(String text, Object[] columnSpec) {
-        Label label = new Label(text);
-        label.setMinWidth((double)columnSpec[0]);
-        label.setAlignment((Pos)columnSpec[1]);
-        label.setStyle("-fx-padding: 5 0;");
-        return label;
-    }
-
     @FXML
     private void handleExit() {
+        executor.close();
+        changeStream.close();
+        if (metricsReporter != null) {
+            metricsReporter.close();
+        }
+        if (writeAheadLog != null) {
+            checkpoint();
+            try {
+                writeAheadLog.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close write-ahead log: " + e.getMessage());
+            }
+        }
+        try {
+            idSequence.close();
+        } catch (IOException e) {
+            System.err.println("Failed to close ID sequence: " + e.getMessage());
+        }
         System.exit(0);
     }
 }
\ No newline at end of file
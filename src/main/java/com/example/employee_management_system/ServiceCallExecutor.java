@@ -0,0 +1,144 @@
+package com.example.employee_management_system;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.concurrent.Task;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs service calls off the JavaFX application thread and hands their results back to it.
+ * <p>
+ * Every call runs on its own virtual thread. A query is a call whose result only matters until a
+ * newer query is started: {@link #query} cancels the running query, and a cancelled call never
+ * delivers its result. Other calls, such as updates, started with {@link #run} are never cancelled
+ * by newer calls. Results and failures are delivered on the application thread, in the callbacks
+ * given when the call was started.
+ * <p>
+ * {@link #runningProperty()} and {@link #messageProperty()} describe the running calls for a
+ * progress indicator. All methods must be called on the application thread.
+ */
+public final class ServiceCallExecutor implements AutoCloseable {
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Task<?>, String> running = new LinkedHashMap<>();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(this, "running");
+    private final ReadOnlyBooleanWrapper queryRunning = new ReadOnlyBooleanWrapper(this, "queryRunning");
+    private final ReadOnlyStringWrapper message = new ReadOnlyStringWrapper(this, "message", "");
+    private Task<?> currentQuery;
+
+    /**
+     * Starts a query, cancelling the running query if there is one.
+     *
+     * @param description what the query does, shown while it runs
+     * @param call the service call
+     * @param onSuccess receives the result, unless a newer query was started or the query was cancelled
+     * @param onFailure receives the exception thrown by the call
+     */
+    public <R> void query(String description, Callable<R> call, Consumer<? super R> onSuccess,
+                          Consumer<? super Throwable> onFailure) {
+        cancelQuery();
+        currentQuery = start(description, call, onSuccess, onFailure);
+        queryRunning.set(true);
+    }
+
+    /**
+     * Starts a call that newer calls do not cancel.
+     *
+     * @param description what the call does, shown while it runs
+     * @param call the service call
+     * @param onSuccess receives the result
+     * @param onFailure receives the exception thrown by the call
+     */
+    public <R> void run(String description, Callable<R> call, Consumer<? super R> onSuccess,
+                        Consumer<? super Throwable> onFailure) {
+        start(description, call, onSuccess, onFailure);
+    }
+
+    /**
+     * Cancels the running query, if any. Its thread is interrupted and its result discarded.
+     */
+    public void cancelQuery() {
+        if (currentQuery != null) {
+            currentQuery.cancel(true);
+        }
+    }
+
+    /**
+     * @return whether any call is running
+     */
+    public ReadOnlyBooleanProperty runningProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    /**
+     * @return whether a query is running and can be cancelled
+     */
+    public ReadOnlyBooleanProperty queryRunningProperty() {
+        return queryRunning.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the description of the most recently started call still running, or an empty string
+     */
+    public ReadOnlyStringProperty messageProperty() {
+        return message.getReadOnlyProperty();
+    }
+
+    /**
+     * Cancels every running call and stops accepting new ones.
+     */
+    @Override
+    public void close() {
+        for (Task<?> task : List.copyOf(running.keySet())) {
+            task.cancel(true);
+        }
+        executor.shutdownNow();
+    }
+
+    private <R> Task<R> start(String description, Callable<R> call, Consumer<? super R> onSuccess,
+                              Consumer<? super Throwable> onFailure) {
+        Task<R> task = new Task<>() {
+            @Override
+            protected R call() throws Exception {
+                return call.call();
+            }
+        };
+        task.setOnSucceeded(e -> {
+            finished(task);
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            finished(task);
+            onFailure.accept(task.getException());
+        });
+        task.setOnCancelled(e -> finished(task));
+
+        running.put(task, description);
+        busy.set(true);
+        message.set(description);
+        executor.execute(task);
+        return task;
+    }
+
+    private void finished(Task<?> task) {
+        running.remove(task);
+        if (task == currentQuery) {
+            currentQuery = null;
+            queryRunning.set(false);
+        }
+        busy.set(!running.isEmpty());
+        String latest = "";
+        for (String description : running.values()) {
+            latest = description;
+        }
+        message.set(latest);
+    }
+}
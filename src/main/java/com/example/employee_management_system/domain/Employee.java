@@ -6,7 +6,8 @@ import java.util.Objects;
 /**
  * Represents an employee with generic ID support.
  * Implements Comparable to enable sorting based on years of experience.
- * Provides methods to access and modify employee attributes.
+ * Provides methods to access and modify employee attributes, until the employee is
+ * {@link #freeze() frozen}.
  *
  * @param <T> the type of the employee ID (e.g., Integer, String)
  */
@@ -18,6 +19,7 @@ public class Employee<T> implements Comparable<Employee<T>> {
     private Double performanceRating;
     private Integer yearsOfExperience;
     private boolean isActive;
+    private boolean frozen;
 
     public Employee(T employeeId, String name, String department, Double salary,
                     Double performanceRating, Integer yearsOfExperience, boolean isActive) {
@@ -30,6 +32,16 @@ public class Employee<T> implements Comparable<Employee<T>> {
         this.isActive = isActive;
     }
 
+    /**
+     * Creates a copy of another employee.
+     *
+     * @param other the employee to copy
+     */
+    public Employee(Employee<T> other) {
+        this(other.employeeId, other.name, other.department, other.salary,
+                other.performanceRating, other.yearsOfExperience, other.isActive);
+    }
+
     // Getters and Setters
     public T getEmployeeId() { return employeeId; }
     public String getName() { return name; }
@@ -39,13 +51,33 @@ public class Employee<T> implements Comparable<Employee<T>> {
     public Integer getYearsOfExperience() { return yearsOfExperience; }
     public boolean isActive() { return isActive; }
 
-    public void setEmployeeId(T employeeId) { this.employeeId = employeeId; }
-    public void setName(String name) { this.name = name; }
-    public void setDepartment(String department) { this.department = department; }
-    public void setSalary(Double salary) { this.salary = salary; }
-    public void setPerformanceRating(Double performanceRating) {this.performanceRating = performanceRating;}
-    public void setYearsOfExperience(Integer yearsOfExperience) {this.yearsOfExperience = yearsOfExperience;}
-    public void setActive(boolean isActive) { this.isActive = isActive; }
+    public void setEmployeeId(T employeeId) { checkNotFrozen(); this.employeeId = employeeId; }
+    public void setName(String name) { checkNotFrozen(); this.name = name; }
+    public void setDepartment(String department) { checkNotFrozen(); this.department = department; }
+    public void setSalary(Double salary) { checkNotFrozen(); this.salary = salary; }
+    public void setPerformanceRating(Double performanceRating) { checkNotFrozen(); this.performanceRating = performanceRating; }
+    public void setYearsOfExperience(Integer yearsOfExperience) { checkNotFrozen(); this.yearsOfExperience = yearsOfExperience; }
+    public void setActive(boolean isActive) { checkNotFrozen(); this.isActive = isActive; }
+
+    /**
+     * Makes this employee read-only: from now on every setter throws {@link UnsupportedOperationException}.
+     * Repositories freeze the employees they store, as those are shared by every reader and snapshot;
+     * to change one, modify a copy made with {@link #Employee(Employee)}, which is not frozen, and save it.
+     *
+     * @return this employee
+     */
+    public Employee<T> freeze() {
+        frozen = true;
+        return this;
+    }
+
+    public boolean isFrozen() { return frozen; }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Employee " + employeeId + " is read-only; modify a copy instead");
+        }
+    }
 
     /**
      * Compares employees by years of experience (descending order).
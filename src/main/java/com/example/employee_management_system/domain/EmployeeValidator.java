@@ -1,72 +1,124 @@
 package com.example.employee_management_system.domain;
 
+import com.example.employee_management_system.domain.ValidationResult.Field;
 import com.example.employee_management_system.exceptions.*;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Validates employee data before creating or updating an employee.
+ * <p>
+ * {@link #validate} throws on the first invalid field. {@link #check} and {@link #checkAll} report
+ * every violation as a {@link ValidationResult} instead, without throwing, and are meant for bulk
+ * loads where invalid rows are expected. The validator is stateless and safe to share between threads.
  */
 public class EmployeeValidator<T> {
-    private static final List<String> departments = List.of(
+    private static final Set<String> departments = Set.of(
             "Backend", "Frontend", "DevOps", "QA", "DataEng"
     );
+    private static final Pattern NAME_PATTERN = Pattern.compile("^[\\p{L} .'-]+$");
 
+    /**
+     * Validates an employee.
+     *
+     * @param employee the employee to validate
+     * @throws IllegalArgumentException if the employee is {@code null}
+     * @throws InvalidEmployeeArgumentException if the name, salary or department is invalid
+     */
     public void validate(Employee<T> employee) {
+        check(employee).throwIfInvalid();
+    }
+
+    /**
+     * Checks an employee without throwing.
+     *
+     * @param employee the employee to check
+     * @return {@link ValidationResult#VALID}, or the violations of the name, salary and department
+     */
+    public ValidationResult check(Employee<T> employee) {
         if (employee == null) {
-            throw new IllegalArgumentException("Employee cannot be null");
+            return ValidationResult.add(ValidationResult.VALID, Field.EMPLOYEE, "Employee cannot be null");
         }
 
-        this.validateName(employee.getName());
-        this.validateSalary(employee.getSalary());
-        this.validateDepartment(employee.getDepartment());
+        ValidationResult result = ValidationResult.VALID;
+        result = this.checkName(employee.getName(), result);
+        result = this.checkSalary(employee.getSalary(), result);
+        result = this.checkDepartment(employee.getDepartment(), result);
+        return result;
     }
 
     /**
-     * Validates the name of an employee
+     * Checks many employees in parallel without throwing.
+     *
+     * @param employees the employees to check
+     * @return the result of every invalid employee by its position in {@code employees}, in order;
+     *         empty if all are valid
+     */
+    public SortedMap<Integer, ValidationResult> checkAll(List<? extends Employee<T>> employees) {
+        return IntStream.range(0, employees.size()).parallel()
+                .boxed()
+                .map(i -> Map.entry(i, check(employees.get(i))))
+                .filter(entry -> !entry.getValue().isValid())
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, TreeMap::new));
+    }
+
+    /**
+     * Checks the name of an employee
      *
      * @param name
-     * @throws InvalidNameException if the name is invalid
+     * @param result the violations found so far
+     * @return {@code result} with a {@link Field#NAME} violation added if the name is invalid
      */
-    private void validateName(String name) {
+    private ValidationResult checkName(String name, ValidationResult result) {
         if (name == null || name.trim().isEmpty()) {
-            throw new InvalidNameException("Employee name cannot be empty");
+            return ValidationResult.add(result, Field.NAME, "Employee name cannot be empty");
         }
 
-        if (!name.matches("^[\\p{L} .'-]+$")) {
-            throw new InvalidNameException("Employee name contains invalid characters");
+        if (!NAME_PATTERN.matcher(name).matches()) {
+            return ValidationResult.add(result, Field.NAME, "Employee name contains invalid characters");
         }
+        return result;
     }
 
     /**
-     * Validates the department of an employee
+     * Checks the department of an employee
      *
      * @param department
-     * @throws InvalidDepartmentException if the department is invalid
+     * @param result the violations found so far
+     * @return {@code result} with a {@link Field#DEPARTMENT} violation added if the department is invalid
      */
-    private void validateDepartment(String department) {
+    private ValidationResult checkDepartment(String department, ValidationResult result) {
         if (department == null || department.trim().isEmpty()) {
-            throw new InvalidDepartmentException("Department cannot be empty");
+            return ValidationResult.add(result, Field.DEPARTMENT, "Department cannot be empty");
         }
 
         if (!departments.contains(department)) {
-            throw new InvalidDepartmentException(department + " is not a valid department");
+            return ValidationResult.add(result, Field.DEPARTMENT, department + " is not a valid department");
         }
+        return result;
     }
 
     /**
-     * Validates the salary of an employee
+     * Checks the salary of an employee
      *
      * @param salary
-     * @throws InvalidSalaryException if the salary is invalid
+     * @param result the violations found so far
+     * @return {@code result} with a {@link Field#SALARY} violation added if the salary is invalid
      */
-    private void validateSalary(Double salary) {
+    private ValidationResult checkSalary(Double salary, ValidationResult result) {
         if (salary == null) {
-            throw new InvalidSalaryException("Salary cannot be empty");
+            return ValidationResult.add(result, Field.SALARY, "Salary cannot be empty");
         }
 
         if (salary < 0) {
-            throw new InvalidSalaryException("Salary cannot be negative");
+            return ValidationResult.add(result, Field.SALARY, "Salary cannot be negative");
         }
+        return result;
     }
 }
-
@@ -0,0 +1,117 @@
+package com.example.employee_management_system.domain;
+
+import com.example.employee_management_system.exceptions.InvalidDepartmentException;
+import com.example.employee_management_system.exceptions.InvalidEmployeeArgumentException;
+import com.example.employee_management_system.exceptions.InvalidNameException;
+import com.example.employee_management_system.exceptions.InvalidSalaryException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of checking an employee with {@link EmployeeValidator#check}: either valid, or the list of
+ * violations found. Valid results are a shared constant, so checking a valid employee allocates nothing.
+ */
+public final class ValidationResult {
+    public static final ValidationResult VALID = new ValidationResult(Collections.emptyList());
+
+    private final List<Violation> violations;
+
+    private ValidationResult(List<Violation> violations) {
+        this.violations = violations;
+    }
+
+    /**
+     * Adds a violation to a result.
+     *
+     * @param result the result so far, {@link #VALID} if no violation was found yet
+     * @return a result holding the previous violations and the new one
+     */
+    static ValidationResult add(ValidationResult result, Field field, String message) {
+        List<Violation> violations = new ArrayList<>(result.violations.size() + 1);
+        violations.addAll(result.violations);
+        violations.add(new Violation(field, message));
+        return new ValidationResult(Collections.unmodifiableList(violations));
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    /**
+     * @return the violations, in the order the fields are checked; empty if valid
+     */
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    /**
+     * @return the violation messages joined with "; ", or an empty string if valid
+     */
+    public String getMessage() {
+        StringBuilder message = new StringBuilder();
+        for (Violation violation : violations) {
+            if (!message.isEmpty()) {
+                message.append("; ");
+            }
+            message.append(violation.getMessage());
+        }
+        return message.toString();
+    }
+
+    /**
+     * Throws the exception {@link EmployeeValidator#validate} throws for the first violation.
+     *
+     * @throws InvalidEmployeeArgumentException if the result is not valid
+     */
+    public void throwIfInvalid() {
+        if (isValid()) {
+            return;
+        }
+        Violation first = violations.get(0);
+        throw switch (first.getField()) {
+            case EMPLOYEE -> new IllegalArgumentException(first.getMessage());
+            case NAME -> new InvalidNameException(first.getMessage());
+            case SALARY -> new InvalidSalaryException(first.getMessage());
+            case DEPARTMENT -> new InvalidDepartmentException(first.getMessage());
+        };
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : getMessage();
+    }
+
+    /**
+     * The validated part of an employee.
+     */
+    public enum Field {
+        EMPLOYEE, NAME, SALARY, DEPARTMENT
+    }
+
+    /**
+     * A single failed check.
+     */
+    public static final class Violation {
+        private final Field field;
+        private final String message;
+
+        Violation(Field field, String message) {
+            this.field = field;
+            this.message = message;
+        }
+
+        public Field getField() {
+            return field;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return field + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.employee_management_system.ingest;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.domain.EmployeeValidator;
+import com.example.employee_management_system.domain.ValidationResult;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Bulk import of employees from a CSV file into an {@link EmployeeRepository}.
+ * <p>
+ * The file is streamed: one thread reads it in chunks of lines, worker threads parse and validate the
+ * chunks in parallel, and each chunk's valid rows are committed in file order through
+ * {@link EmployeeRepository#saveAll}. At most two chunks per worker are in flight at once, so memory
+ * stays bounded however large the file is. Rows that cannot be parsed or fail
+ * {@link EmployeeValidator} are reported to the {@link ImportListener} and skipped; the import goes on.
+ * <p>
+ * The file must start with the header {@value #HEADER}. Fields may be quoted with {@code "} and
+ * quotes inside a quoted field doubled; a field cannot span lines. Empty salary, rating and
+ * experience fields are imported as missing values; the active flag is {@code true} or {@code false}.
+ *
+ * @param <T> the type of the employee ID
+ */
+public class EmployeeCsvImporter<T extends Comparable<? super T>> {
+    public static final String HEADER = "employeeId,name,department,salary,performanceRating,yearsOfExperience,active";
+    private static final int FIELD_COUNT = 7;
+    private static final int DEFAULT_CHUNK_SIZE = 10_000;
+    private static final int READ_BUFFER_CHARS = 1 << 16;
+
+    private final EmployeeRepository<T> repository;
+    private final Function<String, T> idParser;
+    private final EmployeeValidator<T> validator = new EmployeeValidator<>();
+    private final int chunkSize;
+    private final int parallelism;
+
+    /**
+     * Creates an importer using one worker per available processor.
+     *
+     * @param repository the repository to import into
+     * @param idParser converts the ID field to an employee ID, e.g. {@code Integer::valueOf}
+     */
+    public EmployeeCsvImporter(EmployeeRepository<T> repository, Function<String, T> idParser) {
+        this(repository, idParser, DEFAULT_CHUNK_SIZE, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param repository the repository to import into
+     * @param idParser converts the ID field to an employee ID, e.g. {@code Integer::valueOf}
+     * @param chunkSize the number of lines parsed, validated and committed together
+     * @param parallelism the number of worker threads parsing chunks
+     */
+    public EmployeeCsvImporter(EmployeeRepository<T> repository, Function<String, T> idParser,
+                               int chunkSize, int parallelism) {
+        if (chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException("Chunk size and parallelism must be positive");
+        }
+        this.repository = repository;
+        this.idParser = idParser;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Imports every valid row of the file.
+     *
+     * @param path the CSV file
+     * @param listener receives progress after each committed chunk and every rejected row
+     * @return the final progress of the import
+     * @throws IOException if the file cannot be read or does not start with {@link #HEADER}
+     */
+    public ImportProgress importFile(Path path, ImportListener listener) throws IOException {
+        ImportRun run = new ImportRun(listener);
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "employee-import-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (BufferedReader in = new BufferedReader(
+                new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8), READ_BUFFER_CHARS)) {
+            String header = in.readLine();
+            if (header == null || !header.strip().equalsIgnoreCase(HEADER)) {
+                throw new IOException(path + " does not start with the header " + HEADER);
+            }
+            Deque<Future<ParsedChunk<T>>> inFlight = new ArrayDeque<>();
+            List<String> lines = new ArrayList<>(chunkSize);
+            long firstLineNumber = 2;
+            String line;
+            while ((line = in.readLine()) != null) {
+                lines.add(line);
+                if (lines.size() == chunkSize) {
+                    List<String> chunk = lines;
+                    long chunkFirstLine = firstLineNumber;
+                    inFlight.add(workers.submit(() -> parse(chunk, chunkFirstLine)));
+                    run.rowsRead += chunk.size();
+                    firstLineNumber += chunk.size();
+                    lines = new ArrayList<>(chunkSize);
+                    if (inFlight.size() >= 2 * parallelism) {
+                        run.commit(inFlight.poll());
+                    }
+                }
+            }
+            if (!lines.isEmpty()) {
+                List<String> chunk = lines;
+                long chunkFirstLine = firstLineNumber;
+                inFlight.add(workers.submit(() -> parse(chunk, chunkFirstLine)));
+                run.rowsRead += chunk.size();
+            }
+            while (!inFlight.isEmpty()) {
+                run.commit(inFlight.poll());
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return run.progress();
+    }
+
+    private ParsedChunk<T> parse(List<String> lines, long firstLineNumber) {
+        ParsedChunk<T> chunk = new ParsedChunk<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                Employee<T> employee = parseRow(line);
+                ValidationResult result = validator.check(employee);
+                if (result.isValid()) {
+                    chunk.employees.add(employee);
+                } else {
+                    chunk.rejected.add(new RejectedRow(firstLineNumber + i, line, result.getMessage()));
+                }
+            } catch (IllegalArgumentException e) {
+                chunk.rejected.add(new RejectedRow(firstLineNumber + i, line, e.getMessage()));
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Parses one CSV row into an employee.
+     *
+     * @throws IllegalArgumentException if the row is malformed
+     */
+    private Employee<T> parseRow(String line) {
+        List<String> fields = splitFields(line);
+        if (fields.size() != FIELD_COUNT) {
+            throw new IllegalArgumentException("Expected " + FIELD_COUNT + " fields but found " + fields.size());
+        }
+        String id = fields.get(0);
+        if (id.isEmpty()) {
+            throw new IllegalArgumentException("Employee ID cannot be empty");
+        }
+        T employeeId;
+        try {
+            employeeId = idParser.apply(id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid employee ID: " + id);
+        }
+        return new Employee<>(
+                employeeId,
+                emptyToNull(fields.get(1)),
+                emptyToNull(fields.get(2)),
+                parseDouble(fields.get(3), "salary"),
+                parseDouble(fields.get(4), "performance rating"),
+                parseInteger(fields.get(5)),
+                parseBoolean(fields.get(6))
+        );
+    }
+
+    /**
+     * Splits a row on commas, honouring double-quoted fields.
+     */
+    static List<String> splitFields(String line) {
+        List<String> fields = new ArrayList<>(FIELD_COUNT);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().strip());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().strip());
+        return fields;
+    }
+
+    private static String emptyToNull(String field) {
+        return field.isEmpty() ? null : field;
+    }
+
+    private static Double parseDouble(String field, String name) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(field);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + field);
+        }
+    }
+
+    private static Integer parseInteger(String field) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(field);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid years of experience: " + field);
+        }
+    }
+
+    private static boolean parseBoolean(String field) {
+        if (field.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (field.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Invalid active flag: " + field);
+    }
+
+    private static final class ParsedChunk<T> {
+        private final List<Employee<T>> employees;
+        private final List<RejectedRow> rejected = new ArrayList<>();
+
+        ParsedChunk(int capacity) {
+            this.employees = new ArrayList<>(capacity);
+        }
+    }
+
+    /**
+     * Counters of one import, updated only by the thread running it.
+     */
+    private final class ImportRun {
+        private final ImportListener listener;
+        private final long start = System.nanoTime();
+        private long rowsRead;
+        private long importedCount;
+        private long rejectedCount;
+
+        ImportRun(ImportListener listener) {
+            this.listener = listener;
+        }
+
+        void commit(Future<ParsedChunk<T>> future) throws IOException {
+            ParsedChunk<T> chunk;
+            try {
+                chunk = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Import interrupted");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+            repository.saveAll(chunk.employees);
+            importedCount += chunk.employees.size();
+            rejectedCount += chunk.rejected.size();
+            chunk.rejected.forEach(listener::onReject);
+            listener.onProgress(progress());
+        }
+
+        ImportProgress progress() {
+            return new ImportProgress(rowsRead, importedCount, rejectedCount, System.nanoTime() - start);
+        }
+    }
+}
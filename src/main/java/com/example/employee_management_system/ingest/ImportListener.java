@@ -0,0 +1,23 @@
+package com.example.employee_management_system.ingest;
+
+/**
+ * Receives progress and rejected rows from a running {@link EmployeeCsvImporter}.
+ * Both methods are called from the thread running the import, in file order.
+ */
+public interface ImportListener {
+    /**
+     * Called after each chunk of rows has been committed to the repository.
+     *
+     * @param progress the progress so far
+     */
+    default void onProgress(ImportProgress progress) {
+    }
+
+    /**
+     * Called for each row that could not be parsed or failed validation.
+     *
+     * @param row the rejected row
+     */
+    default void onReject(RejectedRow row) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.employee_management_system.ingest;
+
+/**
+ * Point-in-time progress of a running or finished import.
+ */
+public final class ImportProgress {
+    private final long rowsRead;
+    private final long importedCount;
+    private final long rejectedCount;
+    private final long elapsedNanos;
+
+    ImportProgress(long rowsRead, long importedCount, long rejectedCount, long elapsedNanos) {
+        this.rowsRead = rowsRead;
+        this.importedCount = importedCount;
+        this.rejectedCount = rejectedCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return the number of data rows read from the file so far, including rows not yet committed
+     */
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getImportedCount() {
+        return importedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return the committed rows, imported or rejected, per second since the import started
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : (importedCount + rejectedCount) / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d imported, %,d rejected in %.1f s (%,.0f rows/s)",
+                importedCount, rejectedCount, elapsedNanos / 1e9, getRowsPerSecond());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.employee_management_system.ingest;
+
+/**
+ * A CSV row that was not imported, with the reason it was rejected.
+ */
+public final class RejectedRow {
+    private final long lineNumber;
+    private final String line;
+    private final String reason;
+
+    RejectedRow(long lineNumber, String line, String reason) {
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.reason = reason;
+    }
+
+    /**
+     * @return the 1-based line number of the row in the file
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "Line " + lineNumber + ": " + reason;
+    }
+}
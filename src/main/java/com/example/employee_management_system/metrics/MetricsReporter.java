@@ -0,0 +1,74 @@
+package com.example.employee_management_system.metrics;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically prints the repository's size and mutation rates, and the latencies of every service
+ * operation called so far, as a text table.
+ */
+public final class MetricsReporter implements AutoCloseable {
+    private final RepositoryMetrics<?> repository;
+    private final PrintStream out;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "metrics-reporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long lastReport = System.nanoTime();
+    private long lastInserts;
+    private long lastUpdates;
+    private long lastDeletes;
+
+    /**
+     * Starts printing a report every {@code interval}.
+     *
+     * @param repository the repository metrics to report
+     * @param out where to print the reports
+     * @param interval the time between reports
+     */
+    public MetricsReporter(RepositoryMetrics<?> repository, PrintStream out, Duration interval) {
+        this.repository = repository;
+        this.out = out;
+        lastInserts = repository.getInsertCount();
+        lastUpdates = repository.getUpdateCount();
+        lastDeletes = repository.getDeleteCount();
+        scheduler.scheduleAtFixedRate(this::report, interval.toNanos(), interval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Prints a report now. Rates are per second since the previous report.
+     */
+    public synchronized void report() {
+        long now = System.nanoTime();
+        double seconds = Math.max(now - lastReport, 1) / 1e9;
+        long inserts = repository.getInsertCount();
+        long updates = repository.getUpdateCount();
+        long deletes = repository.getDeleteCount();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%nrepository size %,d  inserts %,.1f/s  updates %,.1f/s  deletes %,.1f/s%n",
+                repository.getSize(), (inserts - lastInserts) / seconds, (updates - lastUpdates) / seconds,
+                (deletes - lastDeletes) / seconds));
+        for (OperationMetrics operation : ServiceMetrics.operations()) {
+            if (operation.getCallCount() > 0) {
+                report.append(operation).append(System.lineSeparator());
+            }
+        }
+        out.print(report);
+        out.flush();
+
+        lastReport = now;
+        lastInserts = inserts;
+        lastUpdates = updates;
+        lastDeletes = deletes;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.employee_management_system.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Latency histogram and call and error counters of one service operation.
+ * <p>
+ * Services time an operation by passing its body to {@link #time(Supplier)}:
+ * <pre>
+ * return OPERATION.time(() -&gt; repository.findAll());
+ * </pre>
+ * which calls {@link #start()} and {@link #stop(long)} around the body, and {@link #failed()} when it
+ * throws. Neither allocates, and the lambda of a body that captures nothing is a constant; one that
+ * captures arguments is allocated per call unless the JIT inlines {@code time} and eliminates it. Calls and errors are always counted exactly, but reading the clock costs tens of
+ * nanoseconds, as much as some constant-time operations themselves, so such operations can time only
+ * a random sample of their calls: one in {@code sampleInterval}. While {@link ServiceMetrics} is
+ * disabled, nothing is counted or timed.
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+    private static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private final String name;
+    private final int sampleMask;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    OperationMetrics(String name, int sampleInterval) {
+        if (Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("Sample interval must be a power of two: " + sampleInterval);
+        }
+        this.name = name;
+        this.sampleMask = sampleInterval - 1;
+    }
+
+    /**
+     * Counts one call.
+     *
+     * @return the start time to pass to {@link #stop(long)}
+     */
+    public long start() {
+        if (!ServiceMetrics.isEnabled()) {
+            return NOT_TIMED;
+        }
+        calls.increment();
+        if (sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & sampleMask) != 0) {
+            return NOT_TIMED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the latency of a call that started at {@code start}, whether it succeeded or failed.
+     */
+    public void stop(long start) {
+        if (start != NOT_TIMED) {
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Counts one call that threw.
+     */
+    public void failed() {
+        if (ServiceMetrics.isEnabled()) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Runs {@code operation} as one call: counts and times it, and counts it as failed if it throws.
+     *
+     * @return the result of {@code operation}
+     */
+    public <R> R time(Supplier<R> operation) {
+        long start = start();
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            failed();
+            throw e;
+        } finally {
+            stop(start);
+        }
+    }
+
+    /**
+     * Same as {@link #time(Supplier)}, without boxing the result.
+     */
+    public double timeDouble(DoubleSupplier operation) {
+        long start = start();
+        try {
+            return operation.getAsDouble();
+        } catch (RuntimeException e) {
+            failed();
+            throw e;
+        } finally {
+            stop(start);
+        }
+    }
+
+    /**
+     * @return the latencies of the timed calls
+     */
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public int getSampleInterval() {
+        return sampleMask + 1;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latencies.getMean() / 1e3;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latencies.getPercentile(0.5) / 1e3;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latencies.getPercentile(0.99) / 1e3;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latencies.getPercentile(0.999) / 1e3;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latencies.getMax() / 1e3;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-40s calls %,10d  errors %,6d  p50 %,10.1f us  p99 %,10.1f us  p999 %,10.1f us  max %,10.1f us",
+                name, getCallCount(), getErrorCount(), getP50Micros(), getP99Micros(), getP999Micros(), getMaxMicros());
+    }
+}
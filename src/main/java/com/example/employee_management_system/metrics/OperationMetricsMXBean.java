@@ -0,0 +1,24 @@
+package com.example.employee_management_system.metrics;
+
+/**
+ * JMX view of the latencies and counters of one service operation. Latencies are in microseconds.
+ */
+public interface OperationMetricsMXBean {
+    String getName();
+
+    long getCallCount();
+
+    long getErrorCount();
+
+    int getSampleInterval();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+}
@@ -0,0 +1,97 @@
+package com.example.employee_management_system.metrics;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeChangeListener;
+import com.example.employee_management_system.repository.EmployeeRepository;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size and insert, update and delete counts of an {@link EmployeeRepository}, kept by listening to
+ * its changes. Mutation rates are the differences between two readings of the counts.
+ *
+ * @param <T> the type of the employee ID
+ */
+public class RepositoryMetrics<T extends Comparable<? super T>> implements EmployeeChangeListener<T>, RepositoryMetricsMXBean {
+    private final EmployeeRepository<T> repository;
+    private final LongAdder inserts = new LongAdder();
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder deletes = new LongAdder();
+
+    private RepositoryMetrics(EmployeeRepository<T> repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Starts counting the changes made to the repository from now on.
+     *
+     * @param repository the repository to observe
+     * @return the repository's metrics
+     */
+    public static <T extends Comparable<? super T>> RepositoryMetrics<T> attach(EmployeeRepository<T> repository) {
+        RepositoryMetrics<T> metrics = new RepositoryMetrics<>(repository);
+        repository.addChangeListener(metrics);
+        return metrics;
+    }
+
+    @Override
+    public void onChange(Employee<T> before, Employee<T> after) {
+        if (before == null) {
+            inserts.increment();
+        } else if (after == null) {
+            deletes.increment();
+        } else {
+            updates.increment();
+        }
+    }
+
+    @Override
+    public void onBulkUpdate(List<Employee<T>> before, List<Employee<T>> after) {
+        long inserted = 0;
+        for (Employee<T> employee : before) {
+            if (employee == null) {
+                inserted++;
+            }
+        }
+        inserts.add(inserted);
+        updates.add(after.size() - inserted);
+    }
+
+    /**
+     * Registers these metrics as the MBean of type {@code Repository}, replacing any registered before.
+     *
+     * @param server the MBean server, usually the platform MBean server
+     * @throws JMException if the MBean cannot be registered
+     */
+    public void registerMBean(MBeanServer server) throws JMException {
+        ObjectName name = new ObjectName(ServiceMetrics.JMX_DOMAIN + ":type=Repository");
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+    }
+
+    @Override
+    public int getSize() {
+        return repository.size();
+    }
+
+    @Override
+    public long getInsertCount() {
+        return inserts.sum();
+    }
+
+    @Override
+    public long getUpdateCount() {
+        return updates.sum();
+    }
+
+    @Override
+    public long getDeleteCount() {
+        return deletes.sum();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.employee_management_system.metrics;
+
+/**
+ * JMX view of the size of an employee repository and the changes made to it.
+ */
+public interface RepositoryMetricsMXBean {
+    int getSize();
+
+    long getInsertCount();
+
+    long getUpdateCount();
+
+    long getDeleteCount();
+}
@@ -0,0 +1,92 @@
+package com.example.employee_management_system.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link OperationMetrics} of every service operation.
+ * <p>
+ * Services look up their operations once, in static fields, so recording a call costs no lookup.
+ * Recording is enabled by default and can be switched off at run time with {@link #setEnabled}.
+ * Constant-time operations are sampled one call in {@value #CONSTANT_TIME_SAMPLE_INTERVAL}, which keeps
+ * the cost of metrics to a few percent even for them.
+ */
+public final class ServiceMetrics {
+    /**
+     * Domain of the JMX object names of all metrics MBeans.
+     */
+    public static final String JMX_DOMAIN = "com.example.employee_management_system";
+    /**
+     * Sample interval for operations taking well under a microsecond.
+     */
+    public static final int CONSTANT_TIME_SAMPLE_INTERVAL = 64;
+
+    private static final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = true;
+
+    private ServiceMetrics() {
+    }
+
+    /**
+     * Returns the metrics of an operation, creating them on first use.
+     *
+     * @param service the simple name of the service class, e.g. {@code EmployeeQueryService}
+     * @param operation the method name, e.g. {@code filterByName}
+     * @return the operation's metrics
+     */
+    public static OperationMetrics operation(String service, String operation) {
+        return operation(service, operation, 1);
+    }
+
+    /**
+     * Returns the metrics of an operation that times only a sample of its calls, creating them on first use.
+     * Meant for constant-time operations, whose latency is comparable to the cost of reading the clock.
+     *
+     * @param service the simple name of the service class, e.g. {@code EmployeeQueryService}
+     * @param operation the method name, e.g. {@code filterByName}
+     * @param sampleInterval the power of two such that one call in that many is timed
+     * @return the operation's metrics
+     */
+    public static OperationMetrics operation(String service, String operation, int sampleInterval) {
+        return operations.computeIfAbsent(service + "." + operation, name -> new OperationMetrics(name, sampleInterval));
+    }
+
+    /**
+     * @return the metrics of every operation created so far, ordered by name
+     */
+    public static List<OperationMetrics> operations() {
+        List<OperationMetrics> result = new ArrayList<>(operations.values());
+        result.sort(Comparator.comparing(OperationMetrics::getName));
+        return result;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ServiceMetrics.enabled = enabled;
+    }
+
+    /**
+     * Registers the metrics of every operation created so far as MBeans of type {@code ServiceOperation},
+     * skipping those already registered.
+     *
+     * @param server the MBean server, usually the platform MBean server
+     * @throws JMException if an MBean cannot be registered
+     */
+    public static void registerMBeans(MBeanServer server) throws JMException {
+        for (OperationMetrics metrics : operations()) {
+            ObjectName name = new ObjectName(JMX_DOMAIN + ":type=ServiceOperation,name=" + metrics.getName());
+            if (!server.isRegistered(name)) {
+                server.registerMBean(metrics, name);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.employee_management_system.persistence;
+
+import com.example.employee_management_system.domain.Employee;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of a single {@code Employee}, shared by the persistence formats.
+ * <p>
+ * Layout: ID, name, department, salary ({@code double}), performance rating ({@code double}),
+ * years of experience ({@code int}) and active flag ({@code byte}). Strings are a length-prefixed
+ * UTF-8 sequence with length {@code -1} for {@code null}; missing numbers are stored as {@code NaN}
+ * or {@link Integer#MIN_VALUE}.
+ *
+ * @param <T> the type of the employee ID
+ */
+final class EmployeeRecordCodec<T> {
+    private static final int NULL_LENGTH = -1;
+    private static final int NO_EXPERIENCE = Integer.MIN_VALUE;
+
+    private final IdCodec<T> idCodec;
+
+    EmployeeRecordCodec(IdCodec<T> idCodec) {
+        this.idCodec = idCodec;
+    }
+
+    IdCodec<T> idCodec() {
+        return idCodec;
+    }
+
+    int size(Employee<T> employee) {
+        return idCodec.size(employee.getEmployeeId())
+                + stringSize(employee.getName())
+                + stringSize(employee.getDepartment())
+                + Double.BYTES + Double.BYTES + Integer.BYTES + 1;
+    }
+
+    void write(Employee<T> employee, ByteBuffer buffer) {
+        idCodec.write(employee.getEmployeeId(), buffer);
+        writeString(employee.getName(), buffer);
+        writeString(employee.getDepartment(), buffer);
+        buffer.putDouble(employee.getSalary() != null ? employee.getSalary() : Double.NaN);
+        buffer.putDouble(employee.getPerformanceRating() != null ? employee.getPerformanceRating() : Double.NaN);
+        buffer.putInt(employee.getYearsOfExperience() != null ? employee.getYearsOfExperience() : NO_EXPERIENCE);
+        buffer.put((byte) (employee.isActive() ? 1 : 0));
+    }
+
+    Employee<T> read(ByteBuffer buffer) {
+        T id = idCodec.read(buffer);
+        String name = readString(buffer);
+        String department = readString(buffer);
+        double salary = buffer.getDouble();
+        double rating = buffer.getDouble();
+        int experience = buffer.getInt();
+        boolean active = buffer.get() != 0;
+        return new Employee<>(id, name, department,
+                Double.isNaN(salary) ? null : salary,
+                Double.isNaN(rating) ? null : rating,
+                experience == NO_EXPERIENCE ? null : experience,
+                active);
+    }
+
+    static int stringSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : utf8Length(value));
+    }
+
+    static void writeString(String value, ByteBuffer buffer) {
+        if (value == null) {
+            buffer.putInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the UTF-8 bytes of a string without encoding it.
+     */
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                // An unpaired surrogate is encoded as a single replacement byte
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.employee_management_system.persistence;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.repository.RepositorySnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary snapshot of the contents of an {@link EmployeeRepository}, for fast startup.
+ * <p>
+ * Layout: a header ({@code int} magic, {@code int} version, {@code int} employee count, {@code int}
+ * string count), a string table holding each distinct name and department once as length-prefixed
+ * UTF-8, then one record per employee, and a trailing CRC-32C of everything before it.
+ * A record is the ID followed by fixed-width fields: {@code int} name and department references into
+ * the string table ({@code -1} for {@code null}), {@code double} salary and performance rating
+ * ({@code NaN} when missing), {@code int} years of experience ({@link Integer#MIN_VALUE} when missing)
+ * and a {@code byte} active flag.
+ * <p>
+ * Snapshots are written sequentially to a temporary file that then replaces the target, so a crash
+ * never leaves a half-written snapshot behind. They are read through a {@link MappedByteBuffer}, so
+ * loading costs page-ins and one pass over the records rather than a stream of small reads, and
+ * {@link #load} builds the repository's contents from all of them at once.
+ * Snapshots are limited to 2 GB, about 50 million employees with integer IDs.
+ */
+public final class EmployeeSnapshot {
+    private static final int MAGIC = 0x454D5053; // "EMPS"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+    private static final int RECORD_BYTES = Integer.BYTES + Integer.BYTES + Double.BYTES + Double.BYTES + Integer.BYTES + 1;
+    private static final int NO_STRING = -1;
+    private static final int NO_EXPERIENCE = Integer.MIN_VALUE;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+
+    private EmployeeSnapshot() {
+    }
+
+    /**
+     * Writes the repository's current contents to {@code path}, replacing any existing snapshot.
+     * Employees saved or deleted while the snapshot is written are not included;
+     * see {@link WriteAheadLog#checkpoint} for a snapshot the log can be replayed over.
+     *
+     * @param repository the repository to snapshot
+     * @param path the snapshot file
+     * @param idCodec the encoding of employee IDs
+     * @return the number of employees written
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static <T extends Comparable<? super T>> int write(EmployeeRepository<T> repository, Path path, IdCodec<T> idCodec) throws IOException {
+        return write(repository.snapshot(), path, idCodec);
+    }
+
+    /**
+     * Writes the employees of a repository snapshot to {@code path}, replacing any existing snapshot.
+     *
+     * @param snapshot the employees to write
+     * @param path the snapshot file
+     * @param idCodec the encoding of employee IDs
+     * @return the number of employees written
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static <T extends Comparable<? super T>> int write(RepositorySnapshot<T> snapshot, Path path, IdCodec<T> idCodec) throws IOException {
+        List<Employee<T>> employees = snapshot.findAll();
+        Map<String, Integer> stringRefs = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] nameRefs = new int[employees.size()];
+        int[] departmentRefs = new int[employees.size()];
+        for (int i = 0; i < employees.size(); i++) {
+            nameRefs[i] = stringRef(employees.get(i).getName(), stringRefs, strings);
+            departmentRefs[i] = stringRef(employees.get(i).getDepartment(), stringRefs, strings);
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            SnapshotWriter out = new SnapshotWriter(channel);
+            out.header(employees.size(), strings.size());
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.reserve(Integer.BYTES + bytes.length).putInt(bytes.length).put(bytes);
+            }
+            for (int i = 0; i < employees.size(); i++) {
+                Employee<T> employee = employees.get(i);
+                T employeeId = employee.getEmployeeId();
+                ByteBuffer buffer = out.reserve(idCodec.size(employeeId) + RECORD_BYTES);
+                idCodec.write(employeeId, buffer);
+                buffer.putInt(nameRefs[i]);
+                buffer.putInt(departmentRefs[i]);
+                buffer.putDouble(employee.getSalary() != null ? employee.getSalary() : Double.NaN);
+                buffer.putDouble(employee.getPerformanceRating() != null ? employee.getPerformanceRating() : Double.NaN);
+                buffer.putInt(employee.getYearsOfExperience() != null ? employee.getYearsOfExperience() : NO_EXPERIENCE);
+                buffer.put((byte) (employee.isActive() ? 1 : 0));
+            }
+            out.finish();
+            channel.force(false);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return employees.size();
+    }
+
+    /**
+     * Loads a snapshot into an empty repository through {@link EmployeeRepository#load}, which builds
+     * its contents from all the employees in one pass.
+     *
+     * @param repository the empty repository to load into
+     * @param path the snapshot file
+     * @param idCodec the encoding of employee IDs
+     * @return the number of employees loaded
+     * @throws IOException if the snapshot cannot be read or is corrupt
+     * @throws IllegalStateException if the repository is not empty
+     */
+    public static <T extends Comparable<? super T>> int load(EmployeeRepository<T> repository, Path path, IdCodec<T> idCodec) throws IOException {
+        List<Employee<T>> employees = new ArrayList<>();
+        read(path, idCodec, employees::add);
+        return repository.load(employees);
+    }
+
+    /**
+     * Reads a snapshot and passes each employee it contains to the given action.
+     *
+     * @param path the snapshot file
+     * @param idCodec the encoding of employee IDs
+     * @param action the action to perform on each employee
+     * @return the number of employees read
+     * @throws IOException if the snapshot cannot be read or is corrupt
+     */
+    public static <T extends Comparable<? super T>> int read(Path path, IdCodec<T> idCodec, Consumer<? super Employee<T>> action) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot " + path + " is larger than 2 GB");
+            }
+            if (fileSize < HEADER_BYTES + Integer.BYTES) {
+                throw new IOException("Snapshot " + path + " is truncated");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException(path + " is not an employee snapshot of version " + VERSION);
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, (int) fileSize - Integer.BYTES));
+            if ((int) crc.getValue() != buffer.getInt((int) fileSize - Integer.BYTES)) {
+                throw new IOException("Snapshot " + path + " is corrupt");
+            }
+
+            int employeeCount = buffer.getInt();
+            String[] strings = new String[buffer.getInt()];
+
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = EmployeeRecordCodec.readString(buffer);
+            }
+            for (int i = 0; i < employeeCount; i++) {
+                T employeeId = idCodec.read(buffer);
+                int nameRef = buffer.getInt();
+                int departmentRef = buffer.getInt();
+                double salary = buffer.getDouble();
+                double rating = buffer.getDouble();
+                int experience = buffer.getInt();
+                boolean active = buffer.get() != 0;
+                action.accept(new Employee<>(employeeId,
+                        nameRef == NO_STRING ? null : strings[nameRef],
+                        departmentRef == NO_STRING ? null : strings[departmentRef],
+                        Double.isNaN(salary) ? null : salary,
+                        Double.isNaN(rating) ? null : rating,
+                        experience == NO_EXPERIENCE ? null : experience,
+                        active));
+            }
+            return employeeCount;
+        }
+    }
+
+    private static int stringRef(String value, Map<String, Integer> stringRefs, List<String> strings) {
+        if (value == null) {
+            return NO_STRING;
+        }
+        return stringRefs.computeIfAbsent(value, v -> {
+            strings.add(v);
+            return strings.size() - 1;
+        });
+    }
+
+    /**
+     * Buffers sequential writes to the snapshot and checksums everything before the checksum.
+     */
+    private static final class SnapshotWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+        private final CRC32C crc = new CRC32C();
+        private long size;
+
+        SnapshotWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void header(int employeeCount, int stringCount) throws IOException {
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(employeeCount).putInt(stringCount);
+            flush(true);
+        }
+
+        /**
+         * Makes room for {@code bytes} more bytes and returns the buffer to write them to.
+         */
+        ByteBuffer reserve(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush(true);
+            }
+            if (buffer.remaining() < bytes) {
+                throw new IOException("Record of " + bytes + " bytes does not fit the snapshot write buffer");
+            }
+            return buffer;
+        }
+
+        void finish() throws IOException {
+            flush(true);
+            buffer.putInt((int) crc.getValue());
+            flush(false);
+        }
+
+        private void flush(boolean checksummed) throws IOException {
+            buffer.flip();
+            size += buffer.remaining();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot would be larger than 2 GB");
+            }
+            if (checksummed) {
+                crc.update(buffer);
+                buffer.rewind();
+            }
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.employee_management_system.persistence;
+
+/**
+ * When the write-ahead log forces written records to the storage device.
+ */
+public enum FsyncPolicy {
+    /**
+     * Force every group commit before acknowledging its writers. No acknowledged change is lost on power failure.
+     */
+    ALWAYS,
+    /**
+     * Force at most once per configured interval. A power failure loses at most the last interval of changes.
+     */
+    INTERVAL,
+    /**
+     * Never force; the operating system writes pages back on its own schedule.
+     * Changes survive a process crash but not a power failure.
+     */
+    NEVER
+}
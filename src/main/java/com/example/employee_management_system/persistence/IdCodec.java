@@ -0,0 +1,68 @@
+package com.example.employee_management_system.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary encoding of employee IDs for the persistence formats.
+ *
+ * @param <T> the type of the employee ID
+ */
+public interface IdCodec<T> {
+    /**
+     * @return the number of bytes {@link #write} produces for the given ID
+     */
+    int size(T id);
+
+    void write(T id, ByteBuffer buffer);
+
+    T read(ByteBuffer buffer);
+
+    /**
+     * @return a codec writing {@code Integer} IDs as four bytes
+     */
+    static IdCodec<Integer> integers() {
+        return new IdCodec<>() {
+            @Override
+            public int size(Integer id) {
+                return Integer.BYTES;
+            }
+
+            @Override
+            public void write(Integer id, ByteBuffer buffer) {
+                buffer.putInt(id);
+            }
+
+            @Override
+            public Integer read(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    /**
+     * @return a codec writing {@code String} IDs as a length-prefixed UTF-8 sequence
+     */
+    static IdCodec<String> strings() {
+        return new IdCodec<>() {
+            @Override
+            public int size(String id) {
+                return Integer.BYTES + id.getBytes(StandardCharsets.UTF_8).length;
+            }
+
+            @Override
+            public void write(String id, ByteBuffer buffer) {
+                byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(bytes.length);
+                buffer.put(bytes);
+            }
+
+            @Override
+            public String read(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+    }
+}
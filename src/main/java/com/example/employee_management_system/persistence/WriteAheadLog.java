@@ -0,0 +1,508 @@
+package com.example.employee_management_system.persistence;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeJournal;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.repository.RepositorySnapshot;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable, append-only log of every change made to an {@link EmployeeRepository}, set as its
+ * {@link EmployeeJournal}.
+ * <p>
+ * Each save, delete and bulk update is encoded and queued as a binary record before the repository
+ * applies it, and written through a {@link FileChannel}. Concurrent writers are batched into group
+ * commits: a single background thread writes everything queued since the previous batch with one
+ * gathering write, forces it according to the {@link FsyncPolicy}, and then releases all writers of
+ * that batch together, which wait for it after releasing the repository's locks. Once a write or force
+ * fails, every later change is rejected before it is applied. A bulk update is logged as one record,
+ * so replay applies it completely or not at all.
+ * <p>
+ * Record layout: {@code int} length of the rest of the record after the checksum, {@code int} CRC-32C of
+ * those bytes, {@code byte} record type, payload. Records hold whole employees, so replaying a record
+ * twice leaves the same contents as replaying it once.
+ * <p>
+ * {@link #checkpoint} writes an {@link EmployeeSnapshot} next to the log and truncates the log, and runs
+ * by itself once the log grows past 64 MB. On startup the snapshot is loaded and the log replayed over
+ * it; a torn record at the end, left by a crash mid-write, is detected by its length or checksum and
+ * cut off.
+ *
+ * @param <T> the type of the employee ID
+ */
+public class WriteAheadLog<T extends Comparable<? super T>> implements EmployeeJournal<T>, AutoCloseable {
+    private static final byte SAVE = 1;
+    private static final byte DELETE = 2;
+    private static final byte BULK_UPDATE = 3;
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES;
+    private static final Duration DEFAULT_FSYNC_INTERVAL = Duration.ofMillis(100);
+    private static final long CHECKPOINT_BYTES = 64L << 20;
+
+    private final Path path;
+    private final Path oldPath;
+    private final Path snapshotPath;
+    // Replaced by a checkpoint while the writer is idle, under the lock and the monitor of this log
+    private volatile FileChannel channel;
+    private final EmployeeRecordCodec<T> codec;
+    private final FsyncPolicy policy;
+    private final long fsyncIntervalNanos;
+    private final Thread writer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition pendingAdded = lock.newCondition();
+    private final Condition committed = lock.newCondition();
+    private List<ByteBuffer> pending = new ArrayList<>();
+    private long appendedSequence;
+    private long committedSequence;
+    // The first sequence not written because of the failure
+    private long failedSequence = Long.MAX_VALUE;
+    private IOException failure;
+    private volatile boolean closed;
+    private boolean writing;
+    private long logLength;
+    private final AtomicBoolean checkpointing = new AtomicBoolean();
+
+    private EmployeeRepository<T> repository;
+
+    private WriteAheadLog(Path path, IdCodec<T> idCodec, FsyncPolicy policy, Duration fsyncInterval) throws IOException {
+        this.path = path;
+        this.oldPath = path.resolveSibling(path.getFileName() + ".old");
+        this.snapshotPath = path.resolveSibling(path.getFileName() + ".snapshot");
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.codec = new EmployeeRecordCodec<>(idCodec);
+        this.policy = policy;
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.writer = new Thread(this::runWriter, "employee-wal-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Opens or creates the log at {@code path}, restores the repository from it and starts logging
+     * the repository's changes. Uses an fsync interval of 100 ms for {@link FsyncPolicy#INTERVAL}.
+     *
+     * @see #attach(EmployeeRepository, Path, IdCodec, FsyncPolicy, Duration)
+     */
+    public static <T extends Comparable<? super T>> WriteAheadLog<T> attach(EmployeeRepository<T> repository, Path path,
+                                              IdCodec<T> idCodec, FsyncPolicy policy) throws IOException {
+        return attach(repository, path, idCodec, policy, DEFAULT_FSYNC_INTERVAL);
+    }
+
+    /**
+     * Opens or creates the log at {@code path}, restores the repository from it and starts logging
+     * the repository's changes. The snapshot of the last checkpoint, if any, is loaded through
+     * {@link EmployeeRepository#load}; the log is then replayed through {@link EmployeeRepository#save},
+     * {@link EmployeeRepository#saveAll} and {@link EmployeeRepository#delete}, so listeners see the
+     * restored employees as usual.
+     *
+     * @param repository the repository to restore and then log; must be empty if there is a snapshot
+     * @param path the log file
+     * @param idCodec the encoding of employee IDs
+     * @param policy when to force written records to the storage device
+     * @param fsyncInterval the maximum time between forces for {@link FsyncPolicy#INTERVAL}
+     * @return the attached log
+     * @throws IOException if the log or the snapshot cannot be opened or read
+     * @throws IllegalStateException if there is a snapshot and the repository is not empty
+     */
+    public static <T extends Comparable<? super T>> WriteAheadLog<T> attach(EmployeeRepository<T> repository, Path path, IdCodec<T> idCodec,
+                                              FsyncPolicy policy, Duration fsyncInterval) throws IOException {
+        WriteAheadLog<T> log = new WriteAheadLog<>(path, idCodec, policy, fsyncInterval);
+        try {
+            if (Files.exists(log.snapshotPath)) {
+                EmployeeSnapshot.load(repository, log.snapshotPath, idCodec);
+            }
+            // Left by a checkpoint that did not finish: the changes since the snapshot before it
+            if (Files.exists(log.oldPath)) {
+                log.replay(log.oldPath, repository);
+            }
+            long validLength = log.replay(path, repository);
+            log.channel.truncate(validLength);
+            log.channel.position(validLength);
+            log.logLength = validLength;
+        } catch (IOException | RuntimeException e) {
+            log.channel.close();
+            throw e;
+        }
+        log.repository = repository;
+        log.writer.start();
+        repository.setJournal(log);
+        return log;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the snapshot file written by {@link #checkpoint}, next to the log
+     */
+    public Path getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    /**
+     * Queues a save or delete record for the next group commit.
+     *
+     * @throws UncheckedIOException if an earlier write to the log failed, so the change is rejected
+     * @throws IllegalStateException if the log is closed
+     */
+    @Override
+    public long append(T employeeId, Employee<T> after) {
+        if (after != null) {
+            ByteBuffer record = allocateRecord(SAVE, codec.size(after));
+            codec.write(after, record);
+            return enqueue(record);
+        }
+        ByteBuffer record = allocateRecord(DELETE, codec.idCodec().size(employeeId));
+        codec.idCodec().write(employeeId, record);
+        return enqueue(record);
+    }
+
+    /**
+     * Queues a bulk update record for the next group commit.
+     *
+     * @throws UncheckedIOException if an earlier write to the log failed, so the change is rejected
+     * @throws IllegalStateException if the log is closed
+     */
+    @Override
+    public long appendBulk(List<Employee<T>> after) {
+        int payloadSize = Integer.BYTES;
+        for (Employee<T> employee : after) {
+            payloadSize += codec.size(employee);
+        }
+        ByteBuffer record = allocateRecord(BULK_UPDATE, payloadSize);
+        record.putInt(after.size());
+        for (Employee<T> employee : after) {
+            codec.write(employee, record);
+        }
+        return enqueue(record);
+    }
+
+    /**
+     * Waits until the ticket's record has been written, and forced if the policy is {@link FsyncPolicy#ALWAYS}.
+     */
+    @Override
+    public void awaitDurable(long ticket) {
+        lock.lock();
+        try {
+            while (committedSequence < ticket) {
+                committed.awaitUninterruptibly();
+            }
+            if (ticket >= failedSequence) {
+                throw new UncheckedIOException("Failed to write to " + path, failure);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes a snapshot of the repository and truncates the log, so startup loads the snapshot instead
+     * of replaying every change ever made.
+     * <p>
+     * While writes wait, the log is forced, set aside and replaced by an empty one, and a snapshot of
+     * the repository at that point is taken; writes then go on into the new log while the snapshot is
+     * written, and the set-aside log is deleted once it has been. If the checkpoint fails or the process
+     * crashes before that, the set-aside log is kept and replayed on startup, and the next checkpoint
+     * adds to it.
+     *
+     * @return the number of employees in the snapshot
+     * @throws IOException if the log cannot be replaced or the snapshot cannot be written
+     * @throws IllegalStateException if the log is closed
+     */
+    public synchronized int checkpoint() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Write-ahead log " + path + " is closed");
+        }
+        RepositorySnapshot<T> snapshot;
+        try {
+            snapshot = repository.snapshot(this::rotate);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        int written = EmployeeSnapshot.write(snapshot, snapshotPath, codec.idCodec());
+        Files.deleteIfExists(oldPath);
+        return written;
+    }
+
+    /**
+     * Waits until every queued record is written, then moves the log's records to the set-aside log
+     * and starts an empty log. Called while the repository's writes wait.
+     */
+    private void rotate() {
+        lock.lock();
+        try {
+            while (writing || committedSequence < appendedSequence) {
+                committed.awaitUninterruptibly();
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Failed to write to " + path, failure);
+            }
+            try {
+                channel.force(true);
+                channel.close();
+                if (Files.exists(oldPath)) {
+                    try (FileChannel old = FileChannel.open(oldPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                         FileChannel current = FileChannel.open(path, StandardOpenOption.READ)) {
+                        long size = current.size();
+                        for (long position = 0; position < size; ) {
+                            position += current.transferTo(position, size - position, old);
+                        }
+                        old.force(true);
+                    }
+                } else {
+                    Files.move(path, oldPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+                channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+                logLength = 0;
+            } catch (IOException e) {
+                // The log can no longer be written to, so every later change is rejected
+                failure = e;
+                failedSequence = appendedSequence + 1;
+                throw new UncheckedIOException("Failed to replace " + path, e);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops logging, writes any queued records and forces the log to the storage device.
+     * Waits for a running checkpoint to finish first.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (repository != null) {
+            repository.setJournal(null);
+        }
+        lock.lock();
+        try {
+            closed = true;
+            pendingAdded.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Already closed if a checkpoint failed to replace the log
+        if (channel.isOpen()) {
+            try {
+                channel.force(true);
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    private ByteBuffer allocateRecord(byte type, int payloadSize) {
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + 1 + payloadSize);
+        record.position(HEADER_BYTES);
+        record.put(type);
+        return record;
+    }
+
+    /**
+     * Queues a record for the next group commit.
+     *
+     * @return the sequence of the record
+     */
+    private long enqueue(ByteBuffer record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_BYTES, record.position() - HEADER_BYTES);
+        record.putInt(0, record.position() - HEADER_BYTES);
+        record.putInt(Integer.BYTES, (int) crc.getValue());
+        record.flip();
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Write-ahead log " + path + " is closed");
+            }
+            if (failure != null) {
+                throw new UncheckedIOException("Change rejected after a failed write to " + path, failure);
+            }
+            pending.add(record);
+            pendingAdded.signal();
+            return ++appendedSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runWriter() {
+        long lastForce = System.nanoTime();
+        boolean unforced = false;
+        while (true) {
+            List<ByteBuffer> batch;
+            long batchSequence;
+            boolean failed;
+            lock.lock();
+            try {
+                while (pending.isEmpty() && !closed) {
+                    if (policy == FsyncPolicy.INTERVAL && unforced) {
+                        long remaining = fsyncIntervalNanos - (System.nanoTime() - lastForce);
+                        if (remaining <= 0) {
+                            break;
+                        }
+                        pendingAdded.awaitNanos(remaining);
+                    } else {
+                        pendingAdded.awaitUninterruptibly();
+                    }
+                }
+                if (pending.isEmpty() && closed) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+                batchSequence = appendedSequence;
+                failed = failure != null;
+                writing = true;
+            } catch (InterruptedException e) {
+                continue;
+            } finally {
+                lock.unlock();
+            }
+
+            IOException error = null;
+            long written = 0;
+            try {
+                // Records queued before a failure was seen are not written after the failed ones
+                if (!failed) {
+                    written = writeFully(batch.toArray(new ByteBuffer[0]));
+                }
+                unforced |= written > 0;
+                if (policy == FsyncPolicy.ALWAYS
+                        || (policy == FsyncPolicy.INTERVAL && unforced && System.nanoTime() - lastForce >= fsyncIntervalNanos)) {
+                    channel.force(false);
+                    lastForce = System.nanoTime();
+                    unforced = false;
+                }
+            } catch (IOException e) {
+                error = e;
+            }
+
+            boolean checkpoint;
+            lock.lock();
+            try {
+                if (error != null && failure == null) {
+                    failure = error;
+                    failedSequence = committedSequence + 1;
+                }
+                committedSequence = batchSequence;
+                writing = false;
+                logLength += written;
+                checkpoint = logLength >= CHECKPOINT_BYTES && failure == null;
+                committed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (checkpoint && checkpointing.compareAndSet(false, true)) {
+                Thread checkpointer = new Thread(this::checkpointInBackground, "employee-wal-checkpoint");
+                checkpointer.setDaemon(true);
+                checkpointer.start();
+            }
+        }
+    }
+
+    private void checkpointInBackground() {
+        try {
+            synchronized (this) {
+                if (!closed) {
+                    checkpoint();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        } finally {
+            checkpointing.set(false);
+        }
+    }
+
+    /**
+     * @return the number of bytes written
+     */
+    private long writeFully(ByteBuffer[] buffers) throws IOException {
+        long total = 0;
+        for (ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        for (long remaining = total; remaining > 0; ) {
+            remaining -= channel.write(buffers);
+        }
+        return total;
+    }
+
+    /**
+     * Applies every complete record of a log file to the repository.
+     *
+     * @return the length of the valid prefix of the file
+     */
+    private long replay(Path file, EmployeeRepository<T> repository) throws IOException {
+        long fileSize = Files.size(file);
+        long validLength = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            byte[] header = new byte[HEADER_BYTES];
+            while (validLength + HEADER_BYTES <= fileSize) {
+                in.readFully(header);
+                ByteBuffer headerBuffer = ByteBuffer.wrap(header);
+                int length = headerBuffer.getInt();
+                int checksum = headerBuffer.getInt();
+                if (length <= 0 || validLength + HEADER_BYTES + length > fileSize) {
+                    break;
+                }
+                byte[] body = new byte[length];
+                in.readFully(body);
+                CRC32C crc = new CRC32C();
+                crc.update(body);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                apply(ByteBuffer.wrap(body), repository);
+                validLength += HEADER_BYTES + length;
+            }
+        } catch (EOFException e) {
+            // Torn record at the end of the log
+        }
+        return validLength;
+    }
+
+    private void apply(ByteBuffer body, EmployeeRepository<T> repository) throws IOException {
+        byte type = body.get();
+        switch (type) {
+            case SAVE -> repository.save(codec.read(body));
+            case DELETE -> repository.delete(codec.idCodec().read(body));
+            case BULK_UPDATE -> {
+                int count = body.getInt();
+                List<Employee<T>> batch = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    batch.add(codec.read(body));
+                }
+                repository.saveAll(batch);
+            }
+            default -> throw new IOException("Unknown record type " + type + " in " + path);
+        }
+    }
+
+    /**
+     * Forces any written but unforced records to the storage device, then returns.
+     * Useful with {@link FsyncPolicy#INTERVAL} or {@link FsyncPolicy#NEVER} before a planned shutdown.
+     */
+    public synchronized void sync() throws IOException {
+        channel.force(false);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.List;
+
+/**
+ * A change to an {@link EmployeeRepository}'s contents, as delivered by an {@link EmployeeChangeStream}.
+ * <p>
+ * Events are preallocated slots of the stream's ring buffer and are reused for later changes once
+ * every subscriber has handled them, so a handler must copy what it needs instead of keeping the event.
+ *
+ * @param <T> the type of the employee ID
+ */
+public final class EmployeeChangeEvent<T> {
+    public enum Type {
+        INSERT, UPDATE, DELETE,
+        /**
+         * Many employees changed at once, by a bulk update such as a salary raise or by a batch save.
+         */
+        BULK_UPDATE
+    }
+
+    private long sequence = -1;
+    private Type type;
+    private Employee<T> before;
+    private Employee<T> after;
+    private List<Employee<T>> bulkBefore;
+    private List<Employee<T>> bulkAfter;
+
+    EmployeeChangeEvent() {
+    }
+
+    void set(long sequence, Type type, Employee<T> before, Employee<T> after,
+             List<Employee<T>> bulkBefore, List<Employee<T>> bulkAfter) {
+        this.sequence = sequence;
+        this.type = type;
+        this.before = before;
+        this.after = after;
+        this.bulkBefore = bulkBefore;
+        this.bulkAfter = bulkAfter;
+    }
+
+    /**
+     * @return the position of the change in the stream, counting from 0
+     */
+    public long getSequence() { return sequence; }
+
+    public Type getType() { return type; }
+
+    /**
+     * @return the previously stored employee, or {@code null} for inserts and bulk updates
+     */
+    public Employee<T> getBefore() { return before; }
+
+    /**
+     * @return the newly stored employee, or {@code null} for deletes and bulk updates
+     */
+    public Employee<T> getAfter() { return after; }
+
+    /**
+     * @return the previously stored employees of a bulk update, {@code null} where one was inserted,
+     * or an empty list for other changes
+     */
+    public List<Employee<T>> getBulkBefore() { return bulkBefore == null ? List.of() : bulkBefore; }
+
+    /**
+     * @return the newly stored employees of a bulk update, at the same positions as in
+     * {@link #getBulkBefore()}, or an empty list for other changes
+     */
+    public List<Employee<T>> getBulkAfter() { return bulkAfter == null ? List.of() : bulkAfter; }
+
+    @Override
+    public String toString() {
+        return type == Type.BULK_UPDATE
+                ? "EmployeeChangeEvent{" + sequence + " " + type + " " + bulkAfter.size() + " employees}"
+                : "EmployeeChangeEvent{" + sequence + " " + type + " " + (after != null ? after : before).getEmployeeId() + "}";
+    }
+}
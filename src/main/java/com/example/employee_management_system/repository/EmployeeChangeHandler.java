@@ -0,0 +1,20 @@
+package com.example.employee_management_system.repository;
+
+/**
+ * Subscriber to an {@link EmployeeChangeStream}, called on the subscription's own thread for every
+ * change in the order the changes were published.
+ *
+ * @param <T> the type of the employee ID
+ */
+@FunctionalInterface
+public interface EmployeeChangeHandler<T> {
+    /**
+     * Handles one change. Changes published while the handler was busy are delivered back to back,
+     * so work that can be combined over several changes, such as refreshing a view, is best done
+     * when {@code endOfBatch} is {@code true}.
+     *
+     * @param event the change; reused for later changes after this call returns
+     * @param endOfBatch whether this is the last change published so far
+     */
+    void onEvent(EmployeeChangeEvent<T> event, boolean endOfBatch);
+}
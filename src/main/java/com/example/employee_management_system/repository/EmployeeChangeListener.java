@@ -0,0 +1,44 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.List;
+
+/**
+ * Listener notified by {@link EmployeeRepository} after every change to its contents.
+ * Notifications for the same employee ID are delivered one at a time and in the order
+ * the changes were applied; notifications for different IDs may arrive concurrently.
+ *
+ * @param <T> the type of the employee ID
+ */
+@FunctionalInterface
+public interface EmployeeChangeListener<T> {
+    /**
+     * Called after an employee was inserted, replaced or deleted.
+     *
+     * @param before the previously stored employee, or {@code null} if the employee was inserted
+     * @param after the newly stored employee, or {@code null} if the employee was deleted
+     */
+    void onChange(Employee<T> before, Employee<T> after);
+
+    /**
+     * Called once after a bulk update or batch save changed many employees.
+     * By default, forwards each change to {@link #onChange}.
+     *
+     * @param before the previously stored employees, {@code null} where an employee was inserted
+     * @param after the newly stored employees, at the same positions as their previous versions in {@code before}
+     */
+    default void onBulkUpdate(List<Employee<T>> before, List<Employee<T>> after) {
+        for (int i = 0; i < after.size(); i++) {
+            onChange(before.get(i), after.get(i));
+        }
+    }
+
+    /**
+     * Called on the writing thread once the repository has released the locks it held while notifying
+     * this listener of a write, also if the write failed. A listener that may have to wait, for example
+     * for room in a buffer, waits here rather than in {@link #onChange}, where it would hold up every
+     * other writer. By default, does nothing.
+     */
+    default void afterUnlock() {
+    }
+}
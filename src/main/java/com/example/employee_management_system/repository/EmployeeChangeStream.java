@@ -0,0 +1,399 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes every change to a repository as an {@link EmployeeChangeEvent} to any number of
+ * subscribers, each handling the events on its own thread, so views, caches and aggregates can
+ * follow the repository incrementally instead of re-reading it.
+ * <p>
+ * Events go through a ring buffer of preallocated slots. A writer claims the next sequence number
+ * with one atomic increment, fills the slot and marks it published; it takes no lock, allocates
+ * nothing and only wakes subscribers that are asleep. Subscribers poll the buffer and handle all
+ * events published since their last poll as one batch; while there are none they spin briefly and
+ * then park until a writer wakes them, so an idle stream costs no CPU.
+ * <p>
+ * When the buffer is full, the writer still claims its sequence while the repository notifies it,
+ * but fills the slot only in {@link #afterUnlock()}, once the repository has released its locks:
+ * there it blocks until the slowest subscriber has handled the oldest event and signals it, so a
+ * slow subscriber holds up the writers that need a slot and no other writer. A stream without
+ * subscribers never makes writers wait.
+ * <p>
+ * Events for the same employee ID are published in the order the changes were applied, like the
+ * notifications of {@link EmployeeChangeListener}. A slot keeps references to its employees until it
+ * is reused.
+ *
+ * @param <T> the type of the employee ID
+ */
+public final class EmployeeChangeStream<T extends Comparable<? super T>> implements EmployeeChangeListener<T>, AutoCloseable {
+    /**
+     * The number of events the buffer holds by default.
+     */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final int SPINS = 100;
+    private static final int YIELDS = 100;
+
+    /**
+     * An event whose slot was not free when it was claimed, kept by its writer until it can be filled.
+     */
+    private record Deferred<T>(long sequence, EmployeeChangeEvent.Type type, Employee<T> before, Employee<T> after,
+                               List<Employee<T>> bulkBefore, List<Employee<T>> bulkAfter) {
+    }
+
+    private final EmployeeChangeEvent<T>[] events;
+    private final int mask;
+    // The sequence of the event each slot was last published for
+    private final AtomicLongArray published;
+    // The last claimed sequence
+    private final AtomicLong claimed = new AtomicLong(-1);
+    // A sequence every subscriber has handled at some point, so slots up to it may be reused
+    private volatile long handledByAll = -1;
+    private volatile Subscription[] subscriptions;
+    private EmployeeRepository<T> repository;
+    // Events claimed by each writer whose slots were not free, and how many there are in all
+    private final ThreadLocal<ArrayDeque<Deferred<T>>> deferred = ThreadLocal.withInitial(ArrayDeque::new);
+    private final AtomicInteger deferredCount = new AtomicInteger();
+    // Writers blocked until a subscriber frees a slot
+    private final ReentrantLock slotLock = new ReentrantLock();
+    private final Condition slotFreed = slotLock.newCondition();
+    private final AtomicInteger waitingWriters = new AtomicInteger();
+    private final AtomicInteger sleepingSubscribers = new AtomicInteger();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private EmployeeChangeStream(int capacity) {
+        this.subscriptions = new EmployeeChangeStream.Subscription[0];
+        this.events = new EmployeeChangeEvent[capacity];
+        Arrays.setAll(events, i -> new EmployeeChangeEvent<>());
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * @see #attach(EmployeeRepository, int)
+     */
+    public static <T extends Comparable<? super T>> EmployeeChangeStream<T> attach(EmployeeRepository<T> repository) {
+        return attach(repository, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Starts publishing the repository's changes.
+     *
+     * @param repository the repository whose changes to publish
+     * @param capacity the number of events the buffer holds; a power of two
+     * @return the attached stream
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public static <T extends Comparable<? super T>> EmployeeChangeStream<T> attach(EmployeeRepository<T> repository, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two");
+        }
+        EmployeeChangeStream<T> stream = new EmployeeChangeStream<>(capacity);
+        stream.repository = repository;
+        repository.addChangeListener(stream);
+        return stream;
+    }
+
+    /**
+     * Starts a thread delivering every change published from now on to the handler. Exceptions thrown
+     * by the handler go to the thread's uncaught exception handler and do not stop the subscription;
+     * an {@link Error} ends it, so writers no longer wait for it.
+     *
+     * @param name the name of the subscription, for its thread
+     * @param handler the handler of the changes
+     * @return the subscription, to close when the changes are no longer needed
+     */
+    public synchronized Subscription subscribe(String name, EmployeeChangeHandler<T> handler) {
+        Subscription subscription = new Subscription(name, handler, claimed.get());
+        Subscription[] next = Arrays.copyOf(subscriptions, subscriptions.length + 1);
+        next[subscriptions.length] = subscription;
+        subscriptions = next;
+        subscription.thread.start();
+        return subscription;
+    }
+
+    private synchronized void unsubscribe(Subscription subscription) {
+        int index = Arrays.asList(subscriptions).indexOf(subscription);
+        if (index >= 0) {
+            Subscription[] next = Arrays.copyOf(subscriptions, subscriptions.length - 1);
+            System.arraycopy(subscriptions, index + 1, next, index, next.length - index);
+            subscriptions = next;
+        }
+        // Writers may have been waiting for it alone
+        signalWriters();
+    }
+
+    /**
+     * @return the number of changes published so far
+     */
+    public long getPublishedCount() {
+        return claimed.get() + 1;
+    }
+
+    @Override
+    public void onChange(Employee<T> before, Employee<T> after) {
+        EmployeeChangeEvent.Type type = before == null ? EmployeeChangeEvent.Type.INSERT
+                : after == null ? EmployeeChangeEvent.Type.DELETE : EmployeeChangeEvent.Type.UPDATE;
+        publish(type, before, after, null, null);
+    }
+
+    @Override
+    public void onBulkUpdate(List<Employee<T>> before, List<Employee<T>> after) {
+        publish(EmployeeChangeEvent.Type.BULK_UPDATE, null, null, before, after);
+    }
+
+    /**
+     * Fills the slots of the events this thread claimed while the buffer was full, waiting for each
+     * to be freed by the subscribers.
+     */
+    @Override
+    public void afterUnlock() {
+        if (deferredCount.get() == 0) {
+            return;
+        }
+        ArrayDeque<Deferred<T>> pending = deferred.get();
+        Deferred<T> event;
+        while ((event = pending.poll()) != null) {
+            awaitFreeSlot(event.sequence());
+            fill(event.sequence(), event.type(), event.before(), event.after(), event.bulkBefore(), event.bulkAfter());
+            deferredCount.decrementAndGet();
+        }
+    }
+
+    private void publish(EmployeeChangeEvent.Type type, Employee<T> before, Employee<T> after,
+                         List<Employee<T>> bulkBefore, List<Employee<T>> bulkAfter) {
+        long sequence = claimed.incrementAndGet();
+        if (isFree(sequence)) {
+            fill(sequence, type, before, after, bulkBefore, bulkAfter);
+        } else {
+            // Called under the repository's locks, where waiting would hold up every other writer
+            deferredCount.incrementAndGet();
+            deferred.get().add(new Deferred<>(sequence, type, before, after, bulkBefore, bulkAfter));
+        }
+    }
+
+    private void fill(long sequence, EmployeeChangeEvent.Type type, Employee<T> before, Employee<T> after,
+                      List<Employee<T>> bulkBefore, List<Employee<T>> bulkAfter) {
+        int slot = (int) sequence & mask;
+        events[slot].set(sequence, type, before, after, bulkBefore, bulkAfter);
+        published.set(slot, sequence);
+        if (sleepingSubscribers.get() > 0) {
+            for (Subscription subscription : subscriptions) {
+                if (subscription.sleeping) {
+                    LockSupport.unpark(subscription.thread);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether the slot of the sequence no longer holds an event some subscriber has yet to handle
+     */
+    private boolean isFree(long sequence) {
+        long previous = sequence - events.length;
+        if (previous <= handledByAll) {
+            return true;
+        }
+        long handled = slowestSubscriber(previous);
+        if (previous > handled) {
+            return false;
+        }
+        // Racing writers may store an older value, which only makes a later writer look again
+        handledByAll = handled;
+        return true;
+    }
+
+    /**
+     * Blocks until the slot of the sequence is free. Subscribers signal the writers waiting after
+     * handling each batch.
+     */
+    private void awaitFreeSlot(long sequence) {
+        if (isFree(sequence)) {
+            return;
+        }
+        waitingWriters.incrementAndGet();
+        slotLock.lock();
+        try {
+            while (!isFree(sequence)) {
+                slotFreed.awaitUninterruptibly();
+            }
+        } finally {
+            slotLock.unlock();
+            waitingWriters.decrementAndGet();
+        }
+    }
+
+    private void signalWriters() {
+        if (waitingWriters.get() > 0) {
+            slotLock.lock();
+            try {
+                slotFreed.signalAll();
+            } finally {
+                slotLock.unlock();
+            }
+        }
+    }
+
+    private long slowestSubscriber(long previous) {
+        Subscription[] current = subscriptions;
+        if (current.length == 0) {
+            // Only this slot is known to be free: a subscriber starting later does not need the events
+            // claimed before it, but does need those claimed after, so no more may be assumed free
+            return previous;
+        }
+        long slowest = Long.MAX_VALUE;
+        for (Subscription subscription : current) {
+            slowest = Math.min(slowest, subscription.handled.get());
+        }
+        return slowest;
+    }
+
+    /**
+     * Stops publishing the repository's changes and closes every subscription once it has handled
+     * the changes published before.
+     */
+    @Override
+    public void close() {
+        if (repository != null) {
+            repository.removeChangeListener(this);
+            repository = null;
+        }
+        for (Subscription subscription : subscriptions) {
+            subscription.close();
+        }
+    }
+
+    /**
+     * A subscriber's position in the stream and the thread delivering events to it.
+     */
+    public final class Subscription implements AutoCloseable {
+        private final EmployeeChangeHandler<T> handler;
+        private final Thread thread;
+        // The last sequence handled
+        private final AtomicLong handled;
+        private volatile long stopAfter = Long.MAX_VALUE;
+        // Whether the thread is parked, or about to be, until an event is published
+        private volatile boolean sleeping;
+
+        private Subscription(String name, EmployeeChangeHandler<T> handler, long start) {
+            this.handler = handler;
+            this.handled = new AtomicLong(start);
+            this.thread = new Thread(this::run, "employee-changes-" + name);
+            thread.setDaemon(true);
+        }
+
+        /**
+         * @return the number of changes handled so far, counting from the start of the stream
+         */
+        public long getHandledCount() {
+            return handled.get() + 1;
+        }
+
+        private void run() {
+            try {
+                poll();
+            } finally {
+                // Otherwise writers would wait forever for a subscriber that died
+                unsubscribe(this);
+            }
+        }
+
+        private void poll() {
+            long next = handled.get() + 1;
+            int idle = 0;
+            while (next <= stopAfter) {
+                long last = next - 1;
+                long end = Math.min(claimed.get(), stopAfter);
+                while (last < end && published.get((int) (last + 1) & mask) == last + 1) {
+                    last++;
+                }
+                if (last < next) {
+                    idle = idle(idle, next);
+                    continue;
+                }
+                idle = 0;
+                for (long sequence = next; sequence <= last; sequence++) {
+                    deliver(events[(int) sequence & mask], sequence == last);
+                }
+                handled.set(last);
+                signalWriters();
+                next = last + 1;
+            }
+        }
+
+        private void deliver(EmployeeChangeEvent<T> event, boolean endOfBatch) {
+            try {
+                handler.onEvent(event, endOfBatch);
+            } catch (RuntimeException e) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+
+        private int idle(int idle, long next) {
+            if (idle < SPINS) {
+                Thread.onSpinWait();
+            } else if (idle < SPINS + YIELDS) {
+                Thread.yield();
+            } else {
+                sleep(next);
+                return idle;
+            }
+            return idle + 1;
+        }
+
+        /**
+         * Parks until the event of the sequence is published or the subscription is stopped. Announces
+         * the sleep before looking once more, so a writer publishing meanwhile sees it and unparks it.
+         */
+        private void sleep(long next) {
+            sleepingSubscribers.incrementAndGet();
+            sleeping = true;
+            try {
+                if (next <= stopAfter && published.get((int) next & mask) != next) {
+                    LockSupport.park(this);
+                }
+            } finally {
+                sleeping = false;
+                sleepingSubscribers.decrementAndGet();
+            }
+        }
+
+        /**
+         * Stops the subscription once it has handled the changes published before this call, and waits
+         * for that. Called from the subscription's own handler, it stops without waiting.
+         */
+        @Override
+        public void close() {
+            if (stopAfter == Long.MAX_VALUE) {
+                stopAfter = claimed.get();
+            }
+            LockSupport.unpark(thread);
+            if (Thread.currentThread() != thread) {
+                boolean interrupted = false;
+                while (thread.isAlive()) {
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            unsubscribe(this);
+        }
+    }
+}
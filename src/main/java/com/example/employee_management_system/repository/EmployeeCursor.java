@@ -0,0 +1,93 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A position in one of the orders {@link EmployeeRepository#findPage} pages through: the sort key and
+ * ID of the last employee of a page. The next page starts right after that key and ID, not at an
+ * offset, so employees saved or deleted elsewhere in the order do not shift the pages: an employee
+ * is never returned twice and never skipped unless its sort key changes while the pages are read.
+ * A cursor stays valid after the employee it was taken from is deleted.
+ *
+ * @param <T> the type of the employee ID
+ */
+public final class EmployeeCursor<T> {
+    /**
+     * The orders that can be paged through. Ties are broken by ascending ID, and employees without
+     * the sort key come last.
+     */
+    public enum Order {
+        ID_ASCENDING(employee -> null),
+        EXPERIENCE_DESCENDING(Employee::getYearsOfExperience),
+        SALARY_DESCENDING(Employee::getSalary),
+        RATING_DESCENDING(Employee::getPerformanceRating);
+
+        private final Function<Employee<?>, Object> key;
+
+        Order(Function<Employee<?>, Object> key) {
+            this.key = key;
+        }
+
+        /**
+         * @return the order as a comparator, the same as the pages of {@link EmployeeRepository#findPage} follow
+         */
+        @SuppressWarnings("unchecked")
+        <T extends Comparable<? super T>> Comparator<Employee<T>> comparator() {
+            Comparator<Employee<T>> byId = Comparator.comparing(Employee::getEmployeeId);
+            if (this == ID_ASCENDING) {
+                return byId;
+            }
+            return Comparator.comparing((Employee<T> employee) -> (Comparable<Object>) key.apply(employee),
+                    Comparator.nullsLast(Comparator.reverseOrder())).thenComparing(byId);
+        }
+    }
+
+    private final Order order;
+    private final Object key;
+    private final T employeeId;
+
+    private EmployeeCursor(Order order, Object key, T employeeId) {
+        this.order = order;
+        this.key = key;
+        this.employeeId = employeeId;
+    }
+
+    /**
+     * Returns the position right after an employee, in the given order.
+     *
+     * @param order the order being paged through
+     * @param employee the employee the next page should follow
+     * @return a cursor positioned after the employee
+     */
+    public static <T> EmployeeCursor<T> after(Order order, Employee<T> employee) {
+        return new EmployeeCursor<>(order, order.key.apply(employee), Objects.requireNonNull(employee.getEmployeeId()));
+    }
+
+    public Order getOrder() { return order; }
+    public T getEmployeeId() { return employeeId; }
+
+    /**
+     * @return the sort key of the employee the cursor follows, or {@code null} in ID order or if it had none
+     */
+    public Object getKey() { return key; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EmployeeCursor<?> other)) return false;
+        return order == other.order && Objects.equals(key, other.key) && employeeId.equals(other.employeeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(order, key, employeeId);
+    }
+
+    @Override
+    public String toString() {
+        return order + " after " + (key == null ? "" : key + "/") + employeeId;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Allocator of new integer employee IDs for a repository, in constant time and without collisions
+ * between concurrent callers.
+ * <p>
+ * IDs come from an atomic counter that starts above the highest ID in the repository, and
+ * {@link #reserve} hands out contiguous blocks for bulk loads. The sequence listens to the
+ * repository, so employees saved with IDs of their own, such as imported ones, move it past those IDs.
+ * <p>
+ * When attached to a file, the sequence persists a high-water mark one block ahead of the IDs handed
+ * out, and forces it to the storage device before returning any ID beyond the previous mark. After a
+ * restart the sequence continues above the mark, so no ID is issued twice even if the employees it
+ * was issued for were never saved. Only one write per block is made, not one per ID.
+ */
+public final class EmployeeIdSequence implements EmployeeChangeListener<Integer>, AutoCloseable {
+    /**
+     * The number of IDs covered by each write of the high-water mark.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final AtomicInteger next;
+    private final FileChannel channel;
+    private final int blockSize;
+    private final ByteBuffer markBuffer = ByteBuffer.allocate(Long.BYTES);
+    // IDs below the limit are covered by the persisted mark
+    private volatile long limit;
+    private EmployeeRepository<Integer> repository;
+
+    private EmployeeIdSequence(int first, long limit, FileChannel channel, int blockSize) {
+        this.next = new AtomicInteger(first);
+        this.limit = limit;
+        this.channel = channel;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * Starts an in-memory sequence above the highest ID in the repository.
+     *
+     * @param repository the repository to allocate IDs for
+     * @return the attached sequence
+     */
+    public static EmployeeIdSequence attach(EmployeeRepository<Integer> repository) {
+        EmployeeIdSequence sequence = new EmployeeIdSequence(firstFreeId(repository, 1), Long.MAX_VALUE, null, DEFAULT_BLOCK_SIZE);
+        sequence.listenTo(repository);
+        return sequence;
+    }
+
+    /**
+     * Opens or creates the high-water mark file and starts a sequence above both the mark and the
+     * highest ID in the repository. Attach it after the repository has been restored.
+     *
+     * @see #attach(EmployeeRepository, Path, int)
+     */
+    public static EmployeeIdSequence attach(EmployeeRepository<Integer> repository, Path path) throws IOException {
+        return attach(repository, path, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Opens or creates the high-water mark file and starts a sequence above both the mark and the
+     * highest ID in the repository. Attach it after the repository has been restored.
+     *
+     * @param repository the repository to allocate IDs for
+     * @param path the high-water mark file
+     * @param blockSize the number of IDs covered by each write of the mark
+     * @return the attached sequence
+     * @throws IOException if the mark cannot be read
+     * @throws IllegalArgumentException if the block size is not positive
+     */
+    public static EmployeeIdSequence attach(EmployeeRepository<Integer> repository, Path path, int blockSize) throws IOException {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+            long mark = channel.read(buffer, 0) == Long.BYTES ? buffer.flip().getLong() : 1;
+            int first = firstFreeId(repository, (int) Math.min(Math.max(mark, 1), Integer.MAX_VALUE));
+            EmployeeIdSequence sequence = new EmployeeIdSequence(first, first, channel, blockSize);
+            sequence.listenTo(repository);
+            return sequence;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static int firstFreeId(EmployeeRepository<Integer> repository, int atLeast) {
+        int highest = repository.stream().mapToInt(Employee::getEmployeeId).max().orElse(0);
+        return Math.max(atLeast, highest + 1);
+    }
+
+    private void listenTo(EmployeeRepository<Integer> repository) {
+        this.repository = repository;
+        repository.addChangeListener(this);
+    }
+
+    /**
+     * Returns a new ID, never returned before by this sequence nor used by a saved employee.
+     *
+     * @return the new ID
+     * @throws UncheckedIOException if the high-water mark cannot be persisted
+     * @throws IllegalStateException if the IDs are exhausted
+     */
+    public int next() {
+        return reserve(1);
+    }
+
+    /**
+     * Reserves a block of consecutive new IDs, for example for a bulk load.
+     *
+     * @param count the number of IDs to reserve
+     * @return the first ID of the block; the block ends at {@code first + count - 1}
+     * @throws IllegalArgumentException if the count is not positive
+     * @throws UncheckedIOException if the high-water mark cannot be persisted
+     * @throws IllegalStateException if the IDs are exhausted
+     */
+    public int reserve(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        int first = next.getAndAdd(count);
+        long end = (long) first + count;
+        if (first <= 0 || end - 1 > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Employee IDs exhausted");
+        }
+        if (end > limit) {
+            extendMark(end);
+        }
+        return first;
+    }
+
+    private synchronized void extendMark(long end) {
+        if (end <= limit) {
+            return;
+        }
+        long mark = end + blockSize;
+        try {
+            markBuffer.clear().putLong(mark).flip();
+            while (markBuffer.hasRemaining()) {
+                channel.write(markBuffer, markBuffer.position());
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to persist the employee ID high-water mark", e);
+        }
+        limit = mark;
+    }
+
+    @Override
+    public void onChange(Employee<Integer> before, Employee<Integer> after) {
+        if (after != null) {
+            advancePast(after.getEmployeeId());
+        }
+    }
+
+    @Override
+    public void onBulkUpdate(List<Employee<Integer>> before, List<Employee<Integer>> after) {
+        int highest = 0;
+        for (Employee<Integer> employee : after) {
+            highest = Math.max(highest, employee.getEmployeeId());
+        }
+        advancePast(highest);
+    }
+
+    private void advancePast(int employeeId) {
+        if (employeeId >= next.get() && employeeId < Integer.MAX_VALUE) {
+            next.accumulateAndGet(employeeId + 1, Math::max);
+        }
+    }
+
+    /**
+     * Stops following the repository and closes the high-water mark file, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        if (repository != null) {
+            repository.removeChangeListener(this);
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+}
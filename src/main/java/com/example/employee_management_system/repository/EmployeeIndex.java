@@ -0,0 +1,376 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Secondary index mapping an attribute of {@code Employee} to the employees holding it.
+ * Remembers the key each employee was indexed under, so an entry can be moved or removed
+ * even after the employee object has been changed in place.
+ * <p>
+ * A sorted index orders the employees sharing a key by ID and also holds the employees whose key is
+ * {@code null}, so it defines a total order over all employees, by key and then by ID, with the
+ * {@code null} keys last. {@link #findAfter} pages through that order from any position.
+ * Only employees with {@link Comparable} IDs can be kept in a sorted index.
+ * <p>
+ * A sorted index keeps its keys from the greatest down: a skip list only moves forward in constant
+ * time per step, and most reads, such as the top employees and the descending sort orders, start at the
+ * greatest key. Ascending range lookups collect the buckets forward and add them in reverse.
+ * <p>
+ * Reads never block. Writes for the same employee ID must be serialized by the caller;
+ * writes for different IDs may run concurrently.
+ *
+ * @param <K> the type of the indexed attribute
+ * @param <T> the type of the employee ID
+ */
+class EmployeeIndex<K, T> {
+    // Stands for the null key in keysById, which cannot hold null values
+    private static final Object NULL_KEY = new Object();
+
+    private final Function<Employee<T>, K> keyExtractor;
+    private final ConcurrentMap<K, Bucket<T>> entries;
+    private final Map<T, Object> keysById;
+    private final boolean sorted;
+    // Employees whose key is null; only kept by sorted indexes
+    private final Bucket<T> unkeyed;
+
+    private EmployeeIndex(Function<Employee<T>, K> keyExtractor, ConcurrentMap<K, Bucket<T>> entries, boolean sorted) {
+        this(keyExtractor, entries, new ConcurrentHashMap<>(), sorted, sorted ? new Bucket<>(true) : null);
+    }
+
+    private EmployeeIndex(Function<Employee<T>, K> keyExtractor, ConcurrentMap<K, Bucket<T>> entries,
+                          Map<T, Object> keysById, boolean sorted, Bucket<T> unkeyed) {
+        this.keyExtractor = keyExtractor;
+        this.entries = entries;
+        this.keysById = keysById;
+        this.sorted = sorted;
+        this.unkeyed = unkeyed;
+    }
+
+    /**
+     * Creates an index supporting equality lookups only.
+     */
+    static <K, T> EmployeeIndex<K, T> hashed(Function<Employee<T>, K> keyExtractor) {
+        return new EmployeeIndex<>(keyExtractor, new ConcurrentHashMap<>(), false);
+    }
+
+    /**
+     * Creates an index supporting equality and range lookups and paging in key order.
+     */
+    static <K extends Comparable<K>, T extends Comparable<? super T>> EmployeeIndex<K, T> sorted(Function<Employee<T>, K> keyExtractor) {
+        return new EmployeeIndex<>(keyExtractor, new ConcurrentSkipListMap<>(Comparator.<K>reverseOrder()), true);
+    }
+
+    /**
+     * Returns a new index of the same kind holding the employees, built in one pass. A sorted index
+     * sorts the employees by key up front and appends each bucket, and each employee within it, in
+     * order, which keeps every skip list insert next to the previous one.
+     *
+     * @param employees employees with distinct IDs, in ascending ID order
+     */
+    @SuppressWarnings("unchecked")
+    EmployeeIndex<K, T> withAll(List<Employee<T>> employees) {
+        Map<T, Object> keys = new ConcurrentHashMap<>(employees.size() * 4 / 3 + 1);
+        if (!sorted) {
+            Map<K, Map<T, Employee<T>>> groups = new HashMap<>();
+            for (Employee<T> employee : employees) {
+                K key = keyExtractor.apply(employee);
+                if (key != null) {
+                    groups.computeIfAbsent(key, k -> new HashMap<>()).put(employee.getEmployeeId(), employee);
+                    keys.put(employee.getEmployeeId(), key);
+                }
+            }
+            ConcurrentMap<K, Bucket<T>> buckets = new ConcurrentHashMap<>(groups.size() * 4 / 3 + 1);
+            groups.forEach((key, group) -> buckets.put(key, new Bucket<>(new ConcurrentHashMap<>(group))));
+            return new EmployeeIndex<>(keyExtractor, buckets, keys, false, null);
+        }
+
+        Comparator<? super K> order = sortedEntries().comparator();
+        List<Employee<T>> keyed = new ArrayList<>(employees.size());
+        ConcurrentSkipListMap<T, Employee<T>> unkeyed = new ConcurrentSkipListMap<>();
+        for (Employee<T> employee : employees) {
+            if (keyExtractor.apply(employee) != null) {
+                keyed.add(employee);
+            } else {
+                unkeyed.put(employee.getEmployeeId(), employee);
+                keys.put(employee.getEmployeeId(), NULL_KEY);
+            }
+        }
+        Employee<T>[] byKey = keyed.toArray(length -> (Employee<T>[]) new Employee<?>[length]);
+        // The sort is stable, so the employees sharing a key stay in ID order
+        Arrays.parallelSort(byKey, (a, b) -> order.compare(keyExtractor.apply(a), keyExtractor.apply(b)));
+
+        ConcurrentSkipListMap<K, Bucket<T>> buckets = new ConcurrentSkipListMap<>(order);
+        for (int start = 0; start < byKey.length; ) {
+            K key = keyExtractor.apply(byKey[start]);
+            int end = start + 1;
+            while (end < byKey.length && order.compare(keyExtractor.apply(byKey[end]), key) == 0) {
+                end++;
+            }
+            ConcurrentSkipListMap<T, Employee<T>> bucket = new ConcurrentSkipListMap<>();
+            for (int i = start; i < end; i++) {
+                bucket.put(byKey[i].getEmployeeId(), byKey[i]);
+                keys.put(byKey[i].getEmployeeId(), key);
+            }
+            buckets.put(key, new Bucket<>(bucket));
+            start = end;
+        }
+        return new EmployeeIndex<>(keyExtractor, buckets, keys, true, new Bucket<>(unkeyed));
+    }
+
+    /**
+     * Indexes the employee under its current key, replacing any previous entry for the same ID.
+     * Employees whose key is {@code null} are only kept by sorted indexes, apart from every key.
+     *
+     * @param employee the employee to index
+     */
+    void put(Employee<T> employee) {
+        T employeeId = employee.getEmployeeId();
+        K key = keyExtractor.apply(employee);
+        if (replace(employeeId, key, employee)) {
+            return;
+        }
+        remove(employeeId);
+
+        if (key == null) {
+            if (sorted) {
+                unkeyed.employees.put(employeeId, employee);
+                keysById.put(employeeId, NULL_KEY);
+            }
+            return;
+        }
+        while (true) {
+            Bucket<T> bucket = entries.computeIfAbsent(key, k -> new Bucket<>(sorted));
+            synchronized (bucket) {
+                if (!bucket.removed) {
+                    bucket.employees.put(employeeId, employee);
+                    break;
+                }
+            }
+        }
+        keysById.put(employeeId, key);
+    }
+
+    /**
+     * Replaces the employee's entry in place if it is already indexed under {@code key}, so that
+     * rewriting an employee without changing its key neither empties nor recreates its bucket.
+     *
+     * @return {@code true} if the entry was replaced
+     */
+    private boolean replace(T employeeId, K key, Employee<T> employee) {
+        Object keyBefore = keysById.get(employeeId);
+        if (keyBefore == null || !(key == null ? keyBefore == NULL_KEY : key.equals(keyBefore))) {
+            return false;
+        }
+        if (key == null) {
+            unkeyed.employees.put(employeeId, employee);
+            return true;
+        }
+        // The bucket holds this ID and writes for the same ID are serialized, so it cannot be removed
+        Bucket<T> bucket = entries.get(key);
+        synchronized (bucket) {
+            bucket.employees.put(employeeId, employee);
+        }
+        return true;
+    }
+
+    void remove(T employeeId) {
+        Object key = keysById.remove(employeeId);
+        if (key == null) {
+            return;
+        }
+        if (key == NULL_KEY) {
+            unkeyed.employees.remove(employeeId);
+            return;
+        }
+        Bucket<T> bucket = entries.get(key);
+        synchronized (bucket) {
+            bucket.employees.remove(employeeId);
+            if (bucket.employees.isEmpty()) {
+                bucket.removed = true;
+                entries.remove(key, bucket);
+            }
+        }
+    }
+
+    List<Employee<T>> find(K key) {
+        Bucket<T> bucket = entries.get(key);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.employees.values());
+    }
+
+    /**
+     * Returns the employees whose key lies between {@code from} and {@code to}, both inclusive.
+     * {@code from} must not be greater than {@code to}.
+     * Only valid on indexes created with {@link #sorted}.
+     */
+    List<Employee<T>> findRange(K from, K to) {
+        return collectAscending(range(from, to));
+    }
+
+    /**
+     * Returns the employees whose key is greater than or equal to {@code from}.
+     * Only valid on indexes created with {@link #sorted}.
+     */
+    List<Employee<T>> findFrom(K from) {
+        return collectAscending(range(from, null));
+    }
+
+    /**
+     * Returns up to {@code limit} employees with the greatest keys, greatest first.
+     * Runs in time proportional to {@code limit}, not to the size of the index.
+     * Only valid on indexes created with {@link #sorted}.
+     */
+    List<Employee<T>> findHighest(int limit) {
+        List<Employee<T>> result = new ArrayList<>(Math.max(0, Math.min(limit, keysById.size())));
+        for (Bucket<T> bucket : sortedEntries().values()) {
+            for (Employee<T> employee : bucket.employees.values()) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of employees indexed under the key, in constant time.
+     */
+    int count(K key) {
+        Bucket<T> bucket = entries.get(key);
+        return bucket == null ? 0 : bucket.employees.size();
+    }
+
+    /**
+     * Counts the employees whose key lies between {@code from} and {@code to}, both inclusive, where a
+     * {@code null} bound leaves that side open. Stops counting once more than {@code cap} are found,
+     * so the cost of counting a wide range is bounded by {@code cap}.
+     * Only valid on indexes created with {@link #sorted}.
+     *
+     * @return the number of employees in the range, or a number greater than {@code cap}
+     */
+    long countRange(K from, K to, long cap) {
+        long count = 0;
+        for (Bucket<T> bucket : range(from, to).values()) {
+            count += bucket.employees.size();
+            if (count > cap) {
+                break;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a lazy, weakly consistent stream of the employees indexed under the key.
+     */
+    Stream<Employee<T>> stream(K key) {
+        Bucket<T> bucket = entries.get(key);
+        return bucket == null ? Stream.empty() : bucket.employees.values().stream();
+    }
+
+    /**
+     * Returns a lazy, weakly consistent stream of the employees whose key lies between {@code from}
+     * and {@code to}, both inclusive, ordered by key. A {@code null} bound leaves that side open.
+     * Only the buckets the stream actually reaches are visited, so a stream limited to a few
+     * employees costs time proportional to them, not to the range.
+     * Only valid on indexes created with {@link #sorted}.
+     */
+    Stream<Employee<T>> streamRange(K from, K to, boolean descending) {
+        NavigableMap<K, Bucket<T>> range = range(from, to);
+        return (descending ? range : range.descendingMap()).values().stream()
+                .mapMulti((bucket, downstream) -> bucket.employees.values().forEach(downstream));
+    }
+
+    /**
+     * Returns up to {@code limit} employees in the order of the index, by key and then by ID, with the
+     * employees whose key is {@code null} last. Starts right after the position of the employee with
+     * the given key and ID, whether or not that employee is still indexed, or at the beginning if
+     * {@code employeeId} is {@code null}. Runs in O(log n + limit) time.
+     * Only valid on indexes created with {@link #sorted}.
+     *
+     * @param descending whether keys are visited from the greatest; IDs are always ascending
+     */
+    List<Employee<T>> findAfter(K key, T employeeId, boolean descending, int limit) {
+        List<Employee<T>> result = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        if (employeeId == null || key != null) {
+            NavigableMap<K, Bucket<T>> buckets = descending ? sortedEntries() : sortedEntries().descendingMap();
+            if (employeeId != null) {
+                Bucket<T> current = entries.get(key);
+                if (current != null) {
+                    addAfter(current, employeeId, result, limit);
+                }
+                buckets = buckets.tailMap(key, false);
+            }
+            for (Bucket<T> bucket : buckets.values()) {
+                if (result.size() >= limit) {
+                    return result;
+                }
+                addAfter(bucket, null, result, limit);
+            }
+            employeeId = null;
+        }
+        addAfter(unkeyed, employeeId, result, limit);
+        return result;
+    }
+
+    private void addAfter(Bucket<T> bucket, T employeeId, List<Employee<T>> result, int limit) {
+        NavigableMap<T, Employee<T>> employees = (NavigableMap<T, Employee<T>>) bucket.employees;
+        for (Employee<T> employee : (employeeId == null ? employees : employees.tailMap(employeeId, false)).values()) {
+            if (result.size() >= limit) {
+                return;
+            }
+            result.add(employee);
+        }
+    }
+
+    /**
+     * Returns the buckets whose key lies between {@code from} and {@code to}, greatest key first.
+     */
+    private NavigableMap<K, Bucket<T>> range(K from, K to) {
+        ConcurrentNavigableMap<K, Bucket<T>> range = sortedEntries();
+        if (to != null) {
+            range = range.tailMap(to, true);
+        }
+        if (from != null) {
+            range = range.headMap(from, true);
+        }
+        return range;
+    }
+
+    private ConcurrentNavigableMap<K, Bucket<T>> sortedEntries() {
+        return (ConcurrentNavigableMap<K, Bucket<T>>) entries;
+    }
+
+    private List<Employee<T>> collectAscending(NavigableMap<K, Bucket<T>> range) {
+        List<Bucket<T>> buckets = new ArrayList<>(range.values());
+        List<Employee<T>> result = new ArrayList<>();
+        for (int i = buckets.size() - 1; i >= 0; i--) {
+            result.addAll(buckets.get(i).employees.values());
+        }
+        return result;
+    }
+
+    /**
+     * Employees sharing one key, ordered by ID in a sorted index. A bucket is marked removed under its
+     * own lock before it is unlinked, so a concurrent writer never adds to a bucket that is no longer
+     * reachable.
+     */
+    private static final class Bucket<T> {
+        private final Map<T, Employee<T>> employees;
+        private boolean removed;
+
+        private Bucket(boolean sorted) {
+            this.employees = sorted ? new ConcurrentSkipListMap<>() : new ConcurrentHashMap<>();
+        }
+
+        private Bucket(Map<T, Employee<T>> employees) {
+            this.employees = employees;
+        }
+    }
+}
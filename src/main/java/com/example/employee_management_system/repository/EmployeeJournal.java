@@ -0,0 +1,45 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.List;
+
+/**
+ * Records every change to an {@link EmployeeRepository} before the change is applied, such as a
+ * write-ahead log; set with {@link EmployeeRepository#setJournal}.
+ * <p>
+ * The repository calls {@code append} or {@code appendBulk} while it holds the locks of the change, so
+ * records of the same employee are appended in the order the changes are applied, and these methods
+ * should only queue the record. An exception thrown from them rejects the change, which is then not
+ * applied. Once the locks are released, the repository calls {@link #awaitDurable} with the returned
+ * ticket, so writers wait for their record without holding up other writers.
+ *
+ * @param <T> the type of the employee ID
+ */
+public interface EmployeeJournal<T> {
+    /**
+     * Records a save or a delete about to be applied.
+     *
+     * @param employeeId the ID of the employee changed
+     * @param after the employee to be saved, or {@code null} for a delete
+     * @return the positive ticket to wait for the record with
+     */
+    long append(T employeeId, Employee<T> after);
+
+    /**
+     * Records a bulk change about to be applied, such as from {@link EmployeeRepository#saveAll} or
+     * {@link EmployeeRepository#updateAll}, to be replayed completely or not at all.
+     *
+     * @param after the employees to be saved
+     * @return the positive ticket to wait for the record with
+     */
+    long appendBulk(List<Employee<T>> after);
+
+    /**
+     * Waits until the record of the ticket, and every record appended before it, is durable.
+     *
+     * @param ticket a ticket returned by {@code append} or {@code appendBulk}
+     * @throws java.io.UncheckedIOException if the record could not be made durable; the change has
+     *                                      already been applied in memory
+     */
+    void awaitDurable(long ticket);
+}
@@ -0,0 +1,32 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.List;
+
+/**
+ * One page of employees returned by {@link EmployeeRepository#findPage}, with the cursor to fetch
+ * the next one.
+ *
+ * @param <T> the type of the employee ID
+ */
+public final class EmployeePage<T> {
+    private final List<Employee<T>> employees;
+    private final EmployeeCursor<T> nextCursor;
+
+    EmployeePage(List<Employee<T>> employees, EmployeeCursor<T> nextCursor) {
+        this.employees = employees;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return the employees of this page, in page order
+     */
+    public List<Employee<T>> getEmployees() { return employees; }
+
+    /**
+     * @return the cursor after the last employee of this page, or {@code null} if this is the last page
+     */
+    public EmployeeCursor<T> getNextCursor() { return nextCursor; }
+
+    public boolean hasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,259 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * An immutable query combining criteria on several employee attributes, with an optional order and
+ * limit. Every criterion left unset matches all employees; an employee matches the query if it matches
+ * every criterion set. Ranges are inclusive, and an employee whose attribute is {@code null} never
+ * matches a criterion on that attribute.
+ * <p>
+ * Queries are built with {@link #builder()} and run with {@link EmployeeRepository#find(EmployeeQuery)},
+ * which chooses an index to start from and how to apply the order and limit; see {@link QueryPlan}.
+ */
+public final class EmployeeQuery {
+    /**
+     * The order of a query's results. Employees whose attribute is {@code null} come last.
+     */
+    public enum Order {
+        SALARY_ASCENDING(Employee::getSalary, false),
+        SALARY_DESCENDING(Employee::getSalary, true),
+        RATING_ASCENDING(Employee::getPerformanceRating, false),
+        RATING_DESCENDING(Employee::getPerformanceRating, true),
+        EXPERIENCE_ASCENDING(Employee::getYearsOfExperience, false),
+        EXPERIENCE_DESCENDING(Employee::getYearsOfExperience, true),
+        NAME(employee -> normalize(employee.getName()), false);
+
+        private final Function<Employee<?>, ? extends Comparable<?>> attribute;
+        private final boolean descending;
+
+        Order(Function<Employee<?>, ? extends Comparable<?>> attribute, boolean descending) {
+            this.attribute = attribute;
+            this.descending = descending;
+        }
+
+        public boolean isDescending() {
+            return descending;
+        }
+
+        /**
+         * @return a comparator putting employees in this order
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public <T> Comparator<Employee<T>> comparator() {
+            Comparator<Comparable> values = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+            return Comparator.comparing(employee -> (Comparable) attribute.apply(employee),
+                    Comparator.nullsLast(values));
+        }
+    }
+
+    public static final int NO_LIMIT = Integer.MAX_VALUE;
+
+    private final String department;
+    private final Double minSalary;
+    private final Double maxSalary;
+    private final Double minRating;
+    private final Double maxRating;
+    private final Integer minExperience;
+    private final Integer maxExperience;
+    private final Boolean active;
+    private final String nameContains;
+    private final Order order;
+    private final int limit;
+
+    private EmployeeQuery(Builder builder) {
+        this.department = builder.department;
+        this.minSalary = builder.minSalary;
+        this.maxSalary = builder.maxSalary;
+        this.minRating = builder.minRating;
+        this.maxRating = builder.maxRating;
+        this.minExperience = builder.minExperience;
+        this.maxExperience = builder.maxExperience;
+        this.active = builder.active;
+        this.nameContains = builder.nameContains;
+        this.order = builder.order;
+        this.limit = builder.limit;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String getDepartment() { return department; }
+    public Double getMinSalary() { return minSalary; }
+    public Double getMaxSalary() { return maxSalary; }
+    public Double getMinRating() { return minRating; }
+    public Double getMaxRating() { return maxRating; }
+    public Integer getMinExperience() { return minExperience; }
+    public Integer getMaxExperience() { return maxExperience; }
+    public Boolean getActive() { return active; }
+    public String getNameContains() { return nameContains; }
+    public Order getOrder() { return order; }
+    public int getLimit() { return limit; }
+
+    public boolean hasDepartment() { return department != null; }
+    public boolean hasSalaryRange() { return minSalary != null || maxSalary != null; }
+    public boolean hasRatingRange() { return minRating != null || maxRating != null; }
+    public boolean hasExperienceRange() { return minExperience != null || maxExperience != null; }
+    public boolean hasActive() { return active != null; }
+    public boolean hasNameContains() { return nameContains != null; }
+    public boolean hasLimit() { return limit != NO_LIMIT; }
+
+    /**
+     * Tests every criterion of the query against one employee, ignoring the order and limit.
+     *
+     * @param employee the employee to test
+     * @return {@code true} if the employee matches every criterion set
+     */
+    public boolean matches(Employee<?> employee) {
+        return matchesDepartment(employee) && matchesSalary(employee) && matchesRating(employee)
+                && matchesExperience(employee) && matchesActive(employee) && matchesName(employee);
+    }
+
+    boolean matchesDepartment(Employee<?> employee) {
+        return department == null || department.equalsIgnoreCase(employee.getDepartment());
+    }
+
+    boolean matchesSalary(Employee<?> employee) {
+        return !hasSalaryRange() || inRange(employee.getSalary(), minSalary, maxSalary);
+    }
+
+    boolean matchesRating(Employee<?> employee) {
+        return !hasRatingRange() || inRange(employee.getPerformanceRating(), minRating, maxRating);
+    }
+
+    boolean matchesExperience(Employee<?> employee) {
+        return !hasExperienceRange() || inRange(employee.getYearsOfExperience(), minExperience, maxExperience);
+    }
+
+    boolean matchesActive(Employee<?> employee) {
+        return active == null || active == employee.isActive();
+    }
+
+    boolean matchesName(Employee<?> employee) {
+        String name = normalize(employee.getName());
+        return nameContains == null || (name != null && name.contains(nameContains));
+    }
+
+    private static <V extends Comparable<V>> boolean inRange(V value, V min, V max) {
+        return value != null && (min == null || value.compareTo(min) >= 0) && (max == null || value.compareTo(max) <= 0);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("EmployeeQuery{");
+        if (department != null) sb.append("department=").append(department).append(", ");
+        if (hasSalaryRange()) sb.append("salary=[").append(minSalary).append(", ").append(maxSalary).append("], ");
+        if (hasRatingRange()) sb.append("rating=[").append(minRating).append(", ").append(maxRating).append("], ");
+        if (hasExperienceRange()) sb.append("experience=[").append(minExperience).append(", ").append(maxExperience).append("], ");
+        if (active != null) sb.append("active=").append(active).append(", ");
+        if (nameContains != null) sb.append("nameContains=").append(nameContains).append(", ");
+        if (order != null) sb.append("order=").append(order).append(", ");
+        if (hasLimit()) sb.append("limit=").append(limit).append(", ");
+        if (sb.charAt(sb.length() - 1) == ' ') {
+            sb.setLength(sb.length() - 2);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Builds an {@link EmployeeQuery}. A {@code null} bound leaves that side of a range open.
+     */
+    public static final class Builder {
+        private String department;
+        private Double minSalary;
+        private Double maxSalary;
+        private Double minRating;
+        private Double maxRating;
+        private Integer minExperience;
+        private Integer maxExperience;
+        private Boolean active;
+        private String nameContains;
+        private Order order;
+        private int limit = NO_LIMIT;
+
+        private Builder() {
+        }
+
+        /**
+         * Matches employees of the department, ignoring case.
+         */
+        public Builder department(String department) {
+            this.department = department;
+            return this;
+        }
+
+        public Builder salaryBetween(Double min, Double max) {
+            checkRange(min, max, "salary");
+            this.minSalary = min;
+            this.maxSalary = max;
+            return this;
+        }
+
+        public Builder ratingBetween(Double min, Double max) {
+            checkRange(min, max, "rating");
+            this.minRating = min;
+            this.maxRating = max;
+            return this;
+        }
+
+        public Builder minRating(double min) {
+            return ratingBetween(min, null);
+        }
+
+        public Builder experienceBetween(Integer min, Integer max) {
+            checkRange(min, max, "experience");
+            this.minExperience = min;
+            this.maxExperience = max;
+            return this;
+        }
+
+        public Builder active(Boolean active) {
+            this.active = active;
+            return this;
+        }
+
+        /**
+         * Matches employees whose name contains the text, ignoring case.
+         */
+        public Builder nameContains(String text) {
+            this.nameContains = normalize(text);
+            return this;
+        }
+
+        public Builder orderBy(Order order) {
+            this.order = order;
+            return this;
+        }
+
+        /**
+         * Returns at most {@code limit} employees; the first ones in the query's order, if it has one.
+         *
+         * @throws IllegalArgumentException if the limit is not positive
+         */
+        public Builder limit(int limit) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("Limit must be positive");
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        public EmployeeQuery build() {
+            return new EmployeeQuery(this);
+        }
+
+        private static <V extends Comparable<V>> void checkRange(V min, V max, String attribute) {
+            if (min != null && max != null && min.compareTo(max) > 0) {
+                throw new IllegalArgumentException("Minimum " + attribute + " cannot be greater than maximum");
+            }
+        }
+    }
+}
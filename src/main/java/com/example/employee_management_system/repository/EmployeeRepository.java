@@ -2,43 +2,753 @@ package com.example.employee_management_system.repository;
 
 import com.example.employee_management_system.domain.Employee;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Generic repository class for storing and managing {@code Employee} entities.
- * This class provides basic CRUD operations using an in-memory {@code HashMap} storage.
+ * This class provides basic CRUD operations over an in-memory immutable hash trie of the employees by ID,
+ * which every write replaces with a new version; {@link IntEmployeeRepository} adds lookups by {@code int}
+ * ID in an open-addressing table that do not box the ID.
+ * Secondary indexes on department, salary, performance rating, experience and name are kept up to date
+ * on every {@link #save} and {@link #delete}, so lookups on those attributes do not scan the storage,
+ * {@link #findPage} pages through the employees by ID or by a sorted index, and {@link #findAllSorted}
+ * exposes such an order over a snapshot as a list, without sorting anything unless writes intervene.
+ * <p>
+ * The repository is safe for use by multiple threads. Reads never block. Lookups by ID and iteration
+ * read the version of the employees current when they start, so iterators never throw
+ * {@link ConcurrentModificationException} and see every employee exactly once; index lookups read the
+ * live indexes. Writes lock only the stripe their employee ID hashes to, so writes to different
+ * employees mostly proceed in parallel. The repository stores read-only copies of
+ * the employees it is given, and the employees it returns are shared with other readers, so their
+ * setters throw {@link UnsupportedOperationException}: to change an employee, save a modified copy.
+ * <p>
+ * {@link #updateAll} changes many employees atomically: readers see either none or all of the change.
+ * {@link #saveAll} saves a batch of employees in parallel with a single listener notification.
+ * {@link #load} fills an empty repository in one pass, for startup.
+ * {@link #snapshot()} returns a lock-free view of the employees that later writes do not change,
+ * for reads that must see a single state of the repository.
+ * <p>
+ * Registered {@link EmployeeChangeListener}s are notified of every change. Running
+ * {@link EmployeeStatistics} are always attached and available from {@link #getStatistics()}.
+ * An {@link EmployeeJournal} set with {@link #setJournal} records every change before it is applied,
+ * and writers wait for their record to be durable after releasing their locks.
  *
- * @param <T> the type of the employee ID
+ * @param <T> the type of the employee ID, comparable as the indexes keep employees in ID order
  */
-public class EmployeeRepository<T> {
-    private final Map<T, Employee<T>> database = new HashMap<>();
+public class EmployeeRepository<T extends Comparable<? super T>> {
+    private static final int LOCK_STRIPES = 64;
+
+    // Creates the map each generation also keeps the employees by ID in, or null if there is none
+    private final IntFunction<Map<T, Employee<T>>> idMaps;
+    private volatile EmployeeStorage<T> storage;
+    // Single writes share this lock, bulk updates hold it exclusively; readers never take it
+    private final ReadWriteLock bulkLock = new ReentrantReadWriteLock();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    // Replaced on every change, so a write notifies and later calls back the listeners it read once
+    private volatile EmployeeChangeListener<T>[] listeners;
+    private final EmployeeStatistics<T> statistics = new EmployeeStatistics<>();
+    private volatile EmployeeJournal<T> journal;
+    // Writes that have started and finished changing the storage, so readers can tell whether any ran
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicLong writesFinished = new AtomicLong();
+
+    public EmployeeRepository() {
+        this(null);
+    }
 
     /**
-     * Saves an employee to the repository.
+     * @param idMaps creates the concurrent map in which each generation also keeps the employees by
+     *               ID, given the expected number of employees, or {@code null} to look them up in
+     *               the trie only
+     */
+    EmployeeRepository(IntFunction<Map<T, Employee<T>>> idMaps) {
+        this.idMaps = idMaps;
+        this.storage = new EmployeeStorage<>(idMap(0));
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        this.listeners = listenersOf(statistics);
+    }
+
+    /**
+     * Saves a copy of an employee to the repository, so later changes to the given instance do not affect it.
      *
      * @param employee the employee to be saved
-     * @return {@code true} if the employee was successfully saved, {@code false} otherwise
+     * @return {@code true} if the employee was successfully saved, {@code false} if it or its ID is {@code null}
      */
     public boolean save(Employee<T> employee) {
-        if (employee == null) {
+        if (employee == null || employee.getEmployeeId() == null) {
             return false;
         }
-        database.put(employee.getEmployeeId(), employee);
+        Employee<T> copy = new Employee<>(employee).freeze();
+        EmployeeJournal<T> journal;
+        long ticket = 0;
+        EmployeeChangeListener<T>[] notified = null;
+        bulkLock.readLock().lock();
+        try {
+            notified = listeners;
+            journal = this.journal;
+            synchronized (lockFor(copy.getEmployeeId())) {
+                if (journal != null) {
+                    ticket = journal.append(copy.getEmployeeId(), copy);
+                }
+                writesStarted.incrementAndGet();
+                try {
+                    Employee<T> before = storage.put(copy);
+                    notifyListeners(notified, before, copy);
+                } finally {
+                    writesFinished.incrementAndGet();
+                }
+            }
+        } finally {
+            bulkLock.readLock().unlock();
+            afterUnlock(notified);
+        }
+        awaitDurable(journal, ticket);
         return true;
     }
 
+    /**
+     * Saves many employees as one batch.
+     * <p>
+     * The batch is indexed in parallel while single writes wait, and listeners are notified once through
+     * {@link EmployeeChangeListener#onBulkUpdate}. Unlike {@link #updateAll}, the batch is written into the
+     * current indexes rather than a copy, so index lookups may see part of it while it is being saved;
+     * lookups by ID see all of it once it is saved.
+     * If the batch holds several employees with the same ID, the last one is saved.
+     *
+     * @param employees the employees to be saved; {@code null} employees and IDs are skipped
+     * @return the number of employees saved
+     */
+    public int saveAll(Collection<? extends Employee<T>> employees) {
+        Map<T, Employee<T>> batch = new LinkedHashMap<>(employees.size() * 4 / 3 + 1);
+        for (Employee<T> employee : employees) {
+            if (employee != null && employee.getEmployeeId() != null) {
+                batch.put(employee.getEmployeeId(), new Employee<>(employee).freeze());
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Employee<T>> after = new ArrayList<>(batch.values());
+        List<Employee<T>> before = new ArrayList<>(Collections.nCopies(after.size(), null));
+        EmployeeJournal<T> journal;
+        long ticket = 0;
+
+        EmployeeChangeListener<T>[] notified = null;
+        bulkLock.writeLock().lock();
+        try {
+            notified = listeners;
+            journal = this.journal;
+            if (journal != null) {
+                ticket = journal.appendBulk(after);
+            }
+            EmployeeStorage<T> current = storage;
+            PersistentEmployeeMap<T> version = current.employees.get();
+            writesStarted.incrementAndGet();
+            try {
+                IntStream.range(0, after.size()).parallel().forEach(i -> {
+                    Employee<T> employee = after.get(i);
+                    Employee<T> previous = version.get(employee.getEmployeeId());
+                    before.set(i, previous);
+                    current.index(employee, previous);
+                });
+                current.employees.set(withBatch(version, batch));
+                for (EmployeeChangeListener<T> listener : notified) {
+                    listener.onBulkUpdate(before, after);
+                }
+            } finally {
+                writesFinished.incrementAndGet();
+            }
+        } finally {
+            bulkLock.writeLock().unlock();
+            afterUnlock(notified);
+        }
+        awaitDurable(journal, ticket);
+        return after.size();
+    }
+
+    /**
+     * Loads employees into an empty repository, building its contents in one pass rather than one write
+     * per employee: the trie of employees by ID with one bulk build and each index from the employees
+     * grouped up front, in parallel. The contents are published in one step, and listeners are notified
+     * once through {@link EmployeeChangeListener#onBulkUpdate}. If several employees have the same ID,
+     * the last one is loaded.
+     *
+     * @param employees the employees to load, which are stored as is and made read-only;
+     *                  {@code null} employees and IDs are skipped
+     * @return the number of employees loaded
+     * @throws IllegalStateException if the repository is not empty
+     */
+    public int load(Collection<? extends Employee<T>> employees) {
+        List<Employee<T>> sorted = employees.parallelStream()
+                .filter(employee -> employee != null && employee.getEmployeeId() != null)
+                .<Employee<T>>map(employee -> employee)
+                .sorted((a, b) -> a.getEmployeeId().compareTo(b.getEmployeeId()))
+                .toList();
+        List<Employee<T>> loaded = new ArrayList<>(sorted.size());
+        for (Employee<T> employee : sorted) {
+            int last = loaded.size() - 1;
+            if (last >= 0 && loaded.get(last).getEmployeeId().equals(employee.getEmployeeId())) {
+                loaded.set(last, employee);
+            } else {
+                loaded.add(employee);
+            }
+        }
+
+        EmployeeJournal<T> journal;
+        long ticket = 0;
+        EmployeeChangeListener<T>[] notified = null;
+        bulkLock.writeLock().lock();
+        try {
+            notified = listeners;
+            if (storage.employees.get().size() > 0) {
+                throw new IllegalStateException("Employees can only be loaded into an empty repository");
+            }
+            loaded.forEach(Employee::freeze);
+            journal = this.journal;
+            if (journal != null && !loaded.isEmpty()) {
+                ticket = journal.appendBulk(loaded);
+            }
+            EmployeeStorage<T> next = new EmployeeStorage<>(loaded, idMap(loaded.size()));
+            writesStarted.incrementAndGet();
+            try {
+                storage = next;
+                List<Employee<T>> before = Collections.nCopies(loaded.size(), null);
+                for (EmployeeChangeListener<T> listener : notified) {
+                    listener.onBulkUpdate(before, loaded);
+                }
+            } finally {
+                writesFinished.incrementAndGet();
+            }
+        } finally {
+            bulkLock.writeLock().unlock();
+            afterUnlock(notified);
+        }
+        awaitDurable(journal, ticket);
+        return loaded.size();
+    }
+
     public boolean delete(T employeeId) {
-        return database.remove(employeeId) != null;
+        if (employeeId == null) {
+            return false;
+        }
+        EmployeeJournal<T> journal;
+        long ticket = 0;
+        EmployeeChangeListener<T>[] notified = null;
+        bulkLock.readLock().lock();
+        try {
+            notified = listeners;
+            journal = this.journal;
+            synchronized (lockFor(employeeId)) {
+                if (storage.employees.get().get(employeeId) == null) {
+                    return false;
+                }
+                if (journal != null) {
+                    ticket = journal.append(employeeId, null);
+                }
+                writesStarted.incrementAndGet();
+                try {
+                    Employee<T> before = storage.remove(employeeId);
+                    notifyListeners(notified, before, null);
+                } finally {
+                    writesFinished.incrementAndGet();
+                }
+            }
+        } finally {
+            bulkLock.readLock().unlock();
+            afterUnlock(notified);
+        }
+        awaitDurable(journal, ticket);
+        return true;
+    }
+
+    /**
+     * Replaces every employee matching {@code filter} with the result of {@code update}, atomically.
+     * <p>
+     * The replacements are computed in parallel and then published in a single step: a reader sees
+     * either none or all of them, never a mix. If {@code update} throws for any employee, nothing is
+     * published. Single writes wait while a bulk update runs; readers do not. The repository's
+     * contents are copied into a new generation while the update runs, so it temporarily needs
+     * twice the memory.
+     *
+     * @param filter selects the employees to update
+     * @param update computes the replacement of an employee: a new employee with the same ID, which is stored
+     *               as is and made read-only; must not modify its argument
+     * @return the number of employees replaced
+     * @throws IllegalArgumentException if {@code update} returns {@code null}, its argument, or an employee
+     *                                  with another ID
+     */
+    public int updateAll(Predicate<? super Employee<T>> filter, UnaryOperator<Employee<T>> update) {
+        EmployeeJournal<T> journal;
+        long ticket = 0;
+        int updated;
+        EmployeeChangeListener<T>[] notified = null;
+        bulkLock.writeLock().lock();
+        try {
+            notified = listeners;
+            EmployeeStorage<T> current = storage;
+            PersistentEmployeeMap<T> version = current.employees.get();
+            Map<T, Employee<T>> replacements = version.stream().parallel()
+                    .filter(filter)
+                    .map(employee -> checkReplacement(employee, update.apply(employee)))
+                    .collect(Collectors.toConcurrentMap(Employee::getEmployeeId, e -> e));
+            if (replacements.isEmpty()) {
+                return 0;
+            }
+            List<Employee<T>> after = new ArrayList<>(replacements.values());
+            journal = this.journal;
+            if (journal != null) {
+                ticket = journal.appendBulk(after);
+            }
+
+            List<Employee<T>> employees = version.stream().parallel()
+                    .map(employee -> replacements.getOrDefault(employee.getEmployeeId(), employee))
+                    .toList();
+            EmployeeStorage<T> next = new EmployeeStorage<>(idMap(employees.size()));
+            employees.parallelStream().forEach(employee -> next.index(employee, null));
+            next.employees.set(PersistentEmployeeMap.of(employees));
+            writesStarted.incrementAndGet();
+            try {
+                storage = next;
+                List<Employee<T>> before = new ArrayList<>(after.size());
+                after.forEach(employee -> before.add(version.get(employee.getEmployeeId())));
+                for (EmployeeChangeListener<T> listener : notified) {
+                    listener.onBulkUpdate(before, after);
+                }
+            } finally {
+                writesFinished.incrementAndGet();
+            }
+            updated = after.size();
+        } finally {
+            bulkLock.writeLock().unlock();
+            afterUnlock(notified);
+        }
+        awaitDurable(journal, ticket);
+        return updated;
     }
 
     public Optional<Employee<T>> findById(T employeeId) {
-        return Optional.ofNullable(database.get(employeeId));
+        return employeeId == null ? Optional.empty() : Optional.ofNullable(storage.employees.get().get(employeeId));
     }
 
+    /**
+     * Returns a copy of all stored employees.
+     * Prefer {@link #stream()}, {@link #forEach} or {@link #count} when a copy is not needed.
+     *
+     * @return a new list containing every employee
+     */
     public List<Employee<T>> findAll() {
-        return new ArrayList<>(database.values());
+        PersistentEmployeeMap<T> version = storage.employees.get();
+        List<Employee<T>> all = new ArrayList<>(version.size());
+        version.forEach(all::add);
+        return all;
+    }
+
+    /**
+     * Returns a stream over the employees stored when it is created, without copying them.
+     *
+     * @return a stream of all employees
+     */
+    public Stream<Employee<T>> stream() {
+        return storage.employees.get().stream();
+    }
+
+    /**
+     * Returns a spliterator over the employees stored when it is created, without copying them.
+     * It can be split for parallel traversal.
+     *
+     * @return a spliterator over all employees
+     */
+    public Spliterator<Employee<T>> spliterator() {
+        return storage.employees.get().spliterator();
+    }
+
+    /**
+     * Performs the given action for each stored employee without copying them.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(Consumer<? super Employee<T>> action) {
+        storage.employees.get().forEach(action);
+    }
+
+    /**
+     * Counts the stored employees matching the given predicate without copying them.
+     *
+     * @param predicate the condition to test
+     * @return the number of matching employees
+     */
+    public long count(Predicate<? super Employee<T>> predicate) {
+        long count = 0;
+        for (Employee<T> employee : storage.employees.get()) {
+            if (predicate.test(employee)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return storage.employees.get().size();
+    }
+
+    /**
+     * Finds employees by department (case-insensitive) using the department index.
+     *
+     * @param department the department to look up
+     * @return a list of employees in the given department
+     */
+    public List<Employee<T>> findByDepartment(String department) {
+        if (department == null) {
+            return new ArrayList<>();
+        }
+        return storage.departmentIndex.find(EmployeeStorage.normalizeDepartment(department));
+    }
+
+    /**
+     * Finds employees whose name contains the query (case-insensitive) using the trigram name index.
+     *
+     * @param query the text to look for in employee names
+     * @return a list of matching employees; every employee with a name if the query is empty
+     */
+    public List<Employee<T>> findByNameContaining(String query) {
+        if (query == null) {
+            return new ArrayList<>();
+        }
+        return storage.nameIndex.findContaining(query);
+    }
+
+    /**
+     * Suggests employee names for autocomplete: distinct names having a word that starts with the
+     * prefix (case-insensitive), in alphabetical order of the matched words.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of names to return
+     * @return a list of distinct names
+     */
+    public List<String> suggestNames(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return new ArrayList<>();
+        }
+        return storage.nameIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Finds employees whose salary lies within the given range using the salary index.
+     *
+     * @param min the minimum salary (inclusive)
+     * @param max the maximum salary (inclusive)
+     * @return a list of employees ordered by ascending salary
+     */
+    public List<Employee<T>> findBySalaryRange(double min, double max) {
+        if (min > max) {
+            return new ArrayList<>();
+        }
+        return storage.salaryIndex.findRange(min, max);
+    }
+
+    /**
+     * Finds employees whose performance rating is at least the given value using the rating index.
+     * Employees without a rating are never returned.
+     *
+     * @param minRating the minimum rating (inclusive)
+     * @return a list of employees ordered by ascending rating
+     */
+    public List<Employee<T>> findByMinRating(double minRating) {
+        return storage.ratingIndex.findFrom(minRating);
+    }
+
+    /**
+     * Finds the highest-paid employees from the salary index, which is kept sorted on every write.
+     * Runs in time proportional to {@code limit}, not to the number of employees.
+     *
+     * @param limit the maximum number of employees to return
+     * @return a list of employees ordered by descending salary
+     */
+    public List<Employee<T>> findTopBySalary(int limit) {
+        return storage.salaryIndex.findHighest(limit);
+    }
+
+    /**
+     * Finds the highest-rated employees from the rating index, which is kept sorted on every write.
+     * Runs in time proportional to {@code limit}, not to the number of employees.
+     *
+     * @param limit the maximum number of employees to return
+     * @return a list of employees ordered by descending performance rating
+     */
+    public List<Employee<T>> findTopByRating(int limit) {
+        return storage.ratingIndex.findHighest(limit);
+    }
+
+    /**
+     * Returns the next page of employees in the given order, read straight from the ID set or the
+     * sorted index of the order in O(log n + size) time, without looking at the employees before it.
+     * Pages are keyset-based: see {@link EmployeeCursor} for how they behave under concurrent writes.
+     *
+     * @param order the order to page through
+     * @param after the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the maximum number of employees in the page
+     * @return the page, with a cursor to the next one unless it is the last
+     * @throws IllegalArgumentException if the size is not positive or the cursor belongs to another order
+     */
+    public EmployeePage<T> findPage(EmployeeCursor.Order order, EmployeeCursor<T> after, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        if (after != null && after.getOrder() != order) {
+            throw new IllegalArgumentException("Cursor of order " + after.getOrder() + " cannot page through " + order);
+        }
+        T afterId = after == null ? null : after.getEmployeeId();
+        EmployeeStorage<T> current = storage;
+        // One extra employee tells whether there is a next page
+        List<Employee<T>> employees = switch (order) {
+            case ID_ASCENDING -> pageById(current, afterId, size + 1);
+            case EXPERIENCE_DESCENDING -> current.experienceIndex.findAfter(
+                    after == null ? null : (Integer) after.getKey(), afterId, true, size + 1);
+            case SALARY_DESCENDING -> current.salaryIndex.findAfter(
+                    after == null ? null : (Double) after.getKey(), afterId, true, size + 1);
+            case RATING_DESCENDING -> current.ratingIndex.findAfter(
+                    after == null ? null : (Double) after.getKey(), afterId, true, size + 1);
+        };
+        if (employees.size() <= size) {
+            return new EmployeePage<>(employees, null);
+        }
+        employees.remove(size);
+        return new EmployeePage<>(employees, EmployeeCursor.after(order, employees.get(size - 1)));
+    }
+
+    /**
+     * Returns every employee of a snapshot taken now in the given order, as a read-only list of fixed
+     * size and order. While no write runs, the list reads its pages from the ID set or sorted index on
+     * demand, so only the part actually accessed is ever fetched; once the repository has changed, it
+     * sorts the snapshot instead.
+     *
+     * @param order the order of the list
+     * @return a lazily paged view of all employees in that order, as of now
+     */
+    public List<Employee<T>> findAllSorted(EmployeeCursor.Order order) {
+        long writes = writesIfIdle();
+        RepositorySnapshot<T> snapshot = snapshot();
+        return new EmployeeSortedView<>(this, snapshot, order, unchangedSince(writes) ? writes : -1);
+    }
+
+    private static <T extends Comparable<? super T>> List<Employee<T>> pageById(EmployeeStorage<T> storage, T afterId, int limit) {
+        List<Employee<T>> result = new ArrayList<>(Math.min(limit, 1024));
+        PersistentEmployeeMap<T> version = storage.employees.get();
+        for (T employeeId : afterId == null ? storage.ids : storage.ids.tailSet(afterId, false)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Employee<T> employee = version.get(employeeId);
+            if (employee != null) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the employees matching every criterion of the query, in its order and up to its limit.
+     * <p>
+     * The query is driven by the index of its most selective criterion, and the other criteria are
+     * checked on each candidate, most selective first. A limited query ordered by salary or rating
+     * may read that index in order and stop at the limit instead of collecting every match; see
+     * {@link #explain} for the plan chosen.
+     *
+     * @param query the query to run
+     * @return a list of the matching employees, in the query's order if it has one
+     */
+    public List<Employee<T>> find(EmployeeQuery query) {
+        return new QueryPlanner<>(storage, statistics, query).execute();
     }
 
+    /**
+     * Returns the plan {@link #find} would choose for the query against the current contents,
+     * without running it.
+     *
+     * @param query the query to plan
+     * @return the access path, filters and ordering of the query
+     */
+    public QueryPlan explain(EmployeeQuery query) {
+        return new QueryPlanner<>(storage, statistics, query).plan();
+    }
+
+    /**
+     * Returns a snapshot of the stored employees, without copying or locking anything.
+     * The snapshot includes every write completed before this call, and none of those that start after it.
+     *
+     * @return the employees as of now
+     */
+    public RepositorySnapshot<T> snapshot() {
+        return new RepositorySnapshot<>(storage.employees.get());
+    }
+
+    /**
+     * Runs an action while no write is in progress, then returns a snapshot of the employees as of the
+     * action: every write whose change was journaled before the action is included, none journaled after
+     * it. Used to start a new journal file at the point a checkpoint snapshot is taken.
+     *
+     * @param action the action to run while writes wait
+     * @return the employees as of the action
+     */
+    public RepositorySnapshot<T> snapshot(Runnable action) {
+        bulkLock.writeLock().lock();
+        try {
+            action.run();
+            return snapshot();
+        } finally {
+            bulkLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an iterator over the employees stored when it is created.
+     * It can be used while other threads modify the repository.
+     *
+     * @return an iterator over all employees
+     */
     public Iterator<Employee<T>> getIterator() {
-        return database.values().iterator();
+        return storage.employees.get().iterator();
+    }
+
+    /**
+     * @return the number of writes started so far if none is running, or -1 if one is
+     */
+    long writesIfIdle() {
+        long finished = writesFinished.get();
+        long started = writesStarted.get();
+        return started == finished ? started : -1;
+    }
+
+    /**
+     * @param writes a count returned by {@link #writesIfIdle}
+     * @return whether no write has started since that count was taken, so the storage is unchanged
+     */
+    boolean unchangedSince(long writes) {
+        return writes >= 0 && writesStarted.get() == writes;
+    }
+
+    private Map<T, Employee<T>> idMap(int expectedSize) {
+        return idMaps == null ? null : idMaps.apply(expectedSize);
+    }
+
+    EmployeeStorage<T> currentStorage() {
+        return storage;
+    }
+
+    /**
+     * Returns the running aggregates over this repository's contents.
+     *
+     * @return the statistics kept up to date on every change
+     */
+    public EmployeeStatistics<T> getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the journal to record every later change with, before the change is applied. A change the
+     * journal rejects by throwing is not applied, and the exception is thrown to the writer.
+     *
+     * @param journal the journal, or {@code null} to stop journaling
+     */
+    public void setJournal(EmployeeJournal<T> journal) {
+        bulkLock.writeLock().lock();
+        try {
+            this.journal = journal;
+        } finally {
+            bulkLock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void addChangeListener(EmployeeChangeListener<T> listener) {
+        EmployeeChangeListener<T>[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[listeners.length] = listener;
+        listeners = next;
+    }
+
+    public synchronized void removeChangeListener(EmployeeChangeListener<T> listener) {
+        int index = Arrays.asList(listeners).indexOf(listener);
+        if (index >= 0) {
+            EmployeeChangeListener<T>[] next = Arrays.copyOf(listeners, listeners.length - 1);
+            System.arraycopy(listeners, index + 1, next, index, next.length - index);
+            listeners = next;
+        }
+    }
+
+    @SafeVarargs
+    private static <T> EmployeeChangeListener<T>[] listenersOf(EmployeeChangeListener<T>... listeners) {
+        return listeners;
+    }
+
+    private static <T> void awaitDurable(EmployeeJournal<T> journal, long ticket) {
+        if (journal != null && ticket != 0) {
+            journal.awaitDurable(ticket);
+        }
+    }
+
+    private static <T> void notifyListeners(EmployeeChangeListener<T>[] listeners, Employee<T> before, Employee<T> after) {
+        for (EmployeeChangeListener<T> listener : listeners) {
+            listener.onChange(before, after);
+        }
+    }
+
+    /**
+     * Lets the listeners notified of a write wait for what they need, now that the write's locks are released.
+     *
+     * @param notified the listeners notified, or {@code null} if the write did not get as far as notifying
+     */
+    private static <T> void afterUnlock(EmployeeChangeListener<T>[] notified) {
+        if (notified != null) {
+            for (EmployeeChangeListener<T> listener : notified) {
+                listener.afterUnlock();
+            }
+        }
+    }
+
+    /**
+     * Returns the version including a batch: a small batch is applied to the given version, a large one
+     * rebuilds it from all employees, which is cheaper than one change per employee.
+     */
+    private static <T extends Comparable<? super T>> PersistentEmployeeMap<T> withBatch(
+            PersistentEmployeeMap<T> version, Map<T, Employee<T>> batch) {
+        if (batch.size() > version.size() / 8) {
+            List<Employee<T>> employees = new ArrayList<>(version.size() + batch.size());
+            for (Employee<T> employee : version) {
+                if (!batch.containsKey(employee.getEmployeeId())) {
+                    employees.add(employee);
+                }
+            }
+            employees.addAll(batch.values());
+            return PersistentEmployeeMap.of(employees);
+        }
+        for (Employee<T> employee : batch.values()) {
+            version = version.with(employee);
+        }
+        return version;
+    }
+
+    private static <T> Employee<T> checkReplacement(Employee<T> employee, Employee<T> replacement) {
+        if (replacement == null || !employee.getEmployeeId().equals(replacement.getEmployeeId())) {
+            throw new IllegalArgumentException("Bulk update must keep the ID of employee " + employee.getEmployeeId());
+        }
+        if (replacement == employee) {
+            throw new IllegalArgumentException("Bulk update must return a new employee for " + employee.getEmployeeId());
+        }
+        return replacement.freeze();
+    }
+
+    private Object lockFor(T employeeId) {
+        int h = employeeId.hashCode();
+        return locks[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
     }
-}
\ No newline at end of file
+}
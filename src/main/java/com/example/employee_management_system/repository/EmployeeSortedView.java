@@ -0,0 +1,85 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A read-only list of every employee of a {@link RepositorySnapshot} in one of the
+ * {@link EmployeeCursor.Order orders}. Its size and order are those of the snapshot and never change.
+ * <p>
+ * While the repository is unchanged since the snapshot, the view reads it a page at a time from the
+ * live ID set or sorted index as it is accessed, instead of copying and sorting it up front. A page
+ * is only kept if no write started before it was read. Once a write has started, the index no longer
+ * matches the snapshot, and the view sorts the snapshot's employees once and serves every later
+ * access from that array, in the same order as the pages.
+ *
+ * @param <T> the type of the employee ID
+ */
+final class EmployeeSortedView<T extends Comparable<? super T>> extends AbstractList<Employee<T>> {
+    private static final int FIRST_PAGE_SIZE = 64;
+    private static final int MAX_PAGE_SIZE = 8192;
+
+    private final EmployeeRepository<T> repository;
+    private final RepositorySnapshot<T> snapshot;
+    private final EmployeeCursor.Order order;
+    // The repository's write count the snapshot matches, or -1 if the index may not match it
+    private final long writes;
+    private final int size;
+    private final List<Employee<T>> loaded = new ArrayList<>();
+    private EmployeeCursor<T> cursor;
+    private int pageSize = FIRST_PAGE_SIZE;
+    // Every employee of the snapshot in order, once the index can no longer be paged
+    private Employee<T>[] sorted;
+
+    EmployeeSortedView(EmployeeRepository<T> repository, RepositorySnapshot<T> snapshot,
+                       EmployeeCursor.Order order, long writes) {
+        this.repository = repository;
+        this.snapshot = snapshot;
+        this.order = order;
+        this.writes = writes;
+        this.size = snapshot.size();
+    }
+
+    @Override
+    public synchronized Employee<T> get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        // Pages double in size so that reaching any position costs time linear in it
+        while (sorted == null && index >= loaded.size()) {
+            loadPage();
+        }
+        return sorted != null ? sorted[index] : loaded.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void loadPage() {
+        if (repository.unchangedSince(writes)) {
+            EmployeePage<T> page = repository.findPage(order, cursor, Math.min(pageSize, size - loaded.size()));
+            List<Employee<T>> employees = page.getEmployees();
+            boolean complete = page.getNextCursor() != null || loaded.size() + employees.size() == size;
+            // A write started during the read may have moved employees in or out of the page
+            if (repository.unchangedSince(writes) && complete && !employees.isEmpty()) {
+                loaded.addAll(employees);
+                cursor = page.getNextCursor();
+                pageSize = Math.min(pageSize * 2, MAX_PAGE_SIZE);
+                return;
+            }
+        }
+        sortSnapshot();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortSnapshot() {
+        sorted = snapshot.stream().toArray(length -> (Employee<T>[]) new Employee<?>[length]);
+        Arrays.parallelSort(sorted, order.comparator());
+        loaded.clear();
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Running aggregates over the contents of an {@link EmployeeRepository}, updated on every change
+ * instead of being recomputed by scanning all employees.
+ * <p>
+ * Per department (case-insensitive) it keeps the employee count, active count, salary sum, minimum
+ * and maximum, and rating sum. Sums are held as exact decimals, so adding and later removing the same
+ * salary leaves no rounding residue and the aggregates always equal a full recompute.
+ * Each department is updated under its own lock, so no update is lost under concurrent writes.
+ *
+ * @param <T> the type of the employee ID
+ */
+public class EmployeeStatistics<T extends Comparable<? super T>> implements EmployeeChangeListener<T> {
+    private static final String NO_DEPARTMENT = "";
+
+    private final Map<String, Aggregate> departments = new ConcurrentHashMap<>();
+
+    @Override
+    public void onChange(Employee<T> before, Employee<T> after) {
+        if (before != null && after != null && sameAggregates(before, after)) {
+            return;
+        }
+        if (before != null) {
+            aggregateFor(before.getDepartment()).remove(before);
+        }
+        if (after != null) {
+            aggregateFor(after.getDepartment()).add(after);
+        }
+    }
+
+    @Override
+    public void onBulkUpdate(List<Employee<T>> before, List<Employee<T>> after) {
+        IntStream.range(0, after.size()).parallel().forEach(i -> onChange(before.get(i), after.get(i)));
+    }
+
+    /**
+     * Returns the aggregates of one department (case-insensitive) in constant time.
+     *
+     * @param department the department to summarize
+     * @return the department's summary, empty if it has no employees
+     */
+    public Summary getDepartmentSummary(String department) {
+        Aggregate aggregate = departments.get(normalize(department));
+        return aggregate == null ? Summary.EMPTY : aggregate.summary();
+    }
+
+    /**
+     * Returns the aggregates over all employees. Combines one summary per distinct department.
+     *
+     * @return the summary of all employees
+     */
+    public Summary getSummary() {
+        Summary total = Summary.EMPTY;
+        for (Aggregate aggregate : departments.values()) {
+            total = total.combine(aggregate.summary());
+        }
+        return total;
+    }
+
+    /**
+     * Returns the average salary of a department (case-insensitive) in constant time.
+     *
+     * @param department the department to calculate the average salary for
+     * @return the average salary, or {@code 0.0} if the department has no employees with a salary
+     */
+    public double getAverageSalary(String department) {
+        return getDepartmentSummary(department).getAverageSalary();
+    }
+
+    /**
+     * Compares the running aggregates with a full recompute over the repository.
+     * Only meaningful while no other thread is writing to the repository.
+     *
+     * @param repository the repository these statistics are attached to
+     * @return {@code true} if every department's aggregates match the recompute
+     */
+    public boolean isConsistentWith(EmployeeRepository<T> repository) {
+        EmployeeStatistics<T> recomputed = new EmployeeStatistics<>();
+        repository.forEach(employee -> recomputed.onChange(null, employee));
+
+        Set<String> keys = new HashSet<>(departments.keySet());
+        keys.addAll(recomputed.departments.keySet());
+        for (String key : keys) {
+            Summary expected = recomputed.getDepartmentSummary(key);
+            if (!expected.equals(getDepartmentSummary(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if replacing {@code before} with {@code after} leaves every aggregate as it is
+     */
+    private static boolean sameAggregates(Employee<?> before, Employee<?> after) {
+        return normalize(before.getDepartment()).equals(normalize(after.getDepartment()))
+                && before.isActive() == after.isActive()
+                && Objects.equals(before.getSalary(), after.getSalary())
+                && Objects.equals(before.getPerformanceRating(), after.getPerformanceRating());
+    }
+
+    private Aggregate aggregateFor(String department) {
+        return departments.computeIfAbsent(normalize(department), d -> new Aggregate());
+    }
+
+    private static String normalize(String department) {
+        return department == null ? NO_DEPARTMENT : department.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Point-in-time aggregates of a group of employees.
+     * Minimum and maximum salary are {@code NaN} when no employee in the group has a salary.
+     */
+    public static final class Summary {
+        static final Summary EMPTY = new Summary(0, 0, BigDecimal.ZERO, 0, Double.NaN, Double.NaN, BigDecimal.ZERO, 0);
+
+        private final long count;
+        private final long activeCount;
+        private final BigDecimal totalSalary;
+        private final long salaryCount;
+        private final double minSalary;
+        private final double maxSalary;
+        private final BigDecimal totalRating;
+        private final long ratingCount;
+
+        Summary(long count, long activeCount, BigDecimal totalSalary, long salaryCount,
+                double minSalary, double maxSalary, BigDecimal totalRating, long ratingCount) {
+            this.count = count;
+            this.activeCount = activeCount;
+            this.totalSalary = totalSalary;
+            this.salaryCount = salaryCount;
+            this.minSalary = minSalary;
+            this.maxSalary = maxSalary;
+            this.totalRating = totalRating;
+            this.ratingCount = ratingCount;
+        }
+
+        public long getCount() { return count; }
+        public long getActiveCount() { return activeCount; }
+        public double getTotalSalary() { return totalSalary.doubleValue(); }
+        public double getMinSalary() { return minSalary; }
+        public double getMaxSalary() { return maxSalary; }
+
+        public double getAverageSalary() {
+            return salaryCount == 0 ? 0.0 : totalSalary.doubleValue() / salaryCount;
+        }
+
+        public double getAverageRating() {
+            return ratingCount == 0 ? 0.0 : totalRating.doubleValue() / ratingCount;
+        }
+
+        Summary combine(Summary other) {
+            return new Summary(
+                    count + other.count,
+                    activeCount + other.activeCount,
+                    totalSalary.add(other.totalSalary),
+                    salaryCount + other.salaryCount,
+                    salaryCount == 0 ? other.minSalary : other.salaryCount == 0 ? minSalary : Math.min(minSalary, other.minSalary),
+                    salaryCount == 0 ? other.maxSalary : other.salaryCount == 0 ? maxSalary : Math.max(maxSalary, other.maxSalary),
+                    totalRating.add(other.totalRating),
+                    ratingCount + other.ratingCount
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            Summary other = (Summary) o;
+            return count == other.count && activeCount == other.activeCount
+                    && totalSalary.compareTo(other.totalSalary) == 0 && salaryCount == other.salaryCount
+                    && Double.compare(minSalary, other.minSalary) == 0 && Double.compare(maxSalary, other.maxSalary) == 0
+                    && totalRating.compareTo(other.totalRating) == 0 && ratingCount == other.ratingCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(count, activeCount, totalSalary.stripTrailingZeros(), salaryCount,
+                    minSalary, maxSalary, totalRating.stripTrailingZeros(), ratingCount);
+        }
+    }
+
+    /**
+     * Mutable aggregates of one department. Salaries are kept in a counted sorted multiset
+     * so the minimum and maximum stay correct when employees are removed.
+     */
+    private static final class Aggregate {
+        private final TreeMap<Double, Integer> salaries = new TreeMap<>();
+        private long count;
+        private long activeCount;
+        private BigDecimal totalSalary = BigDecimal.ZERO;
+        private long salaryCount;
+        private BigDecimal totalRating = BigDecimal.ZERO;
+        private long ratingCount;
+
+        synchronized void add(Employee<?> employee) {
+            count++;
+            if (employee.isActive()) {
+                activeCount++;
+            }
+            if (isPresent(employee.getSalary())) {
+                totalSalary = totalSalary.add(new BigDecimal(employee.getSalary()));
+                salaryCount++;
+                salaries.merge(employee.getSalary(), 1, Integer::sum);
+            }
+            if (isPresent(employee.getPerformanceRating())) {
+                totalRating = totalRating.add(new BigDecimal(employee.getPerformanceRating()));
+                ratingCount++;
+            }
+        }
+
+        synchronized void remove(Employee<?> employee) {
+            count--;
+            if (employee.isActive()) {
+                activeCount--;
+            }
+            if (isPresent(employee.getSalary())) {
+                totalSalary = totalSalary.subtract(new BigDecimal(employee.getSalary()));
+                salaryCount--;
+                salaries.computeIfPresent(employee.getSalary(), (salary, n) -> n == 1 ? null : n - 1);
+            }
+            if (isPresent(employee.getPerformanceRating())) {
+                totalRating = totalRating.subtract(new BigDecimal(employee.getPerformanceRating()));
+                ratingCount--;
+            }
+        }
+
+        synchronized Summary summary() {
+            return new Summary(count, activeCount, totalSalary, salaryCount,
+                    salaries.isEmpty() ? Double.NaN : salaries.firstKey(),
+                    salaries.isEmpty() ? Double.NaN : salaries.lastKey(),
+                    totalRating, ratingCount);
+        }
+
+        private static boolean isPresent(Double value) {
+            return value != null && Double.isFinite(value);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * One generation of an {@link EmployeeRepository}'s contents: the employees by ID and the
+ * secondary indexes over them. Single writes update the current generation in place; bulk
+ * updates build a new generation and publish it in one step.
+ * <p>
+ * The employees by ID are an immutable {@link PersistentEmployeeMap}: every write publishes a new
+ * version of it, which lookups by ID, iteration and {@link RepositorySnapshot}s read without locks.
+ * Writers to different IDs swap the version with a compare-and-set, and a writer that loses the
+ * race copies its O(log n) path again on top of the winner's version. A repository subclass may
+ * also keep the employees by ID in a concurrent map of its own, updated in place by every write,
+ * for lookups cheaper than a trie walk.
+ * <p>
+ * Writes for the same employee ID must be serialized by the caller. Employee IDs must be
+ * {@link Comparable}, as the IDs and the employees sharing a sorted index key are kept in ID order.
+ *
+ * @param <T> the type of the employee ID
+ */
+class EmployeeStorage<T extends Comparable<? super T>> {
+    // The latest immutable version of the employees by ID
+    final AtomicReference<PersistentEmployeeMap<T>> employees;
+    // The employees by ID in the repository's own map, or null if lookups read the trie
+    final Map<T, Employee<T>> idMap;
+    final EmployeeIndex<String, T> departmentIndex;
+    final EmployeeIndex<Double, T> salaryIndex;
+    final EmployeeIndex<Double, T> ratingIndex;
+    final EmployeeIndex<Integer, T> experienceIndex;
+    final NameIndex<T> nameIndex = new NameIndex<>();
+    // The IDs in ascending order, for paging through the employees by ID
+    final NavigableSet<T> ids = new ConcurrentSkipListSet<>();
+
+    /**
+     * @param idMap the empty concurrent map to also keep the employees by ID in, or {@code null}
+     */
+    EmployeeStorage(Map<T, Employee<T>> idMap) {
+        this.idMap = idMap;
+        this.employees = new AtomicReference<>(PersistentEmployeeMap.empty());
+        this.departmentIndex = EmployeeIndex.hashed(e -> normalizeDepartment(e.getDepartment()));
+        this.salaryIndex = EmployeeIndex.sorted(Employee::getSalary);
+        this.ratingIndex = EmployeeIndex.sorted(Employee::getPerformanceRating);
+        this.experienceIndex = EmployeeIndex.sorted(Employee::getYearsOfExperience);
+    }
+
+    /**
+     * Builds a generation holding the employees in one pass rather than one write per employee: the
+     * trie with one bulk build and each index from the employees grouped up front, in parallel.
+     *
+     * @param employees employees with distinct IDs, in ascending ID order
+     * @param idMap     the empty concurrent map to also keep the employees by ID in, or {@code null}
+     */
+    EmployeeStorage(List<Employee<T>> employees, Map<T, Employee<T>> idMap) {
+        EmployeeStorage<T> empty = new EmployeeStorage<>(null);
+        ForkJoinTask<PersistentEmployeeMap<T>> versions = fork(() -> PersistentEmployeeMap.of(employees));
+        ForkJoinTask<EmployeeIndex<String, T>> departments = fork(() -> empty.departmentIndex.withAll(employees));
+        ForkJoinTask<EmployeeIndex<Double, T>> salaries = fork(() -> empty.salaryIndex.withAll(employees));
+        ForkJoinTask<EmployeeIndex<Double, T>> ratings = fork(() -> empty.ratingIndex.withAll(employees));
+        ForkJoinTask<EmployeeIndex<Integer, T>> experience = fork(() -> empty.experienceIndex.withAll(employees));
+        NameIndex<T> names = nameIndex;
+        ForkJoinTask<Boolean> named = fork(() -> {
+            names.putAll(employees);
+            return true;
+        });
+        ForkJoinTask<Boolean> mapped = fork(() -> {
+            if (idMap != null) {
+                employees.forEach(employee -> idMap.put(employee.getEmployeeId(), employee));
+            }
+            return true;
+        });
+        // Appending IDs in order keeps each insert next to the previous one
+        for (Employee<T> employee : employees) {
+            ids.add(employee.getEmployeeId());
+        }
+        this.idMap = idMap;
+        this.employees = new AtomicReference<>(versions.join());
+        this.departmentIndex = departments.join();
+        this.salaryIndex = salaries.join();
+        this.ratingIndex = ratings.join();
+        this.experienceIndex = experience.join();
+        named.join();
+        mapped.join();
+    }
+
+    private static <R> ForkJoinTask<R> fork(Callable<R> task) {
+        return ForkJoinTask.adapt(task).fork();
+    }
+
+    /**
+     * Publishes the version including an employee and indexes it.
+     *
+     * @return the employee previously stored under the same ID, or {@code null}
+     */
+    Employee<T> put(Employee<T> employee) {
+        Employee<T> before = employees.get().get(employee.getEmployeeId());
+        employees.updateAndGet(version -> version.with(employee));
+        index(employee, before);
+        return before;
+    }
+
+    /**
+     * Indexes an employee without publishing a version, for bulk writes that publish one version
+     * for the whole batch.
+     *
+     * @param before the employee previously stored under the same ID, or {@code null}
+     */
+    void index(Employee<T> employee, Employee<T> before) {
+        if (idMap != null) {
+            idMap.put(employee.getEmployeeId(), employee);
+        }
+        departmentIndex.put(employee);
+        salaryIndex.put(employee);
+        ratingIndex.put(employee);
+        experienceIndex.put(employee);
+        nameIndex.put(employee);
+        if (before == null) {
+            ids.add(employee.getEmployeeId());
+        }
+    }
+
+    /**
+     * Removes an employee and its index entries.
+     *
+     * @return the removed employee, or {@code null} if there was none
+     */
+    Employee<T> remove(T employeeId) {
+        Employee<T> before = employees.get().get(employeeId);
+        if (before != null) {
+            employees.updateAndGet(version -> version.without(employeeId));
+            if (idMap != null) {
+                idMap.remove(employeeId);
+            }
+            departmentIndex.remove(employeeId);
+            salaryIndex.remove(employeeId);
+            ratingIndex.remove(employeeId);
+            experienceIndex.remove(employeeId);
+            nameIndex.remove(employeeId);
+            ids.remove(employeeId);
+        }
+        return before;
+    }
+
+    static String normalizeDepartment(String department) {
+        return department == null ? null : department.toLowerCase(Locale.ROOT);
+    }
+}
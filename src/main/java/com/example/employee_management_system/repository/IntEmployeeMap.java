@@ -0,0 +1,352 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent map from {@code int} employee IDs to employees, stored in an open-addressing table of
+ * an {@code int[]} of IDs and an array of employees with linear probing. It has no entry objects and
+ * no boxed keys, and its {@code int} methods look employees up without boxing.
+ * <p>
+ * Lookups never block. A slot, once claimed by an ID, keeps it until the table is rebuilt, so a
+ * lookup may stop at the first free slot; removing an employee only clears the slot's employee.
+ * Writers share a {@link StampedLock} that growing the table takes exclusively, and the rebuilt
+ * table drops the cleared slots. ID 0 marks free slots and is kept apart from the table.
+ * Iterators are weakly consistent, like those of {@code ConcurrentHashMap}.
+ */
+final class IntEmployeeMap extends AbstractMap<Integer, Employee<Integer>> {
+    private static final int FREE = 0;
+    private static final double MAX_LOAD = 0.6;
+    private static final int MIN_CAPACITY = 16;
+
+    private static final class Table {
+        final AtomicIntegerArray ids;
+        final AtomicReferenceArray<Employee<Integer>> employees;
+        final int mask;
+        final int threshold;
+        // Slots claimed by an ID, including those whose employee was removed
+        final AtomicInteger claimed = new AtomicInteger();
+
+        Table(int capacity) {
+            this.ids = new AtomicIntegerArray(capacity);
+            this.employees = new AtomicReferenceArray<>(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * MAX_LOAD);
+        }
+    }
+
+    private interface SlotReader<R> {
+        R read(int employeeId, Employee<Integer> employee);
+    }
+
+    private volatile Table table;
+    private final AtomicReference<Employee<Integer>> zero = new AtomicReference<>();
+    private final LongAdder size = new LongAdder();
+    private final StampedLock resizeLock = new StampedLock();
+
+    IntEmployeeMap(int expectedSize) {
+        this.table = new Table(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * MAX_LOAD < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int slotOf(int employeeId, int mask) {
+        // Spreads sequential IDs, which would otherwise fill runs of adjacent slots
+        int hash = employeeId * 0x9E3779B9;
+        return (hash ^ hash >>> 16) & mask;
+    }
+
+    /**
+     * @return the employee with the ID, or {@code null} if there is none
+     */
+    Employee<Integer> get(int employeeId) {
+        if (employeeId == FREE) {
+            return zero.get();
+        }
+        Table current = table;
+        for (int slot = slotOf(employeeId, current.mask); ; slot = (slot + 1) & current.mask) {
+            int id = current.ids.get(slot);
+            if (id == employeeId) {
+                return current.employees.get(slot);
+            }
+            if (id == FREE) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return the employee previously stored under the ID, or {@code null}
+     */
+    Employee<Integer> put(int employeeId, Employee<Integer> employee) {
+        if (employeeId == FREE) {
+            return counted(zero.getAndSet(employee), employee);
+        }
+        long stamp = resizeLock.readLock();
+        try {
+            while (true) {
+                Table current = table;
+                int slot = claim(current, employeeId);
+                if (slot >= 0) {
+                    return counted(current.employees.getAndSet(slot, employee), employee);
+                }
+                stamp = grow(stamp, current);
+            }
+        } finally {
+            resizeLock.unlock(stamp);
+        }
+    }
+
+    /**
+     * @return the removed employee, or {@code null} if there was none
+     */
+    Employee<Integer> remove(int employeeId) {
+        if (employeeId == FREE) {
+            return counted(zero.getAndSet(null), null);
+        }
+        long stamp = resizeLock.readLock();
+        try {
+            Table current = table;
+            for (int slot = slotOf(employeeId, current.mask); ; slot = (slot + 1) & current.mask) {
+                int id = current.ids.get(slot);
+                if (id == employeeId) {
+                    return counted(current.employees.getAndSet(slot, null), null);
+                }
+                if (id == FREE) {
+                    return null;
+                }
+            }
+        } finally {
+            resizeLock.unlockRead(stamp);
+        }
+    }
+
+    private Employee<Integer> counted(Employee<Integer> before, Employee<Integer> after) {
+        if (before == null && after != null) {
+            size.increment();
+        } else if (before != null && after == null) {
+            size.decrement();
+        }
+        return before;
+    }
+
+    /**
+     * Finds the slot of the ID, claiming a free one for it if needed.
+     *
+     * @return the slot, or -1 if the table must grow first
+     */
+    private static int claim(Table table, int employeeId) {
+        int slot = slotOf(employeeId, table.mask);
+        while (true) {
+            int id = table.ids.get(slot);
+            if (id == employeeId) {
+                return slot;
+            }
+            if (id != FREE) {
+                slot = (slot + 1) & table.mask;
+            } else if (table.claimed.get() >= table.threshold) {
+                return -1;
+            } else if (table.ids.compareAndSet(slot, FREE, employeeId)) {
+                table.claimed.incrementAndGet();
+                return slot;
+            }
+            // Lost the slot to another writer: look at it again, it may hold the same ID
+        }
+    }
+
+    /**
+     * Rebuilds a full table at twice the capacity of its live employees, unless another writer
+     * already did, and returns a new read stamp.
+     */
+    private long grow(long readStamp, Table full) {
+        resizeLock.unlockRead(readStamp);
+        long stamp = resizeLock.writeLock();
+        try {
+            if (table == full) {
+                Table next = new Table(capacityFor((int) Math.min(Integer.MAX_VALUE / 2, size.sum() * 2 + 1)));
+                for (int slot = 0; slot <= full.mask; slot++) {
+                    Employee<Integer> employee = full.employees.get(slot);
+                    if (employee != null) {
+                        int nextSlot = claim(next, full.ids.get(slot));
+                        next.employees.set(nextSlot, employee);
+                    }
+                }
+                table = next;
+            }
+        } finally {
+            stamp = resizeLock.tryConvertToReadLock(stamp);
+        }
+        return stamp;
+    }
+
+    @Override
+    public Employee<Integer> get(Object key) {
+        return key instanceof Integer id ? get(id.intValue()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Employee<Integer> put(Integer key, Employee<Integer> value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        return put(key.intValue(), value);
+    }
+
+    @Override
+    public Employee<Integer> remove(Object key) {
+        return key instanceof Integer id ? remove(id.intValue()) : null;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size.sum()));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public void clear() {
+        long stamp = resizeLock.writeLock();
+        try {
+            table = new Table(MIN_CAPACITY);
+            zero.set(null);
+            size.reset();
+        } finally {
+            resizeLock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Collection<Employee<Integer>> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Employee<Integer>> iterator() {
+                return Spliterators.iterator(spliterator());
+            }
+
+            @Override
+            public Spliterator<Employee<Integer>> spliterator() {
+                return slots((id, employee) -> employee);
+            }
+
+            @Override
+            public int size() {
+                return IntEmployeeMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<Integer, Employee<Integer>>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Integer, Employee<Integer>>> iterator() {
+                return Spliterators.iterator(spliterator());
+            }
+
+            @Override
+            public Spliterator<Map.Entry<Integer, Employee<Integer>>> spliterator() {
+                return slots(Map::entry);
+            }
+
+            @Override
+            public int size() {
+                return IntEmployeeMap.this.size();
+            }
+        };
+    }
+
+    private <R> Spliterator<R> slots(SlotReader<R> reader) {
+        Table current = table;
+        return new SlotSpliterator<>(current, reader, 0, current.mask + 1, zero.get());
+    }
+
+    /**
+     * Traverses a range of the slots of one table, splitting it in halves for parallel streams.
+     */
+    private static final class SlotSpliterator<R> implements Spliterator<R> {
+        private final Table table;
+        private final SlotReader<R> reader;
+        private int slot;
+        private final int end;
+        // The employee with ID 0, reported by the first half only
+        private Employee<Integer> zero;
+
+        SlotSpliterator(Table table, SlotReader<R> reader, int slot, int end, Employee<Integer> zero) {
+            this.table = table;
+            this.reader = reader;
+            this.slot = slot;
+            this.end = end;
+            this.zero = zero;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+            if (zero != null) {
+                action.accept(reader.read(FREE, zero));
+                zero = null;
+                return true;
+            }
+            while (slot < end) {
+                int current = slot++;
+                Employee<Integer> employee = table.employees.get(current);
+                if (employee != null) {
+                    action.accept(reader.read(table.ids.get(current), employee));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<R> trySplit() {
+            int middle = (slot + end) >>> 1;
+            if (middle - slot < 1024) {
+                return null;
+            }
+            Spliterator<R> prefix = new SlotSpliterator<>(table, reader, slot, middle, zero);
+            zero = null;
+            slot = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - slot;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.NONNULL | Spliterator.CONCURRENT;
+        }
+    }
+}
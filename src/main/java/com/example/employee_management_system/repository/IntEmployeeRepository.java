@@ -0,0 +1,41 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.Optional;
+
+/**
+ * Repository for employees with {@code int} IDs. Alongside the trie, it keeps the employees by ID in
+ * an open-addressing table of primitive IDs, and adds {@link #findById(int)} and
+ * {@link #delete(int)} overloads that look the employee up in that table without boxing the ID or
+ * walking the trie. Everything else behaves as in {@link EmployeeRepository}.
+ */
+public class IntEmployeeRepository extends EmployeeRepository<Integer> {
+    public IntEmployeeRepository() {
+        super(IntEmployeeMap::new);
+    }
+
+    /**
+     * Finds an employee by ID without boxing the ID.
+     *
+     * @param employeeId the employee ID
+     * @return the employee, or an empty {@link Optional} if there is none
+     */
+    public Optional<Employee<Integer>> findById(int employeeId) {
+        return Optional.ofNullable(employees().get(employeeId));
+    }
+
+    /**
+     * Deletes an employee by ID. The ID is only boxed if the employee exists, since the secondary
+     * indexes are keyed by the boxed ID.
+     *
+     * @param employeeId the employee ID
+     * @return {@code true} if an employee was deleted
+     */
+    public boolean delete(int employeeId) {
+        return employees().get(employeeId) != null && delete(Integer.valueOf(employeeId));
+    }
+
+    private IntEmployeeMap employees() {
+        return (IntEmployeeMap) currentStorage().idMap;
+    }
+}
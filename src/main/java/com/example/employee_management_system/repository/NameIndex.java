@@ -0,0 +1,247 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Trigram inverted index over employee names, for case-insensitive substring search and
+ * prefix autocomplete.
+ * <p>
+ * Employees are grouped by their lowercased name, and each distinct name is indexed once: every
+ * three-character substring of it maps to the names containing it. A query of three or more
+ * characters intersects the posting lists of its trigrams and verifies the few remaining names;
+ * shorter queries take the union of the posting lists of the trigrams containing them. Since names
+ * repeat across employees, the index is much smaller than one entry per employee. For autocomplete,
+ * every word of a name, and the rest of the name after it, is kept in a sorted set.
+ * <p>
+ * Reads never block. Writes for the same employee ID must be serialized by the caller; writes
+ * touching the same name are serialized by a lock striped on the name.
+ *
+ * @param <T> the type of the employee ID
+ */
+class NameIndex<T> {
+    private static final int GRAM = 3;
+    private static final int LOCK_STRIPES = 64;
+    // Separates the matched word suffix from the name it belongs to in an autocomplete key
+    private static final char KEY_SEPARATOR = '\0';
+
+    private final Map<String, Map<T, Employee<T>>> names = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Set<String> shortNames = ConcurrentHashMap.newKeySet();
+    private final NavigableSet<String> wordKeys = new ConcurrentSkipListSet<>();
+    private final Map<T, String> namesById = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    NameIndex() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Indexes the employees of an empty index in one pass: the employees are grouped by name first,
+     * so each distinct name is locked and added to the trigram and autocomplete indexes once.
+     *
+     * @param employees employees with distinct IDs
+     */
+    void putAll(Collection<Employee<T>> employees) {
+        Map<String, Map<T, Employee<T>>> groups = new HashMap<>();
+        for (Employee<T> employee : employees) {
+            String name = normalize(employee.getName());
+            if (name != null) {
+                groups.computeIfAbsent(name, n -> new ConcurrentHashMap<>()).put(employee.getEmployeeId(), employee);
+                namesById.put(employee.getEmployeeId(), name);
+            }
+        }
+        groups.forEach((name, group) -> {
+            names.put(name, group);
+            addName(name);
+        });
+    }
+
+    /**
+     * Indexes the employee under its current name, replacing any previous entry for the same ID.
+     * Employees without a name are not indexed.
+     */
+    void put(Employee<T> employee) {
+        T employeeId = employee.getEmployeeId();
+        String name = normalize(employee.getName());
+        if (name != null && name.equals(namesById.get(employeeId))) {
+            // Same name: replace the entry without removing and re-adding the name's trigrams
+            synchronized (lockFor(name)) {
+                names.get(name).put(employeeId, employee);
+            }
+            return;
+        }
+        remove(employeeId);
+
+        if (name == null) {
+            return;
+        }
+        synchronized (lockFor(name)) {
+            Map<T, Employee<T>> employees = names.get(name);
+            if (employees == null) {
+                employees = new ConcurrentHashMap<>();
+                names.put(name, employees);
+                addName(name);
+            }
+            employees.put(employeeId, employee);
+        }
+        namesById.put(employeeId, name);
+    }
+
+    void remove(T employeeId) {
+        String name = namesById.remove(employeeId);
+        if (name == null) {
+            return;
+        }
+        synchronized (lockFor(name)) {
+            Map<T, Employee<T>> employees = names.get(name);
+            employees.remove(employeeId);
+            if (employees.isEmpty()) {
+                names.remove(name);
+                removeName(name);
+            }
+        }
+    }
+
+    /**
+     * Finds employees whose name contains the query, ignoring case.
+     * An empty query matches every employee with a name.
+     */
+    List<Employee<T>> findContaining(String query) {
+        String normalized = normalize(query);
+        List<Employee<T>> result = new ArrayList<>();
+        for (String name : candidates(normalized)) {
+            Map<T, Employee<T>> employees = names.get(name);
+            if (employees != null && name.contains(normalized)) {
+                result.addAll(employees.values());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns up to {@code limit} distinct names having a word that starts with the prefix,
+     * ignoring case, in alphabetical order of the matched words.
+     */
+    List<String> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        Set<String> result = new LinkedHashSet<>();
+        for (String key : wordKeys.subSet(normalized, true, normalized + Character.MAX_VALUE, true)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Map<T, Employee<T>> employees = names.get(key.substring(key.indexOf(KEY_SEPARATOR) + 1));
+            if (employees == null) {
+                continue;
+            }
+            for (Employee<T> employee : employees.values()) {
+                result.add(employee.getName());
+                break;
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Returns the distinct names that may contain the query: the intersection of the posting lists
+     * of its trigrams or, if the query is shorter than a trigram, the union of the posting lists of
+     * the trigrams containing it and the names too short to have a trigram.
+     */
+    private Collection<String> candidates(String query) {
+        if (query.length() < GRAM) {
+            Set<String> result = new HashSet<>(shortNames);
+            postings.forEach((gram, list) -> {
+                if (gram.contains(query)) {
+                    result.addAll(list);
+                }
+            });
+            return result;
+        }
+        List<Set<String>> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<String> list = postings.get(gram);
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        List<String> result = new ArrayList<>();
+        for (String name : lists.get(0)) {
+            if (containedInAll(name, lists)) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    private static boolean containedInAll(String name, List<Set<String>> lists) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addName(String name) {
+        if (name.length() < GRAM) {
+            shortNames.add(name);
+        }
+        for (String gram : grams(name)) {
+            postings.compute(gram, (g, list) -> {
+                Set<String> names = list == null ? ConcurrentHashMap.newKeySet() : list;
+                names.add(name);
+                return names;
+            });
+        }
+        for (String key : wordKeys(name)) {
+            wordKeys.add(key);
+        }
+    }
+
+    private void removeName(String name) {
+        shortNames.remove(name);
+        for (String gram : grams(name)) {
+            postings.computeIfPresent(gram, (g, list) -> {
+                list.remove(name);
+                return list.isEmpty() ? null : list;
+            });
+        }
+        for (String key : wordKeys(name)) {
+            wordKeys.remove(key);
+        }
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static List<String> wordKeys(String name) {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < name.length(); i++) {
+            boolean wordStart = i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1));
+            if (wordStart && Character.isLetterOrDigit(name.charAt(i))) {
+                keys.add(name.substring(i) + KEY_SEPARATOR + name);
+            }
+        }
+        return keys;
+    }
+
+    private static String normalize(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    private Object lockFor(String name) {
+        int h = name.hashCode();
+        return locks[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
+    }
+}
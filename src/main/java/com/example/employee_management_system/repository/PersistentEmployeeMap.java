@@ -0,0 +1,507 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Immutable map from employee IDs to employees, as a hash array mapped trie: every change returns a
+ * new map sharing all but the O(log n) nodes on the changed path with the old one, so any number of
+ * versions can be kept at little cost and read without locks.
+ * <p>
+ * Each node holds a 32-bit bitmap of the 5-bit hash chunks present at its level and an array with
+ * one slot per set bit, holding either an employee or the node of the next level. Employees whose
+ * IDs have the same 32-bit hash share a {@link Collision} below the last level. The ID of an employee
+ * in the map must not change.
+ *
+ * @param <T> the type of the employee ID
+ */
+final class PersistentEmployeeMap<T> implements Iterable<Employee<T>> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final Node EMPTY_NODE = new Node(0, new Object[0]);
+    private static final PersistentEmployeeMap<?> EMPTY = new PersistentEmployeeMap<>(EMPTY_NODE, 0);
+
+    private record Node(int bitmap, Object[] slots) {
+        int indexOf(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    private record Collision(int hash, Object[] employees) {
+    }
+
+    private final Node root;
+    private final int size;
+
+    private PersistentEmployeeMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> PersistentEmployeeMap<T> empty() {
+        return (PersistentEmployeeMap<T>) EMPTY;
+    }
+
+    /**
+     * Builds a map of the given employees in O(n log n) time without creating intermediate versions.
+     *
+     * @param employees employees with distinct IDs
+     * @return the map of the employees
+     */
+    static <T> PersistentEmployeeMap<T> of(Collection<Employee<T>> employees) {
+        Object[] items = employees.toArray();
+        if (items.length == 0) {
+            return empty();
+        }
+        // Ordering by reversed hash puts employees sharing their low hash chunks next to each other
+        long[] order = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            order[i] = (Integer.toUnsignedLong(Integer.reverse(hashOf(items[i]))) << 32) | i;
+        }
+        Arrays.parallelSort(order);
+        Object[] sorted = new Object[items.length];
+        int[] hashes = new int[items.length];
+        for (int i = 0; i < order.length; i++) {
+            sorted[i] = items[(int) order[i]];
+            hashes[i] = Integer.reverse((int) (order[i] >>> 32));
+        }
+        Object built = build(sorted, hashes, 0, sorted.length, 0);
+        Node root = built instanceof Node node ? node : new Node(bit(hashes[0], 0), new Object[]{built});
+        return new PersistentEmployeeMap<>(root, items.length);
+    }
+
+    private static Object build(Object[] employees, int[] hashes, int from, int to, int shift) {
+        if (to - from == 1) {
+            return employees[from];
+        }
+        if (shift >= Integer.SIZE) {
+            return new Collision(hashes[from], Arrays.copyOfRange(employees, from, to));
+        }
+        int bitmap = 0;
+        for (int i = from; i < to; i++) {
+            bitmap |= bit(hashes[i], shift);
+        }
+        Node node = new Node(bitmap, new Object[Integer.bitCount(bitmap)]);
+        for (int start = from; start < to; ) {
+            int chunk = bit(hashes[start], shift);
+            int end = start + 1;
+            while (end < to && bit(hashes[end], shift) == chunk) {
+                end++;
+            }
+            node.slots[node.indexOf(chunk)] = build(employees, hashes, start, end, shift + BITS);
+            start = end;
+        }
+        return node;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Employee<T> get(T employeeId) {
+        Object slot = leaf(hash(employeeId));
+        if (slot instanceof Collision collision) {
+            for (Object employee : collision.employees) {
+                if (employeeId.equals(PersistentEmployeeMap.<T>employee(employee).getEmployeeId())) {
+                    return employee(employee);
+                }
+            }
+            return null;
+        }
+        return slot != null && employeeId.equals(PersistentEmployeeMap.<T>employee(slot).getEmployeeId())
+                ? employee(slot) : null;
+    }
+
+    /**
+     * Looks up an employee by {@code int} ID without boxing it, for maps with {@code Integer} IDs.
+     */
+    Employee<T> get(int employeeId) {
+        // Integer hashes to its value, so this is the hash of the boxed ID
+        Object slot = leaf(employeeId * 0x9E3779B9);
+        if (slot instanceof Collision collision) {
+            for (Object employee : collision.employees) {
+                if (hasId(employee, employeeId)) {
+                    return employee(employee);
+                }
+            }
+            return null;
+        }
+        return slot != null && hasId(slot, employeeId) ? employee(slot) : null;
+    }
+
+    private static boolean hasId(Object slot, int employeeId) {
+        return ((Employee<?>) slot).getEmployeeId() instanceof Integer id && id == employeeId;
+    }
+
+    /**
+     * @return the employee or collision where the hash ends, or {@code null} if no ID has the hash
+     */
+    private Object leaf(int hash) {
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = node.slots[node.indexOf(bit)];
+            if (!(slot instanceof Node child)) {
+                return slot instanceof Collision collision && collision.hash != hash ? null : slot;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * @return a map where the employee replaces any other with the same ID
+     */
+    PersistentEmployeeMap<T> with(Employee<T> employee) {
+        boolean[] added = new boolean[1];
+        Node next = insert(root, hash(employee.getEmployeeId()), 0, employee, added);
+        return new PersistentEmployeeMap<>(next, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * @return a map without the employee with the ID, or this map if there is none
+     */
+    PersistentEmployeeMap<T> without(T employeeId) {
+        Object next = delete(root, hash(employeeId), 0, employeeId);
+        if (next == root) {
+            return this;
+        }
+        Node node = next == null ? EMPTY_NODE
+                : next instanceof Node n ? n : new Node(bit(hash(employeeId), 0), new Object[]{next});
+        return new PersistentEmployeeMap<>(node, size - 1);
+    }
+
+    private static <T> Node insert(Node node, int hash, int shift, Employee<T> employee, boolean[] added) {
+        int bit = bit(hash, shift);
+        int index = node.indexOf(bit);
+        if ((node.bitmap & bit) == 0) {
+            Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            slots[index] = employee;
+            System.arraycopy(node.slots, index, slots, index + 1, node.slots.length - index);
+            added[0] = true;
+            return new Node(node.bitmap | bit, slots);
+        }
+        Object slot = node.slots[index];
+        Object replacement;
+        if (slot instanceof Node child) {
+            replacement = insert(child, hash, shift + BITS, employee, added);
+        } else if (slot instanceof Collision collision) {
+            replacement = insert(collision, hash, shift + BITS, employee, added);
+        } else if (employee.getEmployeeId().equals(PersistentEmployeeMap.<T>employee(slot).getEmployeeId())) {
+            replacement = employee;
+        } else {
+            replacement = merge(slot, hashOf(slot), employee, hash, shift + BITS);
+            added[0] = true;
+        }
+        Object[] slots = node.slots.clone();
+        slots[index] = replacement;
+        return new Node(node.bitmap, slots);
+    }
+
+    private static <T> Object insert(Collision collision, int hash, int shift, Employee<T> employee, boolean[] added) {
+        if (collision.hash != hash) {
+            return merge(collision, collision.hash, employee, hash, shift);
+        }
+        Object[] employees = collision.employees;
+        for (int i = 0; i < employees.length; i++) {
+            if (employee.getEmployeeId().equals(PersistentEmployeeMap.<T>employee(employees[i]).getEmployeeId())) {
+                Object[] replaced = employees.clone();
+                replaced[i] = employee;
+                return new Collision(hash, replaced);
+            }
+        }
+        Object[] grown = Arrays.copyOf(employees, employees.length + 1);
+        grown[employees.length] = employee;
+        added[0] = true;
+        return new Collision(hash, grown);
+    }
+
+    /**
+     * Builds the subtree holding two entries with different IDs, from the level where they first meet.
+     */
+    private static Object merge(Object first, int firstHash, Object second, int secondHash, int shift) {
+        if (shift >= Integer.SIZE) {
+            return new Collision(firstHash, new Object[]{first, second});
+        }
+        int firstBit = bit(firstHash, shift);
+        int secondBit = bit(secondHash, shift);
+        if (firstBit == secondBit) {
+            return new Node(firstBit, new Object[]{merge(first, firstHash, second, secondHash, shift + BITS)});
+        }
+        return new Node(firstBit | secondBit, Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[]{first, second} : new Object[]{second, first});
+    }
+
+    /**
+     * @return the node without the ID: the same node if absent, {@code null} if it became empty,
+     * or its only employee or collision if nothing else is left
+     */
+    private static <T> Object delete(Node node, int hash, int shift, T employeeId) {
+        int bit = bit(hash, shift);
+        if ((node.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = node.indexOf(bit);
+        Object slot = node.slots[index];
+        Object replacement;
+        if (slot instanceof Node child) {
+            replacement = delete(child, hash, shift + BITS, employeeId);
+        } else if (slot instanceof Collision collision) {
+            replacement = delete(collision, hash, employeeId);
+        } else {
+            replacement = employeeId.equals(PersistentEmployeeMap.<T>employee(slot).getEmployeeId()) ? null : slot;
+        }
+        if (replacement == slot) {
+            return node;
+        }
+        if (replacement == null) {
+            if (node.slots.length == 1) {
+                return null;
+            }
+            Object[] slots = new Object[node.slots.length - 1];
+            System.arraycopy(node.slots, 0, slots, 0, index);
+            System.arraycopy(node.slots, index + 1, slots, index, slots.length - index);
+            // A single employee left can move up to the parent, keeping paths as short as on insert
+            if (shift > 0 && slots.length == 1 && !(slots[0] instanceof Node)) {
+                return slots[0];
+            }
+            return new Node(node.bitmap & ~bit, slots);
+        }
+        if (shift > 0 && node.slots.length == 1 && !(replacement instanceof Node)) {
+            return replacement;
+        }
+        Object[] slots = node.slots.clone();
+        slots[index] = replacement;
+        return new Node(node.bitmap, slots);
+    }
+
+    private static <T> Object delete(Collision collision, int hash, T employeeId) {
+        if (collision.hash != hash) {
+            return collision;
+        }
+        Object[] employees = collision.employees;
+        for (int i = 0; i < employees.length; i++) {
+            if (employeeId.equals(PersistentEmployeeMap.<T>employee(employees[i]).getEmployeeId())) {
+                if (employees.length == 2) {
+                    return employees[1 - i];
+                }
+                Object[] shrunk = new Object[employees.length - 1];
+                System.arraycopy(employees, 0, shrunk, 0, i);
+                System.arraycopy(employees, i + 1, shrunk, i, shrunk.length - i);
+                return new Collision(hash, shrunk);
+            }
+        }
+        return collision;
+    }
+
+    @Override
+    public void forEach(Consumer<? super Employee<T>> action) {
+        forEach(root.slots, action);
+    }
+
+    private static <T> void forEach(Object[] slots, Consumer<? super Employee<T>> action) {
+        for (Object slot : slots) {
+            if (slot instanceof Node child) {
+                forEach(child.slots, action);
+            } else if (slot instanceof Collision collision) {
+                forEach(collision.employees, action);
+            } else {
+                action.accept(employee(slot));
+            }
+        }
+    }
+
+    @Override
+    public Iterator<Employee<T>> iterator() {
+        return new SlotIterator<>(root.slots);
+    }
+
+    /**
+     * @return a spliterator over the employees that splits along the slots of the upper nodes
+     */
+    @Override
+    public Spliterator<Employee<T>> spliterator() {
+        return new SlotSpliterator<>(root.slots, 0, root.slots.length, size, true);
+    }
+
+    Stream<Employee<T>> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Walks the employees below an array of slots in slot order.
+     */
+    private static final class SlotIterator<T> implements Iterator<Employee<T>> {
+        // Slot arrays being walked, from the top down, and the next position in each
+        private final Object[][] path = new Object[Integer.SIZE / BITS + 2][];
+        private final int[] positions = new int[path.length];
+        private int depth;
+        private Employee<T> next;
+
+        SlotIterator(Object[] slots) {
+            path[0] = slots;
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                if (positions[depth] == path[depth].length) {
+                    depth--;
+                    continue;
+                }
+                Object slot = path[depth][positions[depth]++];
+                if (slot instanceof Node child) {
+                    descend(child.slots);
+                } else if (slot instanceof Collision collision) {
+                    descend(collision.employees);
+                } else {
+                    next = employee(slot);
+                    return;
+                }
+            }
+        }
+
+        private void descend(Object[] slots) {
+            depth++;
+            path[depth] = slots;
+            positions[depth] = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Employee<T> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Employee<T> current = next;
+            advance();
+            return current;
+        }
+    }
+
+    /**
+     * Traverses a range of the slots of one node. Splitting halves the range, or moves down into the
+     * node of the only slot left, so a parallel stream gets up to 32 parts per level.
+     */
+    private static final class SlotSpliterator<T> implements Spliterator<Employee<T>> {
+        private Object[] slots;
+        private int index;
+        private int end;
+        private long estimate;
+        // Whether the estimate is the exact number of employees, as it is until the first split
+        private boolean exact;
+        // The employees below the slot being traversed by tryAdvance
+        private Iterator<Employee<T>> current;
+
+        SlotSpliterator(Object[] slots, int index, int end, long estimate, boolean exact) {
+            this.slots = slots;
+            this.index = index;
+            this.end = end;
+            this.estimate = estimate;
+            this.exact = exact;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Employee<T>> action) {
+            while (current == null || !current.hasNext()) {
+                if (index == end) {
+                    return false;
+                }
+                Object slot = slots[index++];
+                if (!(slot instanceof Node) && !(slot instanceof Collision)) {
+                    action.accept(employee(slot));
+                    return true;
+                }
+                current = new SlotIterator<>(new Object[]{slot});
+            }
+            action.accept(current.next());
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Employee<T>> action) {
+            if (current != null) {
+                current.forEachRemaining(action);
+                current = null;
+            }
+            for (; index < end; index++) {
+                Object slot = slots[index];
+                if (slot instanceof Node child) {
+                    forEach(child.slots, action);
+                } else if (slot instanceof Collision collision) {
+                    forEach(collision.employees, action);
+                } else {
+                    action.accept(employee(slot));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<Employee<T>> trySplit() {
+            if (current != null) {
+                return null;
+            }
+            if (end - index == 1 && slots[index] instanceof Node child) {
+                slots = child.slots;
+                index = 0;
+                end = slots.length;
+            }
+            int middle = (index + end) >>> 1;
+            if (middle == index) {
+                return null;
+            }
+            long prefixEstimate = estimate * (middle - index) / (end - index);
+            Spliterator<Employee<T>> prefix = new SlotSpliterator<>(slots, index, middle, prefixEstimate, false);
+            index = middle;
+            estimate -= prefixEstimate;
+            exact = false;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.NONNULL | Spliterator.DISTINCT | Spliterator.IMMUTABLE | (exact ? Spliterator.SIZED : 0);
+        }
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & (WIDTH - 1));
+    }
+
+    private static int hash(Object employeeId) {
+        int hash = Objects.hashCode(employeeId);
+        // Multiplying spreads IDs that differ only in their high bits over the first levels
+        return hash * 0x9E3779B9;
+    }
+
+    private static int hashOf(Object slot) {
+        return slot instanceof Collision collision ? collision.hash : hash(((Employee<?>) slot).getEmployeeId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Employee<T> employee(Object slot) {
+        return (Employee<T>) slot;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.employee_management_system.repository;
+
+import java.util.List;
+
+/**
+ * How {@link EmployeeRepository#find(EmployeeQuery)} runs a query: the index it reads candidates from,
+ * the criteria it then checks on each candidate, and how it applies the query's order and limit.
+ * Returned by {@link EmployeeRepository#explain(EmployeeQuery)}.
+ */
+public final class QueryPlan {
+    /**
+     * Where the candidate employees are read from.
+     */
+    public enum AccessPath {
+        DEPARTMENT_INDEX, SALARY_INDEX, RATING_INDEX, NAME_INDEX, FULL_SCAN
+    }
+
+    /**
+     * How the query's order and limit are applied to the matching employees.
+     */
+    public enum Ordering {
+        /** No order: reading stops once the limit is reached. */
+        NONE,
+        /** The access path is read in the query's order, and reading stops once the limit is reached. */
+        INDEX,
+        /** Every match is read, and only the first {@code limit} are kept in a bounded heap. */
+        TOP_K,
+        /** Every match is read and sorted. */
+        SORT
+    }
+
+    private final AccessPath accessPath;
+    private final long estimatedRows;
+    private final List<String> filters;
+    private final Ordering ordering;
+
+    QueryPlan(AccessPath accessPath, long estimatedRows, List<String> filters, Ordering ordering) {
+        this.accessPath = accessPath;
+        this.estimatedRows = estimatedRows;
+        this.filters = List.copyOf(filters);
+        this.ordering = ordering;
+    }
+
+    public AccessPath getAccessPath() { return accessPath; }
+    public Ordering getOrdering() { return ordering; }
+
+    /**
+     * @return the estimated number of employees read from the access path
+     */
+    public long getEstimatedRows() { return estimatedRows; }
+
+    /**
+     * @return the criteria checked on each employee read, in the order they are checked
+     */
+    public List<String> getFilters() { return filters; }
+
+    @Override
+    public String toString() {
+        return accessPath + " (~" + estimatedRows + " rows)"
+                + (filters.isEmpty() ? "" : " filter " + String.join(", ", filters))
+                + (ordering == Ordering.NONE ? "" : " order " + ordering);
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.QueryPlan.AccessPath;
+import com.example.employee_management_system.repository.QueryPlan.Ordering;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Plans and runs one {@link EmployeeQuery} against one generation of a repository's contents.
+ * <p>
+ * Each criterion's selectivity is measured where an index makes it cheap: the department index
+ * counts a department exactly, the sorted indexes count a range but stop once reading it would cost
+ * more than the best access path found so far, and the statistics give the active fraction. The
+ * criterion whose index is cheapest to read drives the query, and the others are checked on each
+ * candidate, most selective first, so most candidates are rejected by the first check. Reading through
+ * an index costs more per employee than a full scan, so an index only drives the query if it selects
+ * a small enough part of the employees.
+ * <p>
+ * An order on salary or rating with a limit is pushed down to that index when reading it in order
+ * until the limit is reached is estimated to cost less than reading the driving index. Otherwise a
+ * limited query keeps only the first {@code limit} matches in a bounded heap, and an unlimited one
+ * sorts all matches.
+ *
+ * @param <T> the type of the employee ID
+ */
+final class QueryPlanner<T extends Comparable<? super T>> {
+    // Below this many candidates, checking the name on each is cheaper than searching the name index
+    private static final long NAME_INDEX_THRESHOLD = 1_000;
+    // Selectivity assumed for criteria nothing is known about
+    private static final double UNKNOWN_SELECTIVITY = 0.5;
+    // Reading an employee through an index costs about this many times reading it in a full scan, as
+    // measured on a million employees: index entries are scattered in memory, and every key of a sorted
+    // index is a separate skip list node and bucket
+    private static final int HASHED_INDEX_COST = 4;
+    private static final int SORTED_INDEX_COST = 16;
+
+    private final EmployeeStorage<T> storage;
+    private final EmployeeQuery query;
+    private final long size;
+    private final List<Criterion> criteria = new ArrayList<>();
+    private List<Employee<T>> nameMatches;
+    private AccessPath accessPath = AccessPath.FULL_SCAN;
+    private long estimatedRows;
+    // The cost of the best access path found so far, in employees read by a full scan
+    private long bestCost;
+    private Ordering ordering;
+    private Criterion[] filters;
+
+    QueryPlanner(EmployeeStorage<T> storage, EmployeeStatistics<T> statistics, EmployeeQuery query) {
+        this.storage = storage;
+        this.query = query;
+        this.size = storage.employees.get().size();
+        this.estimatedRows = size;
+        this.bestCost = size;
+        measure(statistics);
+        chooseOrdering();
+    }
+
+    QueryPlan plan() {
+        List<String> names = new ArrayList<>(filters.length);
+        for (Criterion filter : filters) {
+            names.add(filter.name);
+        }
+        return new QueryPlan(accessPath, estimatedRows, names, ordering);
+    }
+
+    List<Employee<T>> execute() {
+        Stream<Employee<T>> matches = source().filter(this::matchesFilters);
+        int limit = query.getLimit();
+        return switch (ordering) {
+            case NONE -> matches.limit(limit).collect(Collectors.toCollection(ArrayList::new));
+            case INDEX -> withUnindexed(matches.limit(limit).collect(Collectors.toCollection(ArrayList::new)));
+            case TOP_K -> first(matches, limit, query.getOrder().comparator());
+            case SORT -> matches.sorted(query.getOrder().<T>comparator()).collect(Collectors.toCollection(ArrayList::new));
+        };
+    }
+
+    private void measure(EmployeeStatistics<T> statistics) {
+        if (query.hasDepartment()) {
+            long rows = storage.departmentIndex.count(EmployeeStorage.normalizeDepartment(query.getDepartment()));
+            add("department", AccessPath.DEPARTMENT_INDEX, rows, query::matchesDepartment);
+        }
+        if (query.hasSalaryRange()) {
+            long rows = storage.salaryIndex.countRange(query.getMinSalary(), query.getMaxSalary(), rangeCountCap());
+            add("salary", AccessPath.SALARY_INDEX, rows, query::matchesSalary);
+        }
+        if (query.hasRatingRange()) {
+            long rows = storage.ratingIndex.countRange(query.getMinRating(), query.getMaxRating(), rangeCountCap());
+            add("rating", AccessPath.RATING_INDEX, rows, query::matchesRating);
+        }
+        if (query.hasNameContains()) {
+            if (bestCost > NAME_INDEX_THRESHOLD) {
+                nameMatches = storage.nameIndex.findContaining(query.getNameContains());
+                add("name", AccessPath.NAME_INDEX, nameMatches.size(), query::matchesName);
+            } else {
+                add("name", null, (long) (size * UNKNOWN_SELECTIVITY), query::matchesName);
+            }
+        }
+        if (query.hasExperienceRange()) {
+            add("experience", null, (long) (size * UNKNOWN_SELECTIVITY), query::matchesExperience);
+        }
+        if (query.hasActive()) {
+            // Within a department the active fraction is known exactly
+            EmployeeStatistics.Summary summary = query.hasDepartment()
+                    ? statistics.getDepartmentSummary(query.getDepartment()) : statistics.getSummary();
+            long active = query.getActive() ? summary.getActiveCount() : summary.getCount() - summary.getActiveCount();
+            double fraction = summary.getCount() == 0 ? 0.0 : (double) active / summary.getCount();
+            add("active", null, (long) (size * fraction), query::matchesActive);
+        }
+    }
+
+    /**
+     * Counting a range visits its keys one by one, so a range is only counted up to the size at
+     * which reading it would cost more than the best access path found so far.
+     */
+    private long rangeCountCap() {
+        return bestCost / SORTED_INDEX_COST;
+    }
+
+    private void add(String name, AccessPath path, long rows, Predicate<Employee<?>> test) {
+        boolean sorted = path == AccessPath.SALARY_INDEX || path == AccessPath.RATING_INDEX;
+        if (sorted && rows > rangeCountCap()) {
+            // The count stopped early: the range is wider than the cap, by how much is unknown
+            rows = Math.max(rows, (long) (size * UNKNOWN_SELECTIVITY));
+        }
+        criteria.add(new Criterion(name, path, rows, size == 0 ? 0.0 : Math.min(1.0, (double) rows / size), test));
+        long cost = rows * (sorted ? SORTED_INDEX_COST : path == AccessPath.DEPARTMENT_INDEX ? HASHED_INDEX_COST : 1);
+        if (path != null && cost < bestCost) {
+            bestCost = cost;
+            accessPath = path;
+            estimatedRows = rows;
+        }
+    }
+
+    private void chooseOrdering() {
+        EmployeeQuery.Order order = query.getOrder();
+        filters = filtersExcept(accessPath);
+        if (order == null) {
+            ordering = Ordering.NONE;
+            return;
+        }
+        AccessPath orderPath = switch (order) {
+            case SALARY_ASCENDING, SALARY_DESCENDING -> AccessPath.SALARY_INDEX;
+            case RATING_ASCENDING, RATING_DESCENDING -> AccessPath.RATING_INDEX;
+            default -> null;
+        };
+        if (orderPath != null && (query.hasLimit() || accessPath == orderPath)) {
+            // Reading the order's index in order, about limit / selectivity employees are read before
+            // limit of them match the other criteria
+            long orderRows = size;
+            double otherSelectivity = 1.0;
+            for (Criterion criterion : criteria) {
+                if (criterion.path == orderPath) {
+                    orderRows = criterion.rows;
+                } else {
+                    otherSelectivity *= criterion.selectivity;
+                }
+            }
+            long scanRows = otherSelectivity == 0.0 ? orderRows
+                    : (long) Math.min(orderRows, Math.ceil(query.getLimit() / otherSelectivity));
+            if (accessPath == orderPath || scanRows * SORTED_INDEX_COST < bestCost) {
+                accessPath = orderPath;
+                estimatedRows = scanRows;
+                filters = filtersExcept(orderPath);
+                ordering = Ordering.INDEX;
+                return;
+            }
+        }
+        ordering = query.hasLimit() ? Ordering.TOP_K : Ordering.SORT;
+    }
+
+    private Criterion[] filtersExcept(AccessPath path) {
+        return criteria.stream()
+                .filter(criterion -> path == AccessPath.FULL_SCAN || criterion.path != path)
+                .sorted(Comparator.comparingDouble(criterion -> criterion.selectivity))
+                .toArray(Criterion[]::new);
+    }
+
+    private Stream<Employee<T>> source() {
+        boolean descending = ordering == Ordering.INDEX && query.getOrder().isDescending();
+        return switch (accessPath) {
+            case DEPARTMENT_INDEX -> storage.departmentIndex.stream(EmployeeStorage.normalizeDepartment(query.getDepartment()));
+            case SALARY_INDEX -> storage.salaryIndex.streamRange(query.getMinSalary(), query.getMaxSalary(), descending);
+            case RATING_INDEX -> storage.ratingIndex.streamRange(query.getMinRating(), query.getMaxRating(), descending);
+            case NAME_INDEX -> nameMatches.stream();
+            case FULL_SCAN -> storage.employees.get().stream();
+        };
+    }
+
+    private boolean matchesFilters(Employee<T> employee) {
+        for (Criterion filter : filters) {
+            if (!filter.test.test(employee)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Completes an ordered index scan that found fewer than {@code limit} matches with the matching
+     * employees the index does not hold: those without the attribute, which come last in any order.
+     */
+    private List<Employee<T>> withUnindexed(List<Employee<T>> result) {
+        boolean salary = accessPath == AccessPath.SALARY_INDEX;
+        boolean ranged = salary ? query.hasSalaryRange() : query.hasRatingRange();
+        if (result.size() >= query.getLimit() || ranged) {
+            return result;
+        }
+        storage.employees.get().stream()
+                .filter(employee -> (salary ? employee.getSalary() : employee.getPerformanceRating()) == null)
+                .filter(query::matches)
+                .limit(query.getLimit() - result.size())
+                .forEach(result::add);
+        return result;
+    }
+
+    private static <E> List<E> first(Stream<E> stream, int k, Comparator<? super E> order) {
+        // The worst retained element sits at the head, ready to be evicted
+        PriorityQueue<E> heap = new PriorityQueue<>(Math.min(k, 1024), order.reversed());
+        stream.forEach(element -> {
+            if (heap.size() < k) {
+                heap.add(element);
+            } else if (order.compare(element, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(element);
+            }
+        });
+        List<E> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    private static final class Criterion {
+        private final String name;
+        private final AccessPath path;
+        private final long rows;
+        private final double selectivity;
+        private final Predicate<Employee<?>> test;
+
+        private Criterion(String name, AccessPath path, long rows, double selectivity, Predicate<Employee<?>> test) {
+            this.name = name;
+            this.path = path;
+            this.rows = rows;
+            this.selectivity = selectivity;
+            this.test = test;
+        }
+    }
+}
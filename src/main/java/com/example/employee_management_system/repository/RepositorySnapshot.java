@@ -0,0 +1,67 @@
+package com.example.employee_management_system.repository;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * The employees of an {@link EmployeeRepository} as of one point in time, from {@link EmployeeRepository#snapshot()}.
+ * <p>
+ * A snapshot keeps returning the same employees however long it is used: writes made after it was
+ * taken publish new versions and never change it, and reading it takes no locks, so it neither waits
+ * for writers nor holds them up. Taking one costs a single read; the versions it shares with the
+ * repository are reclaimed once no snapshot references them. The repository stores copies of the
+ * employees it is given, so changing a saved instance afterwards does not change any snapshot; the
+ * employees a snapshot returns are shared and read-only, so a snapshot never changes.
+ *
+ * @param <T> the type of the employee ID
+ */
+public final class RepositorySnapshot<T extends Comparable<? super T>> {
+    private final PersistentEmployeeMap<T> employees;
+
+    RepositorySnapshot(PersistentEmployeeMap<T> employees) {
+        this.employees = employees;
+    }
+
+    public Optional<Employee<T>> findById(T employeeId) {
+        return employeeId == null ? Optional.empty() : Optional.ofNullable(employees.get(employeeId));
+    }
+
+    /**
+     * @return a new list containing every employee of the snapshot
+     */
+    public List<Employee<T>> findAll() {
+        List<Employee<T>> all = new ArrayList<>(employees.size());
+        employees.forEach(all::add);
+        return all;
+    }
+
+    /**
+     * @return a stream of the employees of the snapshot, which can be made parallel
+     */
+    public Stream<Employee<T>> stream() {
+        return employees.stream();
+    }
+
+    public void forEach(Consumer<? super Employee<T>> action) {
+        employees.forEach(action);
+    }
+
+    public long count(Predicate<? super Employee<T>> predicate) {
+        long count = 0;
+        for (Employee<T> employee : employees) {
+            if (predicate.test(employee)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+}
@@ -4,6 +4,8 @@ import com.example.employee_management_system.domain.Employee;
 import com.example.employee_management_system.domain.EmployeeValidator;
 import com.example.employee_management_system.exceptions.EmployeeNotFoundException;
 import com.example.employee_management_system.exceptions.InvalidEmployeeArgumentException;
+import com.example.employee_management_system.metrics.OperationMetrics;
+import com.example.employee_management_system.metrics.ServiceMetrics;
 import com.example.employee_management_system.repository.EmployeeRepository;
 import java.util.List;
 import java.util.Optional;
@@ -14,7 +16,12 @@ import java.util.Optional;
  *
  * @param <T> the type of the employee ID
  */
-public class EmployeeCRUDService<T> {
+public class EmployeeCRUDService<T extends Comparable<? super T>> {
+    private static final OperationMetrics ADD_EMPLOYEE = ServiceMetrics.operation("EmployeeCRUDService", "addEmployee");
+    private static final OperationMetrics REMOVE_EMPLOYEE = ServiceMetrics.operation("EmployeeCRUDService", "removeEmployee");
+    private static final OperationMetrics UPDATE_EMPLOYEE = ServiceMetrics.operation("EmployeeCRUDService", "updateEmployee");
+    private static final OperationMetrics GET_ALL_EMPLOYEES = ServiceMetrics.operation("EmployeeCRUDService", "getAllEmployees");
+
     private final EmployeeRepository<T> repository;
     private final EmployeeValidator<T> validator;
 
@@ -31,8 +38,10 @@ public class EmployeeCRUDService<T> {
      * @throws InvalidEmployeeArgumentException if the employee data is invalid
      */
     public boolean addEmployee(Employee<T> employee) {
-        validator.validate(employee);
-        return repository.save(employee);
+        return ADD_EMPLOYEE.time(() -> {
+            validator.validate(employee);
+            return repository.save(employee);
+        });
     }
 
     /**
@@ -43,8 +52,10 @@ public class EmployeeCRUDService<T> {
      * @throws EmployeeNotFoundException if the employee with the given ID is not found
      */
     public boolean removeEmployee(T employeeId) {
-        Employee<T> employee = repository.findById(employeeId).orElseThrow(() -> new EmployeeNotFoundException(employeeId));
-        return repository.delete(employeeId);
+        return REMOVE_EMPLOYEE.time(() -> {
+            Employee<T> employee = repository.findById(employeeId).orElseThrow(() -> new EmployeeNotFoundException(employeeId));
+            return repository.delete(employeeId);
+        });
     }
 
     /**
@@ -57,14 +68,17 @@ public class EmployeeCRUDService<T> {
      * @throws InvalidEmployeeArgumentException if the updated employee data is invalid
      */
     public boolean updateEmployee(T employeeId, Employee<T> updatedEmployee) {
-        Employee<T> employee = repository.findById(employeeId).orElseThrow(() -> new EmployeeNotFoundException(employeeId));
+        return UPDATE_EMPLOYEE.time(() -> {
+            repository.findById(employeeId).orElseThrow(() -> new EmployeeNotFoundException(employeeId));
 
-        updatedEmployee.setEmployeeId(employeeId);
-        validator.validate(updatedEmployee);
-        return repository.save(updatedEmployee);
+            Employee<T> employee = new Employee<>(updatedEmployee);
+            employee.setEmployeeId(employeeId);
+            validator.validate(employee);
+            return repository.save(employee);
+        });
     }
 
     public List<Employee<T>> getAllEmployees() {
-        return repository.findAll();
+        return GET_ALL_EMPLOYEES.time(() -> repository.findAll());
     }
 }
@@ -1,10 +1,12 @@
 package com.example.employee_management_system.service;
 
 import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.metrics.OperationMetrics;
+import com.example.employee_management_system.metrics.ServiceMetrics;
+import com.example.employee_management_system.repository.EmployeeQuery;
 import com.example.employee_management_system.repository.EmployeeRepository;
 import java.util.*;
 import java.util.NoSuchElementException;
-import java.util.stream.Collectors;
 
 /**
  * Service class that provides query operations for {@code Employee} entities.
@@ -12,7 +14,16 @@ import java.util.stream.Collectors;
  *
  * @param <T> the type of the employee ID
  */
-public class EmployeeQueryService<T> {
+public class EmployeeQueryService<T extends Comparable<? super T>> {
+    private static final OperationMetrics FILTER_BY_DEPARTMENT = ServiceMetrics.operation("EmployeeQueryService", "filterByDepartment");
+    private static final OperationMetrics FILTER_BY_NAME = ServiceMetrics.operation("EmployeeQueryService", "filterByName");
+    private static final OperationMetrics SUGGEST_NAMES = ServiceMetrics.operation("EmployeeQueryService", "suggestNames");
+    private static final OperationMetrics FILTER_BY_RATING = ServiceMetrics.operation("EmployeeQueryService", "filterByRating");
+    private static final OperationMetrics FILTER_BY_SALARY_RANGE = ServiceMetrics.operation("EmployeeQueryService", "filterBySalaryRange");
+    private static final OperationMetrics QUERY = ServiceMetrics.operation("EmployeeQueryService", "query");
+    private static final OperationMetrics GET_EMPLOYEE_ITERATOR = ServiceMetrics.operation("EmployeeQueryService", "getEmployeeIterator",
+            ServiceMetrics.CONSTANT_TIME_SAMPLE_INTERVAL);
+
     private final EmployeeRepository<T> repository;
 
     public EmployeeQueryService(EmployeeRepository<T> repository) {
@@ -26,28 +37,37 @@ public class EmployeeQueryService<T> {
      * @return a list of employees in the given department
      */
     public List<Employee<T>> filterByDepartment(String department) {
-        return repository.findAll().stream()
-                .filter(e -> e.getDepartment().equalsIgnoreCase(department))
-                .collect(Collectors.toList());
+        return FILTER_BY_DEPARTMENT.time(() -> repository.findByDepartment(department));
     }
 
     /**
-     * Filters employees by name (case-insensitive).
+     * Filters employees by name (case-insensitive) using the repository's name index.
      *
-     * @param name the name to filter by
-     * @return a list of employees with the given name
+     * @param name the name, or part of it, to filter by
+     * @return a list of employees whose name contains the given name
      * @throws NoSuchElementException if no employees are found with the given name
      */
     public List<Employee<T>> filterByName(String name) {
-        List <Employee<T>> employees = repository.findAll().stream()
-                .filter(e -> e.getName().toLowerCase().contains(name.toLowerCase()))
-                .collect(Collectors.toList());
+        return FILTER_BY_NAME.time(() -> {
+            List <Employee<T>> employees = repository.findByNameContaining(name);
+
+            if (employees.isEmpty())  {
+                throw new NoSuchElementException("No employees found with the given name.");
+            } else {
+                return employees;
+            }
+        });
+    }
 
-        if (employees.isEmpty())  {
-            throw new NoSuchElementException("No employees found with the given name.");
-        } else {
-            return employees;
-        }
+    /**
+     * Suggests names for the name search as the user types.
+     *
+     * @param prefix the text typed so far
+     * @param limit the maximum number of suggestions
+     * @return a list of distinct names having a word that starts with the prefix
+     */
+    public List<String> suggestNames(String prefix, int limit) {
+        return SUGGEST_NAMES.time(() -> repository.suggestNames(prefix, limit));
     }
 
     /**
@@ -57,9 +77,7 @@ public class EmployeeQueryService<T> {
      * @return a list of employees with a rating greater than or equal to the minimum rating
      */
     public List<Employee<T>> filterByRating(double minRating) {
-        return repository.findAll().stream()
-                .filter(e -> e.getPerformanceRating() >= minRating)
-                .collect(Collectors.toList());
+        return FILTER_BY_RATING.time(() -> repository.findByMinRating(minRating));
     }
 
     /**
@@ -70,12 +88,20 @@ public class EmployeeQueryService<T> {
      * @return a list of employees with a salary between the minimum and maximum values
      */
     public List<Employee<T>> filterBySalaryRange(double min, double max) {
-        return repository.findAll().stream()
-                .filter(e -> e.getSalary() >= min && e.getSalary() <= max)
-                .collect(Collectors.toList());
+        return FILTER_BY_SALARY_RANGE.time(() -> repository.findBySalaryRange(min, max));
+    }
+
+    /**
+     * Filters employees by several criteria at once, using the repository's indexes.
+     *
+     * @param query the criteria, order and limit
+     * @return a list of the employees matching every criterion, in the query's order
+     */
+    public List<Employee<T>> query(EmployeeQuery query) {
+        return QUERY.time(() -> repository.find(query));
     }
 
     public Iterator<Employee<T>> getEmployeeIterator() {
-        return repository.getIterator();
+        return GET_EMPLOYEE_ITERATOR.time(() -> repository.getIterator());
     }
 }
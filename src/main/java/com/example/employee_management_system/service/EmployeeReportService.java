@@ -2,16 +2,40 @@ package com.example.employee_management_system.service;
 
 import com.example.employee_management_system.domain.Employee;
 import com.example.employee_management_system.repository.EmployeeRepository;
-import java.util.List;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Service class that generates comprehensive report of employee data.
+ * <p>
+ * Reports are streamed: a single pass over the repository writes each employee and gathers the
+ * statistics, without copying the employees into a list. Rows are assembled in a reused buffer and
+ * written in large blocks, so a report of millions of employees costs one traversal and a few
+ * thousand writes. Each report reads a {@link com.example.employee_management_system.repository.RepositorySnapshot},
+ * so it describes the repository as of its start, even while salaries are raised or employees saved,
+ * without holding up those writes.
  *
  * @param <T> the type of the employee ID
  */
-public class EmployeeReportService<T> {
-    private static final String HEADER_FORMAT = "%-6s | %-20s | %-10s | %-12s | %-6s | %-5s | %-6s%n";
+public class EmployeeReportService<T extends Comparable<? super T>> {
     private static final String DIVIDER = "-----------------------------------------------------------------------------------";
+    private static final String CSV_HEADER = "employeeId,name,department,salary,performanceRating,yearsOfExperience,active";
+    private static final int[] COLUMN_WIDTHS = {6, 20, 10, 12, 6, 5, 6};
+    private static final String COLUMN_SEPARATOR = " | ";
+    private static final String NEWLINE = System.lineSeparator();
+    // Rows are handed to the writer once this many characters are buffered
+    private static final int ROW_BUFFER_CHARS = 1 << 16;
+    private static final int FILE_BUFFER_BYTES = 1 << 20;
     private final EmployeeRepository<T> repository;
 
     public EmployeeReportService(EmployeeRepository<T> repository) {
@@ -28,47 +52,256 @@ public class EmployeeReportService<T> {
      *   <li>Total salary expenditure</li>
      *   <li>Average salary</li>
      * </ul>
+     *
+     * @return the statistics of the printed report
+     */
+    public ReportSummary generateFullReport() {
+        try {
+            Writer out = new OutputStreamWriter(System.out, Charset.defaultCharset());
+            ReportSummary summary = write(out, ReportFormat.TEXT, System.nanoTime());
+            out.flush();
+            return summary;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a report of all employees to a file, replacing its contents.
+     *
+     * @param path the report file
+     * @param format the report format
+     * @return the statistics and throughput of the report
+     * @throws IOException if the file cannot be written
      */
-    public void generateFullReport() {
-        List<Employee<T>> employees = repository.findAll();
-
-        System.out.println("\n" + DIVIDER);
-        System.out.println("EMPLOYEE MANAGEMENT SYSTEM REPORT");
-        System.out.println(DIVIDER);
-
-        // Print employee details
-        System.out.printf(HEADER_FORMAT,
-                "ID", "Name", "Department", "Salary", "Rating", "Exp", "Active");
-        System.out.println(DIVIDER);
-
-        employees.forEach(emp -> System.out.printf(HEADER_FORMAT,
-                emp.getEmployeeId(),
-                emp.getName(),
-                emp.getDepartment(),
-                emp.getSalary(),
-                emp.getPerformanceRating(),
-                emp.getYearsOfExperience(),
-                emp.isActive() ? "Yes" : "No")
-        );
-
-        // Print statistics
-        System.out.println(DIVIDER);
-        printStatistics(employees);
-        System.out.println(DIVIDER);
+    public ReportSummary writeReport(Path path, ReportFormat format) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Writer out = new OutputStreamWriter(
+                     new BufferedOutputStream(Channels.newOutputStream(channel), FILE_BUFFER_BYTES), StandardCharsets.UTF_8)) {
+            ReportSummary counted = write(out, format, start);
+            out.flush();
+            return new ReportSummary(counted.getEmployeeCount(), counted.getActiveCount(), counted.getTotalSalary(),
+                    channel.size(), System.nanoTime() - start);
+        }
     }
 
-    private void printStatistics(List<Employee<T>> employees) {
-        double totalSalary = employees.stream()
-                .mapToDouble(Employee::getSalary)
-                .sum();
+    private ReportSummary write(Writer out, ReportFormat format, long start) throws IOException {
+        ReportPass pass = new ReportPass(out, format);
+        pass.header();
+        try {
+            repository.snapshot().forEach(pass::row);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        pass.footer();
+        return new ReportSummary(pass.employeeCount, pass.activeCount, pass.totalSalary,
+                pass.charsWritten, System.nanoTime() - start);
+    }
+
+    /**
+     * The state of one report being written: the row buffer and the running statistics.
+     */
+    private final class ReportPass {
+        private final Writer out;
+        private final ReportFormat format;
+        private final StringBuilder buffer = new StringBuilder(ROW_BUFFER_CHARS + 1024);
+        private long employeeCount;
+        private long activeCount;
+        private double totalSalary;
+        private long charsWritten;
+
+        ReportPass(Writer out, ReportFormat format) {
+            this.out = out;
+            this.format = format;
+        }
+
+        void header() throws IOException {
+            switch (format) {
+                case TEXT -> {
+                    buffer.append(NEWLINE).append(DIVIDER).append(NEWLINE);
+                    buffer.append("EMPLOYEE MANAGEMENT SYSTEM REPORT").append(NEWLINE);
+                    buffer.append(DIVIDER).append(NEWLINE);
+                    textRow("ID", "Name", "Department", "Salary", "Rating", "Exp", "Active");
+                    buffer.append(DIVIDER).append(NEWLINE);
+                }
+                case CSV -> buffer.append(CSV_HEADER).append(NEWLINE);
+                case JSON -> buffer.append("{").append(NEWLINE).append("  \"employees\": [");
+            }
+            flush();
+        }
+
+        void row(Employee<T> emp) {
+            switch (format) {
+                case TEXT -> textRow(emp.getEmployeeId(), emp.getName(), emp.getDepartment(), emp.getSalary(),
+                        emp.getPerformanceRating(), emp.getYearsOfExperience(), emp.isActive() ? "Yes" : "No");
+                case CSV -> csvRow(emp);
+                case JSON -> jsonRow(emp);
+            }
+            employeeCount++;
+            if (emp.isActive()) {
+                activeCount++;
+            }
+            if (emp.getSalary() != null) {
+                totalSalary += emp.getSalary();
+            }
+            if (buffer.length() >= ROW_BUFFER_CHARS) {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        void footer() throws IOException {
+            switch (format) {
+                case TEXT -> {
+                    buffer.append(DIVIDER).append(NEWLINE);
+                    buffer.append(String.format("%n%-30s: %d", "Total Employees", employeeCount));
+                    buffer.append(String.format("%n%-30s: %d (%.1f%%)", "Active Employees", activeCount,
+                            (activeCount * 100.0 / employeeCount)));
+                    buffer.append(String.format("%n%-30s: $%,.2f", "Total Salary Expenditure", totalSalary));
+                    buffer.append(String.format("%n%-30s: $%,.2f%n", "Average Salary", (totalSalary / employeeCount)));
+                    buffer.append(DIVIDER).append(NEWLINE);
+                }
+                case CSV -> {
+                }
+                case JSON -> {
+                    buffer.append(employeeCount == 0 ? "" : NEWLINE + "  ").append("],").append(NEWLINE);
+                    buffer.append("  \"statistics\": {\"employeeCount\": ").append(employeeCount)
+                            .append(", \"activeCount\": ").append(activeCount)
+                            .append(", \"totalSalary\": ");
+                    jsonNumber(totalSalary);
+                    buffer.append(", \"averageSalary\": ");
+                    jsonNumber(employeeCount == 0 ? 0.0 : totalSalary / employeeCount);
+                    buffer.append("}").append(NEWLINE).append("}").append(NEWLINE);
+                }
+            }
+            flush();
+        }
+
+        private void textRow(Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(COLUMN_SEPARATOR);
+                }
+                int columnStart = buffer.length();
+                buffer.append(values[i]);
+                for (int pad = COLUMN_WIDTHS[i] - (buffer.length() - columnStart); pad > 0; pad--) {
+                    buffer.append(' ');
+                }
+            }
+            buffer.append(NEWLINE);
+        }
+
+        private void csvRow(Employee<T> emp) {
+            csvField(String.valueOf(emp.getEmployeeId()));
+            buffer.append(',');
+            csvField(emp.getName());
+            buffer.append(',');
+            csvField(emp.getDepartment());
+            buffer.append(',');
+            if (emp.getSalary() != null) {
+                buffer.append(emp.getSalary().doubleValue());
+            }
+            buffer.append(',');
+            if (emp.getPerformanceRating() != null) {
+                buffer.append(emp.getPerformanceRating().doubleValue());
+            }
+            buffer.append(',');
+            if (emp.getYearsOfExperience() != null) {
+                buffer.append(emp.getYearsOfExperience().intValue());
+            }
+            buffer.append(',').append(emp.isActive()).append(NEWLINE);
+        }
+
+        /**
+         * Appends a field, quoting it if it contains a comma, a quote or a line break.
+         */
+        private void csvField(String value) {
+            if (value == null) {
+                return;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                buffer.append(value);
+                return;
+            }
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    buffer.append('"');
+                }
+                buffer.append(c);
+            }
+            buffer.append('"');
+        }
+
+        private void jsonRow(Employee<T> emp) {
+            buffer.append(employeeCount == 0 ? "" : ",").append(NEWLINE).append("    {\"employeeId\": ");
+            T employeeId = emp.getEmployeeId();
+            if (employeeId instanceof Number) {
+                buffer.append(employeeId);
+            } else {
+                jsonString(employeeId == null ? null : employeeId.toString());
+            }
+            buffer.append(", \"name\": ");
+            jsonString(emp.getName());
+            buffer.append(", \"department\": ");
+            jsonString(emp.getDepartment());
+            buffer.append(", \"salary\": ");
+            jsonNumber(emp.getSalary());
+            buffer.append(", \"performanceRating\": ");
+            jsonNumber(emp.getPerformanceRating());
+            buffer.append(", \"yearsOfExperience\": ").append(emp.getYearsOfExperience());
+            buffer.append(", \"active\": ").append(emp.isActive()).append('}');
+        }
+
+        private void jsonNumber(Double value) {
+            if (value == null || !Double.isFinite(value)) {
+                buffer.append("null");
+            } else {
+                buffer.append(value.doubleValue());
+            }
+        }
 
-        long activeCount = employees.stream()
-                .filter(Employee::isActive)
-                .count();
+        private void jsonString(String value) {
+            if (value == null) {
+                buffer.append("null");
+                return;
+            }
+            buffer.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> buffer.append("\\\"");
+                    case '\\' -> buffer.append("\\\\");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    case '\t' -> buffer.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            buffer.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            buffer.append(c);
+                        }
+                    }
+                }
+            }
+            buffer.append('"');
+        }
 
-        System.out.printf("%n%-30s: %d", "Total Employees", employees.size());
-        System.out.printf("%n%-30s: %d (%.1f%%)", "Active Employees", activeCount, (activeCount * 100.0 / employees.size()));
-        System.out.printf("%n%-30s: $%,.2f", "Total Salary Expenditure", totalSalary);
-        System.out.printf("%n%-30s: $%,.2f%n", "Average Salary", (totalSalary / employees.size()));
+        private void flush() throws IOException {
+            out.append(buffer);
+            charsWritten += buffer.length();
+            buffer.setLength(0);
+        }
     }
-}
\ No newline at end of file
+}
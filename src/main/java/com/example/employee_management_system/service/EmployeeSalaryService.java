@@ -1,9 +1,13 @@
 package com.example.employee_management_system.service;
 
 import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.domain.EmployeeValidator;
+import com.example.employee_management_system.exceptions.InvalidEmployeeArgumentException;
+import com.example.employee_management_system.metrics.OperationMetrics;
+import com.example.employee_management_system.metrics.ServiceMetrics;
 import com.example.employee_management_system.repository.EmployeeRepository;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.DoubleAdder;
 
 /**
  * Service class that provides salary-related operations for {@code Employee} entities.
@@ -11,49 +15,69 @@ import java.util.stream.Collectors;
  *
  * @param <T> the type of the employee ID
  */
-public class EmployeeSalaryService<T> {
+public class EmployeeSalaryService<T extends Comparable<? super T>> {
+    private static final OperationMetrics APPLY_RAISE = ServiceMetrics.operation("EmployeeSalaryService", "applyRaise");
+    private static final OperationMetrics GET_TOP_PAID = ServiceMetrics.operation("EmployeeSalaryService", "getTopPaid",
+            ServiceMetrics.CONSTANT_TIME_SAMPLE_INTERVAL);
+    private static final OperationMetrics GET_AVERAGE_SALARY = ServiceMetrics.operation("EmployeeSalaryService", "getAverageSalary",
+            ServiceMetrics.CONSTANT_TIME_SAMPLE_INTERVAL);
+
     private final EmployeeRepository<T> repository;
+    private final EmployeeValidator<T> validator;
 
     public EmployeeSalaryService(EmployeeRepository<T> repository) {
         this.repository = repository;
+        this.validator = new EmployeeValidator<>();
     }
 
     /**
      * Applies a percentage-based raise to employees meeting the minimum performance rating.
+     * New salaries are computed and validated in parallel, then published atomically:
+     * readers see either every raised salary or none of them.
      *
      * @param percentage the raise percentage to apply
      * @param minRating the minimum performance rating required to receive the raise
+     * @return the number of employees raised and the resulting change in total salary
+     * @throws InvalidEmployeeArgumentException if a raised salary is invalid, in which case no salary is changed
      */
-    public void applyRaise(double percentage, double minRating) {
-        repository.findAll().stream()
-                .filter(e -> e.getPerformanceRating() >= minRating)
-                .forEach(e -> e.setSalary(e.getSalary() * (1 + percentage/100)));
+    public RaiseSummary applyRaise(double percentage, double minRating) {
+        return APPLY_RAISE.time(() -> {
+            double factor = 1 + percentage/100;
+            DoubleAdder costDelta = new DoubleAdder();
+
+            int affected = repository.updateAll(
+                    e -> e.getPerformanceRating() != null && e.getPerformanceRating() >= minRating,
+                    e -> {
+                        Employee<T> raised = new Employee<>(e);
+                        raised.setSalary(e.getSalary() * factor);
+                        validator.validate(raised);
+                        costDelta.add(raised.getSalary() - e.getSalary());
+                        return raised;
+                    });
+            return new RaiseSummary(affected, costDelta.sum());
+        });
     }
 
     /**
      * Retrieves the top-paid employees.
+     * Reads them from the repository's salary index, which is kept sorted on every save, delete and raise,
+     * so the cost depends on {@code count} rather than on the number of employees.
      *
      * @param count the number of top-paid employees to retrieve
      * @return a {@link List} of the top-paid employees
      */
     public List<Employee<T>> getTopPaid(int count) {
-        return repository.findAll().stream()
-                .sorted((e1, e2) -> Double.compare(e2.getSalary(), e1.getSalary()))
-                .limit(count)
-                .collect(Collectors.toList());
+        return GET_TOP_PAID.time(() -> repository.findTopBySalary(count));
     }
 
     /**
      * Calculates the average salary for a given department.
+     * Reads the repository's running statistics, so the cost does not depend on the number of employees.
      *
      * @param department the department to calculate the average salary for
      * @return the average salary for the specified department
      */
     public double getAverageSalary(String department) {
-        return repository.findAll().stream()
-                .filter(e -> e.getDepartment().equalsIgnoreCase(department))
-                .mapToDouble(Employee::getSalary)
-                .average()
-                .orElse(0.0);
+        return GET_AVERAGE_SALARY.timeDouble(() -> repository.getStatistics().getAverageSalary(department));
     }
 }
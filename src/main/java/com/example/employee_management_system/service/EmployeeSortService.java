@@ -1,11 +1,14 @@
 package com.example.employee_management_system.service;
 
 import com.example.employee_management_system.domain.Employee;
-import com.example.employee_management_system.domain.comparators.EmployeePerformanceComparator;
-import com.example.employee_management_system.domain.comparators.EmployeeSalaryComparator;
+import com.example.employee_management_system.metrics.OperationMetrics;
+import com.example.employee_management_system.metrics.ServiceMetrics;
+import com.example.employee_management_system.repository.EmployeeCursor;
+import com.example.employee_management_system.repository.EmployeePage;
 import com.example.employee_management_system.repository.EmployeeRepository;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service class that provides sorting operations for {@code Employee} entities.
@@ -13,7 +16,18 @@ import java.util.stream.Collectors;
  *
  * @param <T> the type of the employee ID
  */
-public class EmployeeSortService<T> {
+public class EmployeeSortService<T extends Comparable<? super T>> {
+    private static final OperationMetrics SORT_BY_EXPERIENCE = ServiceMetrics.operation("EmployeeSortService", "sortByExperience");
+    private static final OperationMetrics SORT_BY_SALARY = ServiceMetrics.operation("EmployeeSortService", "sortBySalary");
+    private static final OperationMetrics SORT_BY_PERFORMANCE = ServiceMetrics.operation("EmployeeSortService", "sortByPerformance");
+    private static final OperationMetrics SORT_BY = ServiceMetrics.operation("EmployeeSortService", "sortBy");
+    private static final OperationMetrics GET_TOP_PERFORMERS = ServiceMetrics.operation("EmployeeSortService", "getTopPerformers",
+            ServiceMetrics.CONSTANT_TIME_SAMPLE_INTERVAL);
+    private static final OperationMetrics GET_MOST_EXPERIENCED = ServiceMetrics.operation("EmployeeSortService", "getMostExperienced");
+    private static final OperationMetrics GET_TOP = ServiceMetrics.operation("EmployeeSortService", "getTop");
+    private static final OperationMetrics GET_PAGE = ServiceMetrics.operation("EmployeeSortService", "getPage",
+            ServiceMetrics.CONSTANT_TIME_SAMPLE_INTERVAL);
+
     private final EmployeeRepository<T> repository;
 
     public EmployeeSortService(EmployeeRepository<T> repository) {
@@ -22,42 +36,153 @@ public class EmployeeSortService<T> {
 
     /**
      * Returns all employees sorted by years of experience in descending order.
-     * Uses the natural ordering defined in {@link Employee#compareTo}.
+     * The list holds the employees of a snapshot taken by this call, so concurrent writes never leave
+     * a mix of old and new values in it. While the repository is unchanged, it is a lazily paged view
+     * of the experience index rather than a sorted copy, so the call costs about as much as reading
+     * its first page. Ties are broken by ascending ID and employees without an experience value come last.
      *
-     * @return a new {@link List} of employees sorted by experience
+     * @return a read-only {@link List} of employees sorted by experience
      */
     public List<Employee<T>> sortByExperience() {
-        return repository.findAll().stream()
-                .sorted()
-                .collect(Collectors.toList());
+        return SORT_BY_EXPERIENCE.time(() -> repository.findAllSorted(EmployeeCursor.Order.EXPERIENCE_DESCENDING));
     }
 
     /**
      * Returns all employees sorted by salary in descending order.
-     * Uses {@link EmployeeSalaryComparator} for sorting.
+     * The list holds the employees of a snapshot taken by this call, paged lazily from the salary
+     * index while the repository is unchanged.
+     * Ties are broken by ascending ID and employees without a salary come last.
      *
-     * @return a new {@link List} of employees sorted by salary
+     * @return a read-only {@link List} of employees sorted by salary
      */
     public List<Employee<T>> sortBySalary() {
-        return repository.findAll().stream()
-                .sorted(new EmployeeSalaryComparator<>())
-                .collect(Collectors.toList());
+        return SORT_BY_SALARY.time(() -> repository.findAllSorted(EmployeeCursor.Order.SALARY_DESCENDING));
     }
 
     /**
      * Returns all employees sorted by performance rating in descending order.
-     * Uses {@link EmployeePerformanceComparator} for sorting.
+     * The list holds the employees of a snapshot taken by this call, paged lazily from the rating
+     * index while the repository is unchanged.
+     * Ties are broken by ascending ID and employees without a rating come last.
      *
-     * @return a new {@link List} of employees sorted by performance rating
+     * @return a read-only {@link List} of employees sorted by performance rating
      * @throws IllegalStateException if no employees are found to sort
      */
     public List<Employee<T>> sortByPerformance() {
-        List<Employee<T>> employees = repository.findAll();
-        if (employees.isEmpty()) {
-            throw new IllegalStateException("No employees found to sort.");
-        }
-        return employees.stream()
-                .sorted(new EmployeePerformanceComparator<>())
-                .collect(Collectors.toList());
+        return SORT_BY_PERFORMANCE.time(() -> {
+            List<Employee<T>> sorted = repository.findAllSorted(EmployeeCursor.Order.RATING_DESCENDING);
+            if (sorted.isEmpty()) {
+                throw new IllegalStateException("No employees found to sort.");
+            }
+            return sorted;
+        });
+    }
+
+    /**
+     * Returns all employees sorted by several keys, the first key being the most significant, for
+     * example department, then salary descending, then ID. Employees equal in every key keep the
+     * order of the repository snapshot.
+     * <p>
+     * The keys are extracted once into primitive arrays and sorted with a parallel radix sort, so no
+     * comparator runs per comparison. The employees come from one snapshot of the repository, so
+     * concurrent writes never leave a mix of old and new values in the result. Sorting by a single experience, salary or rating key is cheaper
+     * through {@link #sortByExperience}, {@link #sortBySalary} and {@link #sortByPerformance}.
+     *
+     * @param keys the keys to sort by, in decreasing significance
+     * @return a new fixed-size {@link List} of the employees in sorted order
+     * @throws IllegalArgumentException if no key is given
+     */
+    @SuppressWarnings("unchecked")
+    public List<Employee<T>> sortBy(SortKey... keys) {
+        return SORT_BY.time(() -> {
+            if (keys.length == 0) {
+                throw new IllegalArgumentException("At least one sort key is required");
+            }
+            Employee<T>[] employees = repository.snapshot().stream().toArray(Employee[]::new);
+            return Arrays.asList(EmployeeSorter.sort(employees, List.of(keys)));
+        });
+    }
+
+    /**
+     * Returns the highest-rated employees.
+     * Reads them from the repository's rating index, so the cost depends on {@code count}
+     * rather than on the number of employees.
+     *
+     * @param count the number of employees to return
+     * @return a {@link List} of employees ordered by descending performance rating
+     */
+    public List<Employee<T>> getTopPerformers(int count) {
+        return GET_TOP_PERFORMERS.time(() -> repository.findTopByRating(count));
+    }
+
+    /**
+     * Returns the most experienced employees.
+     * Uses the natural ordering defined in {@link Employee#compareTo}.
+     *
+     * @param count the number of employees to return
+     * @return a {@link List} of employees ordered by descending years of experience
+     */
+    public List<Employee<T>> getMostExperienced(int count) {
+        return GET_MOST_EXPERIENCED.time(() -> getTop(count, Comparator.naturalOrder()));
+    }
+
+    /**
+     * Returns the first {@code count} employees according to the given ordering.
+     * Selects them in a single pass over a snapshot of the repository with a bounded heap instead of
+     * sorting every employee.
+     *
+     * @param count the number of employees to return
+     * @param order the ordering in which the wanted employees come first
+     * @return a {@link List} of at most {@code count} employees, sorted by {@code order}
+     */
+    public List<Employee<T>> getTop(int count, Comparator<? super Employee<T>> order) {
+        return GET_TOP.time(() -> repository.snapshot().stream().collect(TopK.collector(count, order)));
+    }
+
+    /**
+     * Returns the next page of employees sorted by years of experience in descending order.
+     *
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param size the maximum number of employees in the page
+     * @return the page and the cursor to the next one
+     */
+    public EmployeePage<T> sortByExperience(EmployeeCursor<T> after, int size) {
+        return getPage(EmployeeCursor.Order.EXPERIENCE_DESCENDING, after, size);
+    }
+
+    /**
+     * Returns the next page of employees sorted by salary in descending order.
+     *
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param size the maximum number of employees in the page
+     * @return the page and the cursor to the next one
+     */
+    public EmployeePage<T> sortBySalary(EmployeeCursor<T> after, int size) {
+        return getPage(EmployeeCursor.Order.SALARY_DESCENDING, after, size);
+    }
+
+    /**
+     * Returns the next page of employees sorted by performance rating in descending order.
+     *
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param size the maximum number of employees in the page
+     * @return the page and the cursor to the next one
+     */
+    public EmployeePage<T> sortByPerformance(EmployeeCursor<T> after, int size) {
+        return getPage(EmployeeCursor.Order.RATING_DESCENDING, after, size);
+    }
+
+    /**
+     * Returns the next page of employees in the given order, read from the repository's indexes
+     * in time proportional to the page size rather than to the number of employees.
+     * Ties are broken by ascending ID and employees without the sort key come last.
+     *
+     * @param order the order to page through
+     * @param after the cursor of the previous page, or {@code null} for the first page
+     * @param size the maximum number of employees in the page
+     * @return the page and the cursor to the next one
+     */
+    public EmployeePage<T> getPage(EmployeeCursor.Order order, EmployeeCursor<T> after, int size) {
+        return GET_PAGE.time(() -> repository.findPage(order, after, size));
     }
 }
@@ -0,0 +1,225 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Stable multi-key sort of employees by primitive keys.
+ * <p>
+ * Each key is read from every employee once and encoded as a {@code long} whose unsigned order is
+ * the order of the key, so the sort itself never touches an employee, unboxes a value or calls a
+ * comparator. The row indexes are then sorted with a least significant digit radix sort, one
+ * stable pass per byte, from the last key to the first. Passes over a byte that is the same in every
+ * key are skipped, so small integer keys cost one or two passes. Histograms and scatters run on
+ * disjoint chunks of the rows in parallel.
+ * <p>
+ * Strings and IDs that are not integral numbers are encoded by their rank among the distinct values,
+ * which costs a comparator sort of the distinct values only.
+ */
+final class EmployeeSorter {
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int DIGITS = Long.SIZE / RADIX_BITS;
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+    // Greater than every encoded value as an unsigned number, so missing attributes sort last
+    private static final long NULL_KEY = -1L;
+
+    private final int size;
+    private final int chunks;
+    private long[] keys;
+    private int[] rows;
+    private long[] keyScratch;
+    private int[] rowScratch;
+
+    private EmployeeSorter(int size) {
+        this.size = size;
+        this.chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), size / MIN_CHUNK_SIZE));
+        this.keys = new long[size];
+        this.rows = new int[size];
+        this.keyScratch = new long[size];
+        this.rowScratch = new int[size];
+        Arrays.parallelSetAll(rows, i -> i);
+    }
+
+    /**
+     * Sorts employees by the given keys, the first key being the most significant.
+     * Employees equal in every key keep their relative order.
+     *
+     * @param employees the employees to sort; not modified
+     * @param sortKeys the keys to sort by
+     * @return a new array holding the employees in sorted order
+     */
+    static <T> Employee<T>[] sort(Employee<T>[] employees, List<SortKey> sortKeys) {
+        EmployeeSorter sorter = new EmployeeSorter(employees.length);
+        for (int k = sortKeys.size() - 1; k >= 0; k--) {
+            sorter.sortBy(employees, sortKeys.get(k));
+        }
+        Employee<T>[] sorted = Arrays.copyOf(employees, employees.length);
+        int[] order = sorter.rows;
+        Arrays.parallelSetAll(sorted, i -> employees[order[i]]);
+        return sorted;
+    }
+
+    private <T> void sortBy(Employee<T>[] employees, SortKey sortKey) {
+        // Encode by employee into the scratch array, then gather in the current row order
+        long[] encoded = keyScratch;
+        encode(employees, sortKey, encoded);
+        long[] target = keys;
+        int[] order = rows;
+        Arrays.parallelSetAll(target, i -> encoded[order[i]]);
+
+        int[][] histograms = histograms();
+        for (int digit = 0; digit < DIGITS; digit++) {
+            if (!isConstant(histograms[digit])) {
+                scatter(digit * RADIX_BITS);
+            }
+        }
+    }
+
+    private int[][] histograms() {
+        int[][] total = new int[DIGITS][BUCKETS];
+        IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            int[][] counts = new int[DIGITS][BUCKETS];
+            for (int i = chunkStart(chunk), end = chunkStart(chunk + 1); i < end; i++) {
+                long key = keys[i];
+                for (int digit = 0; digit < DIGITS; digit++) {
+                    counts[digit][(int) (key >>> (digit * RADIX_BITS)) & (BUCKETS - 1)]++;
+                }
+            }
+            return counts;
+        }).forEachOrdered(counts -> {
+            for (int digit = 0; digit < DIGITS; digit++) {
+                for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                    total[digit][bucket] += counts[digit][bucket];
+                }
+            }
+        });
+        return total;
+    }
+
+    private boolean isConstant(int[] histogram) {
+        for (int count : histogram) {
+            if (count == size) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scatter(int shift) {
+        int[][] offsets = new int[chunks][BUCKETS];
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int[] counts = offsets[chunk];
+            for (int i = chunkStart(chunk), end = chunkStart(chunk + 1); i < end; i++) {
+                counts[(int) (keys[i] >>> shift) & (BUCKETS - 1)]++;
+            }
+        });
+        // Each chunk writes after the earlier chunks within every bucket, which keeps the pass stable
+        int position = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int count = offsets[chunk][bucket];
+                offsets[chunk][bucket] = position;
+                position += count;
+            }
+        }
+        long[] sourceKeys = keys;
+        int[] sourceRows = rows;
+        long[] targetKeys = keyScratch;
+        int[] targetRows = rowScratch;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int[] next = offsets[chunk];
+            for (int i = chunkStart(chunk), end = chunkStart(chunk + 1); i < end; i++) {
+                long key = sourceKeys[i];
+                int target = next[(int) (key >>> shift) & (BUCKETS - 1)]++;
+                targetKeys[target] = key;
+                targetRows[target] = sourceRows[i];
+            }
+        });
+        keys = targetKeys;
+        rows = targetRows;
+        keyScratch = sourceKeys;
+        rowScratch = sourceRows;
+    }
+
+    private int chunkStart(int chunk) {
+        return (int) ((long) size * chunk / chunks);
+    }
+
+    private static <T> void encode(Employee<T>[] employees, SortKey sortKey, long[] encoded) {
+        boolean descending = sortKey.isDescending();
+        switch (sortKey.getField()) {
+            case DEPARTMENT -> encodeRanks(employees, Employee::getDepartment, descending, encoded);
+            case NAME -> encodeRanks(employees, Employee::getName, descending, encoded);
+            case SALARY -> Arrays.parallelSetAll(encoded, i -> encodeDouble(employees[i].getSalary(), descending));
+            case RATING -> Arrays.parallelSetAll(encoded, i -> encodeDouble(employees[i].getPerformanceRating(), descending));
+            case EXPERIENCE -> Arrays.parallelSetAll(encoded, i -> {
+                Integer experience = employees[i].getYearsOfExperience();
+                return experience == null ? NULL_KEY : encodeLong(experience, descending);
+            });
+            case ID -> {
+                if (Arrays.stream(employees).parallel().allMatch(e -> isIntegral(e.getEmployeeId()))) {
+                    Arrays.parallelSetAll(encoded, i -> encodeLong(((Number) employees[i].getEmployeeId()).longValue(), descending));
+                } else {
+                    encodeRanks(employees, Employee::getEmployeeId, descending, encoded);
+                }
+            }
+        }
+    }
+
+    private static boolean isIntegral(Object id) {
+        return id instanceof Integer || id instanceof Long || id instanceof Short || id instanceof Byte;
+    }
+
+    private static long encodeLong(long value, boolean descending) {
+        // Flipping the sign bit turns signed order into unsigned order
+        return (descending ? ~value : value) ^ Long.MIN_VALUE;
+    }
+
+    private static long encodeDouble(Double value, boolean descending) {
+        if (value == null) {
+            return NULL_KEY;
+        }
+        long bits = Double.doubleToLongBits(value);
+        // Negative doubles order backwards by their bits; flipping all but the sign bit fixes that
+        return encodeLong(bits ^ ((bits >> 63) & Long.MAX_VALUE), descending);
+    }
+
+    /**
+     * Encodes values by their rank in the order of {@link SortKey#comparator}; values equal under
+     * that order, such as departments differing only in case, share a rank.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T, V> void encodeRanks(Employee<T>[] employees, Function<Employee<T>, V> attribute,
+                                           boolean descending, long[] encoded) {
+        Map<V, Long> ranks = new HashMap<>();
+        for (Employee<T> employee : employees) {
+            V value = attribute.apply(employee);
+            if (value != null) {
+                ranks.put(value, 0L);
+            }
+        }
+        Comparator<Object> order = (a, b) -> a instanceof String s
+                ? String.CASE_INSENSITIVE_ORDER.compare(s, (String) b)
+                : ((Comparable) a).compareTo(b);
+        Object[] distinct = ranks.keySet().toArray();
+        Arrays.sort(distinct, order);
+        long rank = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            if (i > 0 && order.compare(distinct[i - 1], distinct[i]) != 0) {
+                rank++;
+            }
+            ranks.put((V) distinct[i], rank);
+        }
+        Arrays.parallelSetAll(encoded, i -> {
+            V value = attribute.apply(employees[i]);
+            return value == null ? NULL_KEY : encodeLong(ranks.get(value), descending);
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.employee_management_system.service;
+
+/**
+ * Outcome of a bulk salary raise.
+ */
+public final class RaiseSummary {
+    private final int affectedCount;
+    private final double totalCostDelta;
+
+    public RaiseSummary(int affectedCount, double totalCostDelta) {
+        this.affectedCount = affectedCount;
+        this.totalCostDelta = totalCostDelta;
+    }
+
+    /**
+     * @return the number of employees whose salary was raised
+     */
+    public int getAffectedCount() { return affectedCount; }
+
+    /**
+     * @return the increase in total salary expenditure caused by the raise
+     */
+    public double getTotalCostDelta() { return totalCostDelta; }
+
+    @Override
+    public String toString() {
+        return String.format("Raised %d employee(s), total cost delta $%,.2f", affectedCount, totalCostDelta);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employee_management_system.service;
+
+/**
+ * Output formats of {@link EmployeeReportService}.
+ */
+public enum ReportFormat {
+    /**
+     * The fixed-width table printed to the console, followed by the statistics.
+     */
+    TEXT("txt"),
+    /**
+     * One row per employee under the header read by the CSV importer; statistics are not written.
+     */
+    CSV("csv"),
+    /**
+     * An object holding an {@code employees} array and a {@code statistics} object.
+     */
+    JSON("json");
+
+    private final String extension;
+
+    ReportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * @return the usual file name extension, without the dot
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
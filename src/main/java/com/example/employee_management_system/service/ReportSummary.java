@@ -0,0 +1,52 @@
+package com.example.employee_management_system.service;
+
+/**
+ * Statistics and throughput of one written report, gathered in the same pass as the rows.
+ */
+public final class ReportSummary {
+    private final long employeeCount;
+    private final long activeCount;
+    private final double totalSalary;
+    private final long bytesWritten;
+    private final long elapsedNanos;
+
+    ReportSummary(long employeeCount, long activeCount, double totalSalary, long bytesWritten, long elapsedNanos) {
+        this.employeeCount = employeeCount;
+        this.activeCount = activeCount;
+        this.totalSalary = totalSalary;
+        this.bytesWritten = bytesWritten;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getEmployeeCount() { return employeeCount; }
+    public long getActiveCount() { return activeCount; }
+    public double getTotalSalary() { return totalSalary; }
+
+    /**
+     * @return the total salary divided by the number of employees, or 0 without employees
+     */
+    public double getAverageSalary() {
+        return employeeCount == 0 ? 0.0 : totalSalary / employeeCount;
+    }
+
+    /**
+     * @return the size of the report, or the number of characters written for console reports
+     */
+    public long getBytesWritten() { return bytesWritten; }
+
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : employeeCount / (elapsedNanos / 1e9);
+    }
+
+    public double getMegabytesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : bytesWritten / (1024.0 * 1024.0) / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d employees, %,d KB in %.2f s (%,.0f rows/s, %.1f MB/s)",
+                employeeCount, bytesWritten >> 10, elapsedNanos / 1e9, getRowsPerSecond(), getMegabytesPerSecond());
+    }
+}
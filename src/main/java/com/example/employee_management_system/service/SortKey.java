@@ -0,0 +1,83 @@
+package com.example.employee_management_system.service;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * One key of an ordering passed to {@link EmployeeSortService#sortBy}: an employee attribute and a
+ * direction. Employees without the attribute come last in either direction, and departments and
+ * names compare ignoring case.
+ */
+public final class SortKey {
+    /**
+     * The attributes employees can be sorted by.
+     */
+    public enum Field {
+        DEPARTMENT,
+        NAME,
+        SALARY,
+        RATING,
+        EXPERIENCE,
+        ID
+    }
+
+    private final Field field;
+    private final boolean descending;
+
+    private SortKey(Field field, boolean descending) {
+        this.field = Objects.requireNonNull(field, "field");
+        this.descending = descending;
+    }
+
+    public static SortKey ascending(Field field) {
+        return new SortKey(field, false);
+    }
+
+    public static SortKey descending(Field field) {
+        return new SortKey(field, true);
+    }
+
+    public Field getField() { return field; }
+    public boolean isDescending() { return descending; }
+
+    /**
+     * Returns a comparator equivalent to this key, for sorting small lists or checking results.
+     * IDs must be {@link Comparable}.
+     *
+     * @return the comparator ordering employees by this key
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Comparator<Employee<T>> comparator() {
+        return switch (field) {
+            case DEPARTMENT -> nullsLast(Employee::getDepartment, String.CASE_INSENSITIVE_ORDER);
+            case NAME -> nullsLast(Employee::getName, String.CASE_INSENSITIVE_ORDER);
+            case SALARY -> nullsLast(Employee::getSalary, Comparator.<Double>naturalOrder());
+            case RATING -> nullsLast(Employee::getPerformanceRating, Comparator.<Double>naturalOrder());
+            case EXPERIENCE -> nullsLast(Employee::getYearsOfExperience, Comparator.<Integer>naturalOrder());
+            case ID -> nullsLast(e -> (Comparable) e.getEmployeeId(), (Comparator) Comparator.naturalOrder());
+        };
+    }
+
+    private <T, K> Comparator<Employee<T>> nullsLast(Function<Employee<T>, K> key, Comparator<K> order) {
+        return Comparator.comparing(key, Comparator.nullsLast(descending ? order.reversed() : order));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SortKey other)) return false;
+        return field == other.field && descending == other.descending;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, descending);
+    }
+
+    @Override
+    public String toString() {
+        return field + (descending ? " DESC" : " ASC");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.employee_management_system.service;
+
+import java.util.*;
+import java.util.stream.Collector;
+
+/**
+ * Bounded top-K selection. Keeps only the best {@code k} elements seen so far in a heap,
+ * so selecting from {@code n} elements takes O(n log k) time and O(k) memory in a single pass.
+ */
+public final class TopK {
+    private TopK() {
+    }
+
+    /**
+     * Returns a collector selecting the first {@code k} elements according to {@code order},
+     * as if the stream were sorted by {@code order} and limited to {@code k}.
+     * Supports parallel streams.
+     *
+     * @param k the number of elements to keep
+     * @param order the ordering in which the wanted elements come first
+     * @param <E> the type of the elements
+     * @return a collector producing a list of at most {@code k} elements, sorted by {@code order}
+     */
+    public static <E> Collector<E, ?, List<E>> collector(int k, Comparator<? super E> order) {
+        return Collector.of(
+                () -> new Selection<E>(k, order),
+                Selection::offer,
+                Selection::merge,
+                Selection::toSortedList
+        );
+    }
+
+    private static final class Selection<E> {
+        private final int k;
+        private final Comparator<? super E> order;
+        private final PriorityQueue<E> heap;
+
+        private Selection(int k, Comparator<? super E> order) {
+            this.k = k;
+            this.order = order;
+            // The worst retained element sits at the head, ready to be evicted
+            this.heap = new PriorityQueue<>(Math.max(1, Math.min(k, 1024)), order.reversed());
+        }
+
+        private void offer(E element) {
+            if (heap.size() < k) {
+                heap.add(element);
+            } else if (k > 0 && order.compare(element, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(element);
+            }
+        }
+
+        private Selection<E> merge(Selection<E> other) {
+            other.heap.forEach(this::offer);
+            return this;
+        }
+
+        private List<E> toSortedList() {
+            List<E> result = new ArrayList<>(heap);
+            result.sort(order);
+            return result;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 module com.example.employee_management_system {
     requires javafx.controls;
     requires javafx.fxml;
+    requires java.management;
 
 
     opens com.example.employee_management_system to javafx.fxml;
     exports com.example.employee_management_system;
+    exports com.example.employee_management_system.metrics;
 }
\ No newline at end of file
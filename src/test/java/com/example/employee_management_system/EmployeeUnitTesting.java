@@ -1,13 +1,66 @@
 package com.example.employee_management_system;
 
 import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.domain.EmployeeValidator;
+import com.example.employee_management_system.domain.ValidationResult;
+import com.example.employee_management_system.exceptions.InvalidNameException;
 import com.example.employee_management_system.exceptions.InvalidSalaryException;
+import com.example.employee_management_system.ingest.EmployeeCsvImporter;
+import com.example.employee_management_system.ingest.ImportListener;
+import com.example.employee_management_system.ingest.ImportProgress;
+import com.example.employee_management_system.ingest.RejectedRow;
+import com.example.employee_management_system.metrics.LatencyHistogram;
+import com.example.employee_management_system.metrics.OperationMetrics;
+import com.example.employee_management_system.metrics.RepositoryMetrics;
+import com.example.employee_management_system.metrics.ServiceMetrics;
+import com.example.employee_management_system.persistence.EmployeeSnapshot;
+import com.example.employee_management_system.persistence.FsyncPolicy;
+import com.example.employee_management_system.persistence.IdCodec;
+import com.example.employee_management_system.persistence.WriteAheadLog;
+import com.example.employee_management_system.repository.ColumnarEmployeeStore;
+import com.example.employee_management_system.repository.EmployeeChangeStream;
+import com.example.employee_management_system.repository.EmployeeCursor;
+import com.example.employee_management_system.repository.EmployeeIdSequence;
+import com.example.employee_management_system.repository.EmployeeJournal;
+import com.example.employee_management_system.repository.EmployeePage;
+import com.example.employee_management_system.repository.EmployeeQuery;
 import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.repository.EmployeeStatistics;
+import com.example.employee_management_system.repository.IntEmployeeRepository;
+import com.example.employee_management_system.repository.QueryPlan;
+import com.example.employee_management_system.repository.RepositorySnapshot;
 import com.example.employee_management_system.service.EmployeeCRUDService;
 import com.example.employee_management_system.service.EmployeeQueryService;
+import com.example.employee_management_system.service.EmployeeReportService;
 import com.example.employee_management_system.service.EmployeeSalaryService;
+import com.example.employee_management_system.service.EmployeeSortService;
+import com.example.employee_management_system.service.RaiseSummary;
+import com.example.employee_management_system.service.ReportFormat;
+import com.example.employee_management_system.service.ReportSummary;
+import com.example.employee_management_system.service.SortKey;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class EmployeeUnitTesting {
@@ -55,6 +108,851 @@ public class EmployeeUnitTesting {
         assertEquals(employee1, filteredEmployees.get(0));
     }
 
+    @Test
+    void testIndexedFiltersFollowUpdates() {
+        crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        repository.save(new Employee<>(2, "Patrick", "frontend", 6000.0, 6.0, 3, true));
+        crudService.addEmployee(new Employee<>(3, "Ama", "Frontend", 7000.0, 9.0, 2, true));
+
+        assertEquals(2, queryService.filterByDepartment("FRONTEND").size());
+        assertEquals(List.of(1, 2), queryService.filterBySalaryRange(4000, 6500).stream().map(Employee::getEmployeeId).toList());
+        assertEquals(List.of(1, 3), queryService.filterByRating(8.0).stream().map(Employee::getEmployeeId).toList());
+
+        crudService.updateEmployee(2, new Employee<>(2, "Patrick", "Backend", 9000.0, 9.5, 3, true));
+        crudService.removeEmployee(1);
+
+        assertEquals(List.of(2), queryService.filterByDepartment("backend").stream().map(Employee::getEmployeeId).toList());
+        assertTrue(queryService.filterBySalaryRange(4000, 6500).isEmpty());
+        assertEquals(List.of(3, 2), queryService.filterByRating(8.0).stream().map(Employee::getEmployeeId).toList());
+
+        // Changing only the experience replaces the other indexes' entries in place
+        repository.save(new Employee<>(3, "Ama", "Frontend", 7000.0, 9.0, 5, false));
+        Employee<Integer> stored = repository.findById(3).orElseThrow();
+        assertSame(stored, queryService.filterByDepartment("frontend").get(0));
+        assertSame(stored, queryService.filterBySalaryRange(6500, 7500).get(0));
+        assertSame(stored, queryService.filterByName("ama").get(0));
+        assertEquals(List.of(3, 2), queryService.filterByRating(8.0).stream().map(Employee::getEmployeeId).toList());
+        assertEquals(5, new EmployeeSortService<>(repository).sortByExperience().get(0).getYearsOfExperience());
+        assertEquals(0, repository.getStatistics().getDepartmentSummary("frontend").getActiveCount());
+        assertTrue(repository.getStatistics().isConsistentWith(repository));
+    }
+
+    @Test
+    void testApplyRaiseIsAtomic() throws Exception {
+        for (int id = 1; id <= 5_000; id++) {
+            repository.save(new Employee<>(id, "Employee", "Backend", 1000.0, 9.0, 1, true));
+        }
+
+        // Each full pass must see either no raised salary or only raised salaries
+        ExecutorService reader = Executors.newSingleThreadExecutor();
+        Future<Boolean> sawMix = reader.submit(() -> {
+            for (int pass = 0; pass < 200; pass++) {
+                if (repository.stream().map(Employee::getSalary).distinct().count() > 1) {
+                    return true;
+                }
+            }
+            return false;
+        });
+        RaiseSummary summary = salaryService.applyRaise(10.0, 5.0);
+        assertFalse(sawMix.get());
+        reader.shutdown();
+
+        assertEquals(5_000, summary.getAffectedCount());
+        assertEquals(500_000.0, summary.getTotalCostDelta(), 0.001);
+        assertEquals(1100.0, repository.findById(42).get().getSalary(), 0.001);
+
+        // A raise producing an invalid salary changes nothing
+        assertThrows(InvalidSalaryException.class, () -> salaryService.applyRaise(-200.0, 5.0));
+        assertEquals(5_000, repository.count(e -> e.getSalary() == 1100.0));
+        assertTrue(repository.getStatistics().isConsistentWith(repository));
+    }
+
+    @Test
+    void testWriteAheadLogReplay(@TempDir Path directory) throws Exception {
+        Path logFile = directory.resolve("employees.wal");
+        try (WriteAheadLog<Integer> log = WriteAheadLog.attach(repository, logFile, IdCodec.integers(), FsyncPolicy.ALWAYS)) {
+            crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+            crudService.addEmployee(new Employee<>(2, "Patrick", "Frontend", 6000.0, null, 3, false));
+            crudService.addEmployee(new Employee<>(3, "Ama", "DevOps", 7000.0, 9.0, 2, true));
+            crudService.removeEmployee(2);
+            salaryService.applyRaise(10.0, 8.0);
+        }
+        // A record torn by a crash mid-write is ignored and cut off
+        Files.write(logFile, new byte[]{0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+        EmployeeRepository<Integer> restored = new EmployeeRepository<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.attach(restored, logFile, IdCodec.integers(), FsyncPolicy.NEVER)) {
+            assertEquals(2, restored.size());
+            assertEquals(repository.findById(1), restored.findById(1));
+            assertEquals(repository.findById(3), restored.findById(3));
+            assertTrue(restored.findById(2).isEmpty());
+
+            restored.delete(1);
+        }
+
+        EmployeeRepository<Integer> restoredAgain = new EmployeeRepository<>();
+        WriteAheadLog.attach(restoredAgain, logFile, IdCodec.integers(), FsyncPolicy.NEVER).close();
+        assertEquals(List.of(3), restoredAgain.stream().map(Employee::getEmployeeId).toList());
+    }
+
+    @Test
+    void testWriteAheadLogCheckpoint(@TempDir Path directory) throws Exception {
+        Path logFile = directory.resolve("employees.wal");
+        try (WriteAheadLog<Integer> log = WriteAheadLog.attach(repository, logFile, IdCodec.integers(), FsyncPolicy.ALWAYS)) {
+            crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+            crudService.addEmployee(new Employee<>(2, "Patrick", "Frontend", 6000.0, null, 3, false));
+            assertEquals(2, log.checkpoint());
+            assertEquals(0, Files.size(logFile));
+            assertFalse(Files.exists(directory.resolve("employees.wal.old")));
+
+            crudService.addEmployee(new Employee<>(3, "Ama", "DevOps", 7000.0, 9.0, 2, true));
+            crudService.removeEmployee(1);
+            salaryService.applyRaise(10.0, 0.0);
+        }
+
+        // The snapshot is loaded and only the changes after it are replayed
+        EmployeeRepository<Integer> restored = new EmployeeRepository<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.attach(restored, logFile, IdCodec.integers(), FsyncPolicy.NEVER)) {
+            assertEquals(2, EmployeeSnapshot.read(log.getSnapshotPath(), IdCodec.integers(), employee -> { }));
+            assertEquals(List.of(2, 3), ids(restored.findAll()));
+            assertEquals(repository.findById(2), restored.findById(2));
+            assertEquals(repository.findById(3), restored.findById(3));
+            assertTrue(restored.getStatistics().isConsistentWith(restored));
+        }
+
+        // A log set aside by a checkpoint that did not finish is replayed after the snapshot
+        Files.copy(logFile, directory.resolve("employees.wal.old"));
+        Files.delete(logFile);
+        EmployeeRepository<Integer> recovered = new EmployeeRepository<>();
+        try (WriteAheadLog<Integer> log = WriteAheadLog.attach(recovered, logFile, IdCodec.integers(), FsyncPolicy.NEVER)) {
+            assertEquals(List.of(2, 3), ids(recovered.findAll()));
+            recovered.delete(2);
+            log.checkpoint();
+            assertFalse(Files.exists(directory.resolve("employees.wal.old")));
+        }
+        EmployeeRepository<Integer> checkpointed = new EmployeeRepository<>();
+        WriteAheadLog.attach(checkpointed, logFile, IdCodec.integers(), FsyncPolicy.NEVER).close();
+        assertEquals(List.of(3), ids(checkpointed.findAll()));
+    }
+
+    @Test
+    void testJournalRejectingChange() {
+        repository.save(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        repository.setJournal(new EmployeeJournal<>() {
+            @Override
+            public long append(Integer employeeId, Employee<Integer> after) {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+
+            @Override
+            public long appendBulk(List<Employee<Integer>> after) {
+                throw new UncheckedIOException(new IOException("disk full"));
+            }
+
+            @Override
+            public void awaitDurable(long ticket) {
+            }
+        });
+        // A change the journal rejects is not applied
+        assertThrows(UncheckedIOException.class, () -> repository.save(new Employee<>(2, "Ama", "DevOps", 7000.0, 9.0, 2, true)));
+        assertThrows(UncheckedIOException.class, () -> repository.delete(1));
+        assertThrows(UncheckedIOException.class, () -> repository.updateAll(e -> true, e -> new Employee<>(e.getEmployeeId(),
+                e.getName(), e.getDepartment(), 1.0, e.getPerformanceRating(), e.getYearsOfExperience(), e.isActive())));
+        assertEquals(List.of(1), ids(repository.findAll()));
+        assertEquals(5000.0, repository.findById(1).orElseThrow().getSalary());
+        assertEquals(1, repository.getStatistics().getSummary().getCount());
+
+        repository.setJournal(null);
+        assertTrue(repository.delete(1));
+    }
+
+    @Test
+    void testSnapshotRoundTrip(@TempDir Path directory) throws Exception {
+        Path snapshot = directory.resolve("employees.snapshot");
+        crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        crudService.addEmployee(new Employee<>(2, "Ama", "Backend", 6000.0, null, null, false));
+        repository.save(new Employee<>(3, "Kofi Mensah", null, null, 7.0, 2, true));
+
+        assertEquals(3, EmployeeSnapshot.write(repository, snapshot, IdCodec.integers()));
+        EmployeeRepository<Integer> restored = new EmployeeRepository<>();
+        assertEquals(3, EmployeeSnapshot.load(restored, snapshot, IdCodec.integers()));
+        for (int id = 1; id <= 3; id++) {
+            assertEquals(repository.findById(id), restored.findById(id));
+        }
+        assertEquals(repository.getStatistics().getSummary(), restored.getStatistics().getSummary());
+        // The loaded contents are indexed like saved ones
+        assertEquals(List.of(1, 2), ids(restored.findByDepartment("BACKEND")));
+        assertEquals(List.of(2, 1), restored.findTopBySalary(5).stream().map(Employee::getEmployeeId).toList());
+        assertEquals(List.of(3), ids(restored.findByNameContaining("mens")));
+        assertEquals(List.of(1, 2, 3), ids(restored.findPage(EmployeeCursor.Order.ID_ASCENDING, null, 5).getEmployees()));
+        assertThrows(IllegalStateException.class, () -> EmployeeSnapshot.load(restored, snapshot, IdCodec.integers()));
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshot, bytes);
+        assertThrows(IOException.class, () -> EmployeeSnapshot.load(new EmployeeRepository<>(), snapshot, IdCodec.integers()));
+
+        // The checksum covers the header too
+        bytes[bytes.length / 2] ^= 1;
+        bytes[9] ^= 1;
+        Files.write(snapshot, bytes);
+        assertThrows(IOException.class, () -> EmployeeSnapshot.load(new EmployeeRepository<>(), snapshot, IdCodec.integers()));
+    }
+
+    @Test
+    void testCsvImport(@TempDir Path directory) throws Exception {
+        Path csv = directory.resolve("employees.csv");
+        Files.write(csv, List.of(
+                EmployeeCsvImporter.HEADER,
+                "1,Elias,Backend,5000,8.5,4,true",
+                "2, \"Jane O'Neil\" ,Frontend,6000,,,false",
+                "3,Ama,Marketing,7000,9.0,2,true",
+                "",
+                "x,Kofi,QA,4000,7.0,1,true",
+                "5,Yaw,QA,-1,7.0,1,true",
+                "6,Efua,DevOps,4500,7.5,3,maybe",
+                "1,Elias Mensah,Backend,5500,8.5,4,true"
+        ));
+        List<RejectedRow> rejected = new ArrayList<>();
+        ImportProgress result = new EmployeeCsvImporter<>(repository, Integer::valueOf, 3, 2)
+                .importFile(csv, new ImportListener() {
+                    @Override
+                    public void onReject(RejectedRow row) {
+                        rejected.add(row);
+                    }
+                });
+
+        assertEquals(3, result.getImportedCount());
+        assertEquals(4, result.getRejectedCount());
+        assertEquals(List.of(4L, 6L, 7L, 8L), rejected.stream().map(RejectedRow::getLineNumber).toList());
+        assertEquals(2, repository.size());
+        assertEquals("Elias Mensah", repository.findById(1).orElseThrow().getName());
+        assertEquals("Jane O'Neil", repository.findById(2).orElseThrow().getName());
+        assertNull(repository.findById(2).orElseThrow().getPerformanceRating());
+        assertTrue(repository.getStatistics().isConsistentWith(repository));
+    }
+
+    @Test
+    void testReportFormats(@TempDir Path directory) throws Exception {
+        repository.save(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        repository.save(new Employee<>(2, "Jane O'Neil", "Frontend", 6000.0, null, null, false));
+        repository.save(new Employee<>(3, "Ama Mensah", "QA", 7000.0, 9.0, 2, true));
+        EmployeeReportService<Integer> reportService = new EmployeeReportService<>(repository);
+
+        Path csv = directory.resolve("report.csv");
+        ReportSummary summary = reportService.writeReport(csv, ReportFormat.CSV);
+        assertEquals(3, summary.getEmployeeCount());
+        assertEquals(2, summary.getActiveCount());
+        assertEquals(18000.0, summary.getTotalSalary());
+        assertEquals(Files.size(csv), summary.getBytesWritten());
+
+        EmployeeRepository<Integer> imported = new EmployeeRepository<>();
+        new EmployeeCsvImporter<>(imported, Integer::valueOf).importFile(csv, new ImportListener() {
+        });
+        assertEquals(repository.getStatistics().getSummary(), imported.getStatistics().getSummary());
+        assertEquals("Jane O'Neil", imported.findById(2).orElseThrow().getName());
+        assertNull(imported.findById(2).orElseThrow().getYearsOfExperience());
+
+        Path json = directory.resolve("report.json");
+        reportService.writeReport(json, ReportFormat.JSON);
+        String content = Files.readString(json);
+        assertTrue(content.contains("\"name\": \"Ama Mensah\""));
+        assertTrue(content.contains("\"performanceRating\": null"));
+        assertTrue(content.contains("\"statistics\": {\"employeeCount\": 3, \"activeCount\": 2, \"totalSalary\": 18000.0, \"averageSalary\": 6000.0}"));
+
+        Path text = directory.resolve("report.txt");
+        reportService.writeReport(text, ReportFormat.TEXT);
+        assertEquals(1, Files.readAllLines(text).stream().filter(line -> line.startsWith("2      | Jane O'Neil ")).count());
+    }
+
+    @Test
+    void testServiceMetrics() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000, histogram.getPercentile(0.5), 50_000 * 0.04);
+        assertEquals(99_000, histogram.getPercentile(0.99), 99_000 * 0.04);
+        assertEquals(100_000, histogram.getPercentile(1.0));
+
+        RepositoryMetrics<Integer> repositoryMetrics = RepositoryMetrics.attach(repository);
+        OperationMetrics addEmployee = ServiceMetrics.operation("EmployeeCRUDService", "addEmployee");
+        long calls = addEmployee.getCallCount();
+        long errors = addEmployee.getErrorCount();
+        crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5500.0, 8.5, 4, true));
+        assertThrows(InvalidSalaryException.class,
+                () -> crudService.addEmployee(new Employee<>(2, "Ama", "QA", -1.0, 8.5, 4, true)));
+        crudService.removeEmployee(1);
+        assertEquals(calls + 3, addEmployee.getCallCount());
+        assertEquals(errors + 1, addEmployee.getErrorCount());
+        assertEquals(1, repositoryMetrics.getInsertCount());
+        assertEquals(1, repositoryMetrics.getUpdateCount());
+        assertEquals(1, repositoryMetrics.getDeleteCount());
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ServiceMetrics.registerMBeans(server);
+        repositoryMetrics.registerMBean(server);
+        ObjectName operation = new ObjectName(ServiceMetrics.JMX_DOMAIN + ":type=ServiceOperation,name=EmployeeCRUDService.addEmployee");
+        assertEquals(addEmployee.getCallCount(), server.getAttribute(operation, "CallCount"));
+        assertEquals(0, server.getAttribute(new ObjectName(ServiceMetrics.JMX_DOMAIN + ":type=Repository"), "Size"));
+    }
+
+    @Test
+    void testValidationResults() {
+        EmployeeValidator<Integer> validator = new EmployeeValidator<>();
+        Employee<Integer> valid = new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true);
+        Employee<Integer> invalid = new Employee<>(2, "R2-D2", "Marketing", -1.0, 8.5, 4, true);
+
+        assertSame(ValidationResult.VALID, validator.check(valid));
+        ValidationResult result = validator.check(invalid);
+        assertEquals(List.of(ValidationResult.Field.NAME, ValidationResult.Field.SALARY, ValidationResult.Field.DEPARTMENT),
+                result.getViolations().stream().map(ValidationResult.Violation::getField).toList());
+        assertThrows(InvalidNameException.class, () -> validator.validate(invalid));
+        assertThrows(IllegalArgumentException.class, () -> validator.validate(null));
+
+        List<Employee<Integer>> batch = List.of(valid, invalid, valid, new Employee<>(4, "Ama", "QA", null, null, null, true));
+        SortedMap<Integer, ValidationResult> violations = validator.checkAll(batch);
+        assertEquals(List.of(1, 3), new ArrayList<>(violations.keySet()));
+        assertEquals("Salary cannot be empty", violations.get(3).getMessage());
+    }
+
+    @Test
+    void testNameIndexSearch() {
+        crudService.addEmployee(new Employee<>(1, "Kofi Mensah", "Backend", 5000.0, 8.5, 4, true));
+        crudService.addEmployee(new Employee<>(2, "Ama Mensah", "QA", 4000.0, 7.0, 2, true));
+        crudService.addEmployee(new Employee<>(3, "Menna Owusu", "QA", 4500.0, 7.5, 3, true));
+        crudService.addEmployee(new Employee<>(4, "Kofi Mensah", "DevOps", 6000.0, 9.0, 6, true));
+
+        assertEquals(List.of(1, 2, 4), ids(queryService.filterByName("MENSAH")));
+        assertEquals(List.of(1, 2, 3, 4), ids(queryService.filterByName("men")));
+        assertEquals(List.of(2), ids(queryService.filterByName("a m")));
+        assertEquals(List.of(3), ids(queryService.filterByName("NN")));
+        assertEquals(List.of("Menna Owusu", "Ama Mensah", "Kofi Mensah"), queryService.suggestNames("m", 10));
+        assertEquals(List.of("Kofi Mensah"), queryService.suggestNames("Ko", 10));
+
+        // Renames and deletes move the entries of the index
+        crudService.updateEmployee(2, new Employee<>(2, "Ama Boateng", "QA", 4000.0, 7.0, 2, true));
+        repository.delete(4);
+        assertEquals(List.of(1), ids(queryService.filterByName("mensah")));
+        assertEquals(List.of(2), ids(queryService.filterByName("boat")));
+        assertEquals(List.of("Ama Boateng"), queryService.suggestNames("bo", 10));
+        assertThrows(NoSuchElementException.class, () -> queryService.filterByName("xyz"));
+
+        // Bulk updates carry the index into the new generation
+        salaryService.applyRaise(10.0, 7.0);
+        assertEquals(List.of(1, 2, 3), ids(queryService.filterByName("")));
+    }
+
+    private static List<Integer> ids(List<Employee<Integer>> employees) {
+        return employees.stream().map(Employee::getEmployeeId).sorted().toList();
+    }
+
+    @Test
+    void testTopKSelection() {
+        EmployeeSortService<Integer> sortService = new EmployeeSortService<>(repository);
+        for (int id = 1; id <= 20; id++) {
+            crudService.addEmployee(new Employee<>(id, "Employee", "Backend", 1000.0 * id, (id % 10) + 0.5, id % 7, true));
+        }
+
+        assertEquals(List.of(20, 19, 18), salaryService.getTopPaid(3).stream().map(Employee::getEmployeeId).toList());
+        assertEquals(List.of(9.5, 9.5), sortService.getTopPerformers(2).stream().map(Employee::getPerformanceRating).toList());
+        assertEquals(sortService.sortByExperience().stream().limit(5).map(Employee::getYearsOfExperience).toList(),
+                sortService.getMostExperienced(5).stream().map(Employee::getYearsOfExperience).toList());
+
+        // The maintained salary order follows raises and deletes
+        salaryService.applyRaise(100.0, 8.0);
+        crudService.removeEmployee(19);
+        assertEquals(List.of(18, 20, 9), salaryService.getTopPaid(3).stream().map(Employee::getEmployeeId).toList());
+        assertTrue(salaryService.getTopPaid(0).isEmpty());
+    }
+
+    @Test
+    void testCompositeQuery() {
+        String[] departments = {"Backend", "Frontend", "Ops", "Data"};
+        for (int id = 1; id <= 5000; id++) {
+            String department = id % 50 == 0 ? "QA" : departments[id % departments.length];
+            repository.save(new Employee<>(id, "Employee " + id, department, 1000.0 + id, (id % 10) + 0.5, id % 20, id % 3 != 0));
+        }
+        List<EmployeeQuery> queries = List.of(
+                EmployeeQuery.builder().department("qa").active(true).build(),
+                EmployeeQuery.builder().department("Backend").salaryBetween(1000.0, 1100.0).build(),
+                EmployeeQuery.builder().active(true).minRating(5.0).orderBy(EmployeeQuery.Order.SALARY_DESCENDING).limit(20).build(),
+                EmployeeQuery.builder().department("QA").orderBy(EmployeeQuery.Order.EXPERIENCE_DESCENDING).limit(10).build(),
+                EmployeeQuery.builder().nameContains("EMPLOYEE 12").experienceBetween(5, 10).orderBy(EmployeeQuery.Order.RATING_ASCENDING).build()
+        );
+        List<QueryPlan.AccessPath> paths = List.of(QueryPlan.AccessPath.DEPARTMENT_INDEX, QueryPlan.AccessPath.SALARY_INDEX,
+                QueryPlan.AccessPath.SALARY_INDEX, QueryPlan.AccessPath.DEPARTMENT_INDEX, QueryPlan.AccessPath.NAME_INDEX);
+
+        for (int i = 0; i < queries.size(); i++) {
+            EmployeeQuery query = queries.get(i);
+            List<Employee<Integer>> expected = repository.stream().filter(query::matches)
+                    .sorted(query.getOrder() == null ? (a, b) -> a.getEmployeeId() - b.getEmployeeId() : query.getOrder().comparator())
+                    .limit(query.getLimit()).toList();
+            List<Employee<Integer>> actual = queryService.query(query);
+            if (query.getOrder() == null) {
+                actual.sort((a, b) -> a.getEmployeeId() - b.getEmployeeId());
+                assertEquals(expected, actual);
+            } else {
+                // Ties may come in any order, so only the ordered attribute is compared
+                assertEquals(expected.size(), actual.size());
+                for (int row = 0; row < actual.size(); row++) {
+                    assertEquals(0, query.getOrder().<Integer>comparator().compare(expected.get(row), actual.get(row)));
+                    assertTrue(query.matches(actual.get(row)));
+                }
+            }
+            assertEquals(paths.get(i), repository.explain(query).getAccessPath(), query.toString());
+        }
+        assertEquals(QueryPlan.Ordering.INDEX, repository.explain(queries.get(2)).getOrdering());
+        assertEquals(QueryPlan.Ordering.TOP_K, repository.explain(queries.get(3)).getOrdering());
+        assertThrows(IllegalArgumentException.class, () -> EmployeeQuery.builder().salaryBetween(10.0, 5.0));
+    }
+
+    @Test
+    void testKeysetPagination() {
+        EmployeeSortService<Integer> sortService = new EmployeeSortService<>(repository);
+        for (int id = 1; id <= 250; id++) {
+            repository.save(new Employee<>(id, "Employee", "Backend", 1000.0 + id % 13, id % 11 == 0 ? null : (id % 10) + 0.5, id % 7, true));
+        }
+        Comparator<Employee<Integer>> byRating = Comparator.comparing(Employee<Integer>::getPerformanceRating,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        List<Employee<Integer>> expected = repository.stream().sorted(byRating.thenComparing(Employee::getEmployeeId)).toList();
+
+        List<Employee<Integer>> paged = new ArrayList<>();
+        EmployeeCursor<Integer> cursor = null;
+        do {
+            EmployeePage<Integer> page = sortService.sortByPerformance(cursor, 40);
+            paged.addAll(page.getEmployees());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(expected, paged);
+
+        // Writes between pages neither shift nor repeat the employees that stay
+        List<Integer> seen = new ArrayList<>();
+        EmployeePage<Integer> page = sortService.sortBySalary(null, 30);
+        int nextId = 1000;
+        while (true) {
+            page.getEmployees().forEach(e -> seen.add(e.getEmployeeId()));
+            if (!page.hasNext()) {
+                break;
+            }
+            crudService.removeEmployee(page.getEmployees().get(page.getEmployees().size() - 1).getEmployeeId());
+            repository.save(new Employee<>(nextId++, "Employee", "Backend", 2000.0, 5.0, 1, true));
+            page = sortService.sortBySalary(page.getNextCursor(), 30);
+        }
+        assertEquals(seen.size(), seen.stream().distinct().count());
+        for (int id = 1; id <= 250; id++) {
+            assertTrue(seen.contains(id) || repository.findById(id).isEmpty());
+        }
+        assertEquals(List.of(1, 2, 3), repository.findPage(EmployeeCursor.Order.ID_ASCENDING, null, 3)
+                .getEmployees().stream().map(Employee::getEmployeeId).toList());
+        EmployeeCursor<Integer> salaryCursor = sortService.sortBySalary(null, 10).getNextCursor();
+        assertThrows(IllegalArgumentException.class, () -> sortService.sortByExperience(salaryCursor, 10));
+    }
+
+    @Test
+    void testSortedViews() {
+        EmployeeSortService<Integer> sortService = new EmployeeSortService<>(repository);
+        for (int id = 1; id <= 1000; id++) {
+            repository.save(new Employee<>(id, "Employee", "Backend", 1000.0 + id % 97, (id % 10) + 0.5, id % 7 == 0 ? null : id % 20, true));
+        }
+        Comparator<Employee<Integer>> bySalary = Comparator.comparing(Employee<Integer>::getSalary).reversed();
+        assertEquals(repository.stream().sorted(bySalary.thenComparing(Employee::getEmployeeId)).toList(), sortService.sortBySalary());
+
+        // Positions far into the view are reached without reading it in order, and missing keys come last
+        List<Employee<Integer>> byExperience = sortService.sortByExperience();
+        assertEquals(1000, byExperience.size());
+        assertNull(byExperience.get(999).getYearsOfExperience());
+        assertEquals(19, byExperience.get(0).getYearsOfExperience());
+        assertThrows(UnsupportedOperationException.class, () -> byExperience.add(byExperience.get(0)));
+
+        // Writes after the view is taken do not change its size or order, whether or not its pages were read
+        List<Employee<Integer>> byRating = sortService.sortByPerformance();
+        byRating.get(10);
+        List<Employee<Integer>> bySalaryBefore = repository.snapshot().stream()
+                .sorted(bySalary.thenComparing(Employee::getEmployeeId)).toList();
+        List<Employee<Integer>> bySalaryView = sortService.sortBySalary();
+        repository.save(new Employee<>(5000, "Employee", "Backend", 1000.0, 10.0, 1, true));
+        for (int id = 1; id <= 500; id++) {
+            repository.delete(id);
+        }
+        assertEquals(9.5, byRating.get(0).getPerformanceRating());
+        assertEquals(1000, byRating.size());
+        assertEquals(1000, byRating.stream().distinct().count());
+        assertFalse(byRating.stream().anyMatch(employee -> employee.getEmployeeId() == 5000));
+        assertEquals(bySalaryBefore, bySalaryView);
+    }
+
+    @Test
+    void testMultiKeySort() {
+        EmployeeSortService<Integer> sortService = new EmployeeSortService<>(repository);
+        String[] departments = {"Backend", "frontend", "Ops", "FRONTEND", null};
+        Random random = new Random(7);
+        for (int id = 1; id <= 5000; id++) {
+            Double salary = id % 13 == 0 ? null : (random.nextInt(400) - 100) * 12.5;
+            repository.save(new Employee<>(id, "Employee " + random.nextInt(300), departments[id % departments.length],
+                    salary, id % 17 == 0 ? null : random.nextInt(20) / 2.0, random.nextInt(30), true));
+        }
+        List<List<SortKey>> orderings = List.of(
+                List.of(SortKey.ascending(SortKey.Field.DEPARTMENT), SortKey.descending(SortKey.Field.SALARY), SortKey.ascending(SortKey.Field.ID)),
+                List.of(SortKey.descending(SortKey.Field.NAME), SortKey.ascending(SortKey.Field.RATING)),
+                List.of(SortKey.descending(SortKey.Field.EXPERIENCE)),
+                List.of(SortKey.descending(SortKey.Field.ID))
+        );
+        for (List<SortKey> keys : orderings) {
+            Comparator<Employee<Integer>> order = keys.stream().map(SortKey::<Integer>comparator).reduce(Comparator::thenComparing).get();
+            // Both sorts are stable, so ties keep the repository's iteration order in each
+            assertEquals(repository.snapshot().stream().sorted(order).toList(), sortService.sortBy(keys.toArray(SortKey[]::new)), keys.toString());
+        }
+        assertThrows(IllegalArgumentException.class, sortService::sortBy);
+    }
+
+    @Test
+    void testIdSequence(@TempDir Path directory) throws Exception {
+        repository.save(new Employee<>(41, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        Path markFile = directory.resolve("employees.ids");
+        Set<Integer> issued = ConcurrentHashMap.newKeySet();
+        try (EmployeeIdSequence sequence = EmployeeIdSequence.attach(repository, markFile, 10)) {
+            assertEquals(42, sequence.next());
+
+            // Concurrent callers never receive the same ID
+            ExecutorService workers = Executors.newFixedThreadPool(4);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(workers.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        assertTrue(issued.add(sequence.next()));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            workers.shutdown();
+            assertEquals(2000, issued.size());
+
+            // Employees saved with their own IDs move the sequence past them
+            repository.save(new Employee<>(5000, "Patrick", "Backend", 6000.0, 6.0, 3, true));
+            assertEquals(5001, sequence.reserve(100));
+            assertEquals(5101, sequence.next());
+            assertThrows(IllegalArgumentException.class, () -> sequence.reserve(0));
+        }
+
+        // After a restart, IDs handed out but never saved are not issued again
+        EmployeeRepository<Integer> restarted = new EmployeeRepository<>();
+        try (EmployeeIdSequence sequence = EmployeeIdSequence.attach(restarted, markFile, 10)) {
+            assertTrue(sequence.next() > 5101);
+        }
+    }
+
+    @Test
+    void testIntRepository() throws Exception {
+        IntEmployeeRepository intRepository = new IntEmployeeRepository();
+        EmployeeQueryService<Integer> intQueries = new EmployeeQueryService<>(intRepository);
+        intRepository.save(new Employee<>(0, "Zero", "Backend", 1000.0, 5.0, 1, true));
+
+        // Concurrent inserts race on the table of IDs and on the trie; every other employee is then deleted
+        ExecutorService workers = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int first = t * 5000 + 1;
+            futures.add(workers.submit(() -> {
+                for (int id = first; id < first + 5000; id++) {
+                    intRepository.save(new Employee<>(id, "Employee " + id, "Backend", 2000.0, 6.0, 2, true));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        workers.shutdown();
+        for (int id = 2; id <= 20000; id += 2) {
+            assertTrue(intRepository.delete(id));
+        }
+        assertFalse(intRepository.delete(2));
+        assertFalse(intRepository.delete(-5));
+
+        assertEquals(10001, intRepository.size());
+        assertEquals(10001, intRepository.stream().count());
+        assertEquals(10001, intRepository.stream().parallel().map(Employee::getEmployeeId).distinct().count());
+        assertEquals("Zero", intRepository.findById(0).orElseThrow().getName());
+        assertEquals("Employee 19999", intRepository.findById(19999).orElseThrow().getName());
+        assertTrue(intRepository.findById(19998).isEmpty());
+
+        for (int id = 0; id <= 20000; id++) {
+            assertEquals(intRepository.findById(Integer.valueOf(id)), intRepository.findById(id));
+        }
+
+        // Updates and bulk updates keep the table in step with the trie
+        intRepository.save(new Employee<>(7, "Seven", "QA", 3000.0, 9.0, 3, true));
+        salaryService = new EmployeeSalaryService<>(intRepository);
+        salaryService.applyRaise(10.0, 8.0);
+        assertEquals(3300.0, intRepository.findById(7).orElseThrow().getSalary(), 0.001);
+        assertSame(intRepository.findById(Integer.valueOf(7)).orElseThrow(), intRepository.findById(7).orElseThrow());
+        assertEquals(List.of(7), ids(intQueries.filterByDepartment("qa")));
+        assertTrue(intRepository.getStatistics().isConsistentWith(intRepository));
+
+        IntEmployeeRepository loaded = new IntEmployeeRepository();
+        loaded.load(List.of(new Employee<>(3, "Three", "QA", 1000.0, 5.0, 1, true),
+                new Employee<>(40, "Forty", "QA", 1000.0, 5.0, 1, true)));
+        assertEquals("Forty", loaded.findById(40).orElseThrow().getName());
+        assertTrue(loaded.delete(3));
+        assertTrue(loaded.findById(3).isEmpty());
+    }
+
+    @Test
+    void testSnapshots() throws Exception {
+        for (int id = 1; id <= 2000; id++) {
+            repository.save(new Employee<>(id, "Employee", "Backend", 1000.0, 9.0, 2, true));
+        }
+        RepositorySnapshot<Integer> before = repository.snapshot();
+        salaryService.applyRaise(10.0, 8.0);
+        crudService.updateEmployee(5, new Employee<>(5, "Renamed", "QA", 500.0, 9.0, 2, true));
+        crudService.removeEmployee(6);
+        repository.save(new Employee<>(2001, "Late", "QA", 1000.0, 9.0, 2, true));
+
+        // The snapshot keeps the state it was taken in, the repository moves on
+        assertEquals(2000, before.size());
+        assertEquals(2000, before.stream().filter(e -> e.getSalary() == 1000.0).count());
+        assertEquals("Employee", before.findById(5).orElseThrow().getName());
+        assertTrue(before.findById(6).isPresent());
+        assertTrue(before.findById(2001).isEmpty());
+        RepositorySnapshot<Integer> after = repository.snapshot();
+        assertEquals(2000, after.size());
+        assertEquals(1100.0, after.findById(7).orElseThrow().getSalary(), 0.001);
+        assertEquals(repository.findAll().size(), after.findAll().size());
+
+        // A report or sort never sees a raise half applied, while raises never wait for them
+        ExecutorService raises = Executors.newSingleThreadExecutor();
+        Future<?> raising = raises.submit(() -> {
+            for (int i = 0; i < 50; i++) {
+                salaryService.applyRaise(1.0, 0.0);
+            }
+        });
+        while (!raising.isDone()) {
+            RepositorySnapshot<Integer> snapshot = repository.snapshot();
+            double salary = snapshot.findById(1).orElseThrow().getSalary();
+            assertEquals(0, snapshot.count(e -> !e.getDepartment().equals("QA") && e.getSalary() != salary));
+        }
+        raising.get();
+        raises.shutdown();
+
+        // IDs with equal hash codes share a trie slot and are still told apart
+        EmployeeRepository<String> named = new EmployeeRepository<>();
+        List<String> colliding = List.of("AaAa", "AaBB", "BBAa", "BBBB");
+        colliding.forEach(id -> named.save(new Employee<>(id, id, "Backend", 1000.0, 5.0, 1, true)));
+        RepositorySnapshot<String> full = named.snapshot();
+        named.delete("AaBB");
+        named.delete("BBBB");
+        assertEquals(4, full.size());
+        assertEquals(colliding, full.stream().map(Employee::getEmployeeId).sorted().toList());
+        assertEquals(List.of("AaAa", "BBAa"), named.snapshot().stream().map(Employee::getEmployeeId).sorted().toList());
+        assertTrue(named.snapshot().findById("BBBB").isEmpty());
+    }
+
+    @Test
+    void testChangeStream() throws Exception {
+        // A tiny buffer makes writers wrap around it and wait for the slow subscriber many times
+        EmployeeChangeStream<Integer> stream = EmployeeChangeStream.attach(repository, 8);
+        Map<Integer, Employee<Integer>> replayed = new HashMap<>();
+        EmployeeChangeStream<Integer>.Subscription replay = stream.subscribe("replay", (event, endOfBatch) -> {
+            switch (event.getType()) {
+                case INSERT, UPDATE -> replayed.put(event.getAfter().getEmployeeId(), event.getAfter());
+                case DELETE -> replayed.remove(event.getBefore().getEmployeeId());
+                case BULK_UPDATE -> event.getBulkAfter().forEach(e -> replayed.put(e.getEmployeeId(), e));
+            }
+        });
+        long[] slow = new long[2];
+        EmployeeChangeStream<Integer>.Subscription batches = stream.subscribe("slow", (event, endOfBatch) -> {
+            slow[0]++;
+            if (endOfBatch) {
+                slow[1]++;
+                LockSupport.parkNanos(100_000);
+            }
+        });
+
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(writers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 2000; i++) {
+                    int id = random.nextInt(300);
+                    if (random.nextInt(4) == 0) {
+                        repository.delete(id);
+                    } else {
+                        repository.save(new Employee<>(id, "Employee", "Backend", random.nextDouble(1000, 5000), 9.0, 2, true));
+                    }
+                }
+            }));
+        }
+        salaryService.applyRaise(10.0, 5.0);
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        writers.shutdown();
+        stream.close();
+
+        // Replaying the events in order rebuilds exactly the repository's contents
+        assertEquals(stream.getPublishedCount(), replay.getHandledCount());
+        assertEquals(stream.getPublishedCount(), slow[0]);
+        assertTrue(slow[1] <= slow[0]);
+        assertEquals(repository.size(), replayed.size());
+        repository.forEach(e -> assertSame(e, replayed.get(e.getEmployeeId())));
+
+        // A closed stream publishes nothing more
+        long published = stream.getPublishedCount();
+        repository.save(new Employee<>(1000, "Late", "Backend", 1000.0, 9.0, 2, true));
+        assertEquals(published, stream.getPublishedCount());
+        batches.close();
+        assertThrows(IllegalArgumentException.class, () -> EmployeeChangeStream.attach(repository, 6));
+
+        // A subscriber killed by an error stops holding up writers once the buffer is full
+        Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, e) -> { });
+        try (EmployeeChangeStream<Integer> dying = EmployeeChangeStream.attach(repository, 8)) {
+            dying.subscribe("dying", (event, endOfBatch) -> {
+                throw new StackOverflowError();
+            });
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < 100; i++) {
+                    repository.save(new Employee<>(2000 + i, "Employee", "Backend", 1000.0, 9.0, 2, true));
+                }
+            });
+            assertEquals(100, dying.getPublishedCount());
+        } finally {
+            Thread.setDefaultUncaughtExceptionHandler(handler);
+        }
+
+        // A writer waiting for a full buffer has applied its change and released the repository's locks
+        CountDownLatch release = new CountDownLatch(1);
+        try (EmployeeChangeStream<Integer> blocked = EmployeeChangeStream.attach(repository, 8)) {
+            blocked.subscribe("blocked", (event, endOfBatch) -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < 20; i++) {
+                    repository.save(new Employee<>(3000 + i, "Employee", "Backend", 1000.0, 9.0, 2, true));
+                }
+            });
+            writer.start();
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                while (writer.getState() != Thread.State.WAITING) {
+                    Thread.sleep(1);
+                }
+                repository.snapshot(() -> { });
+            });
+            assertTrue(repository.findById(3008).isPresent());
+            release.countDown();
+            writer.join();
+            assertEquals(20, blocked.getPublishedCount());
+        }
+
+        // An idle subscriber parks until a change is published instead of polling
+        try (EmployeeChangeStream<Integer> idle = EmployeeChangeStream.attach(repository)) {
+            CountDownLatch delivered = new CountDownLatch(1);
+            idle.subscribe("idle", (event, endOfBatch) -> delivered.countDown());
+            Thread subscriber = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getName().equals("employee-changes-idle")).findFirst().orElseThrow();
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                while (subscriber.getState() != Thread.State.WAITING) {
+                    Thread.sleep(1);
+                }
+            });
+            repository.delete(3000);
+            assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testRunningStatistics() {
+        crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        crudService.addEmployee(new Employee<>(2, "Patrick", "Backend", 6000.1, 6.0, 3, false));
+        crudService.addEmployee(new Employee<>(3, "Ama", "Frontend", 7000.0, 9.0, 2, true));
+
+        assertEquals(5500.05, salaryService.getAverageSalary("backend"), 0.001);
+
+        salaryService.applyRaise(10.0, 8.0);
+        crudService.removeEmployee(2);
+
+        EmployeeStatistics.Summary backend = repository.getStatistics().getDepartmentSummary("Backend");
+        assertEquals(1, backend.getCount());
+        assertEquals(5500.0, backend.getMinSalary(), 0.001);
+        assertEquals(5500.0, backend.getMaxSalary(), 0.001);
+
+        EmployeeStatistics.Summary total = repository.getStatistics().getSummary();
+        assertEquals(2, total.getCount());
+        assertEquals(2, total.getActiveCount());
+        assertEquals(13200.0, total.getTotalSalary(), 0.001);
+        assertTrue(repository.getStatistics().isConsistentWith(repository));
+
+        // The repository keeps a copy, so editing the saved instance and saving it again is an ordinary update
+        Employee<Integer> edited = new Employee<>(4, "Kofi", "Backend", 4000.0, 7.0, 1, true);
+        repository.save(edited);
+        edited.setSalary(9000.0);
+        assertEquals(4000.0, repository.findById(4).orElseThrow().getSalary(), 0.001);
+        // Stored employees are read-only, so no reader or snapshot can see one change in place
+        Employee<Integer> stored = repository.findById(4).orElseThrow();
+        assertTrue(stored.isFrozen());
+        assertThrows(UnsupportedOperationException.class, () -> stored.setSalary(1.0));
+        assertFalse(new Employee<>(stored).isFrozen());
+        repository.save(edited);
+        assertEquals(9000.0, repository.getStatistics().getDepartmentSummary("Backend").getMaxSalary(), 0.001);
+        assertEquals(5500.0, repository.getStatistics().getDepartmentSummary("Backend").getMinSalary(), 0.001);
+        assertTrue(repository.getStatistics().isConsistentWith(repository));
+    }
+
+    @Test
+    void testColumnarStore() {
+        ColumnarEmployeeStore<Integer> store = new ColumnarEmployeeStore<>();
+        Employee<Integer> employee1 = new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true);
+        Employee<Integer> employee2 = new Employee<>(2, "Patrick", "Frontend", 6000.0, null, 3, false);
+        Employee<Integer> employee3 = new Employee<>(3, "Ama", "backend", 7000.0, 9.0, 2, true);
+        store.save(employee1);
+        store.save(employee2);
+        store.save(employee3);
+
+        assertEquals(employee2, store.findById(2).orElse(null));
+        assertEquals(6000.0, store.averageSalary("BACKEND"), 0.001);
+        assertEquals(2, store.countBySalaryRange(5500, 7000));
+        assertEquals(2, store.countActive());
+
+        // Deleting a middle row moves the last row into its place
+        assertTrue(store.delete(1));
+        assertFalse(store.delete(1));
+        assertEquals(employee3, store.findById(3).orElse(null));
+        assertEquals(List.of(employee3), store.findByMinRating(8.0));
+        assertEquals(13000.0, store.totalSalary(), 0.001);
+    }
+
+    @Test
+    void testColumnarStoreBehindRepository() {
+        crudService.addEmployee(new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true));
+        crudService.addEmployee(new Employee<>(2, "Patrick", "Frontend", 6000.0, null, 3, false));
+        try (ColumnarEmployeeStore<Integer> store = ColumnarEmployeeStore.attach(repository)) {
+            crudService.addEmployee(new Employee<>(3, "Ama", "Backend", 7000.0, 9.0, 2, true));
+            crudService.removeEmployee(2);
+            salaryService.applyRaise(10.0, 8.0);
+
+            // The columns follow saves, deletes and bulk updates
+            assertEquals(repository.size(), store.size());
+            repository.forEach(e -> assertEquals(e, store.findById(e.getEmployeeId()).orElseThrow()));
+            assertEquals(13200.0, store.totalSalary(), 0.001);
+            assertEquals(6600.0, store.averageSalary("backend"), 0.001);
+            assertEquals(repository.findBySalaryRange(6000, 8000).size(), store.countBySalaryRange(6000, 8000));
+
+            store.close();
+            repository.delete(1);
+            assertEquals(2, store.size());
+        }
+    }
+
     @Test
     void testRemoveEmployee() {
         Employee<Integer> employee = new Employee<>(1, "Elias", "Backend", 5000.0, 8.5, 4, true);
@@ -81,4 +979,60 @@ public class EmployeeUnitTesting {
         Employee<Integer> employeeWithRaise = repository.findById(1).get();
         assertEquals(5500.0, employeeWithRaise.getSalary(), 0.001);
     }
+
+    @Test
+    void testConcurrentRepositoryStress() throws Exception {
+        String[] departments = {"Backend", "Frontend", "DevOps", "QA", "DataEng"};
+        int idRange = 10_000;
+        int operationsPerThread = 50_000;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            EmployeeRepository<Integer> sharedRepository = new EmployeeRepository<>();
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> workers = new ArrayList<>();
+
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    start.await();
+                    for (int i = 0; i < operationsPerThread; i++) {
+                        int id = random.nextInt(idRange);
+                        switch (random.nextInt(10)) {
+                            case 0, 1, 2 -> sharedRepository.save(new Employee<>(id, "Employee " + id,
+                                    departments[random.nextInt(departments.length)], random.nextDouble(1000, 10000),
+                                    random.nextDouble(0, 10), random.nextInt(20), true));
+                            case 3 -> sharedRepository.delete(id);
+                            case 4 -> sharedRepository.findByDepartment(departments[random.nextInt(departments.length)]);
+                            case 5 -> {
+                                Iterator<Employee<Integer>> iterator = sharedRepository.getIterator();
+                                for (int n = 0; n < 100 && iterator.hasNext(); n++) {
+                                    iterator.next();
+                                }
+                            }
+                            default -> sharedRepository.findById(id);
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            executor.shutdown();
+
+            // Indexes must agree with the primary storage once writers are quiescent
+            List<Employee<Integer>> all = sharedRepository.findAll();
+            for (String department : departments) {
+                long expected = all.stream().filter(e -> e.getDepartment().equals(department)).count();
+                assertEquals(expected, sharedRepository.findByDepartment(department).size());
+            }
+            assertEquals(all.size(), sharedRepository.findBySalaryRange(0, Double.MAX_VALUE).size());
+            assertEquals(all.size(), sharedRepository.findByMinRating(0).size());
+            assertTrue(sharedRepository.getStatistics().isConsistentWith(sharedRepository));
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.ColumnarEmployeeStore;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Compares {@link ColumnarEmployeeStore} with the object-per-employee {@link EmployeeRepository}
+ * on retained heap per employee and on full-column scans. The repository is filled through
+ * {@link EmployeeRepository#load}, the store through single saves.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes \
+ *     com.example.employee_management_system.benchmark.ColumnarStoreBenchmark 1000000 10000000
+ * </pre>
+ */
+public class ColumnarStoreBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+
+    public static void main(String[] args) {
+        int[] sizes = args.length == 0 ? new int[]{1_000_000, 10_000_000} : parseSizes(args);
+        for (int size : sizes) {
+            runColumnar(size);
+            try {
+                runRepository(size);
+            } catch (OutOfMemoryError e) {
+                System.out.printf("%n[EmployeeRepository] rows=%,d does not fit in a %,d MB heap%n",
+                        size, Runtime.getRuntime().maxMemory() >> 20);
+            }
+        }
+    }
+
+    private static void runRepository(int size) {
+        long before = usedHeap();
+        EmployeeRepository<Integer> repository = new EmployeeRepository<>();
+        List<Employee<Integer>> employees = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            employees.add(EmployeeDataGenerator.employee(id));
+        }
+        repository.load(employees);
+        employees = null;
+        long bytesPerEmployee = (usedHeap() - before) / size;
+
+        System.out.printf("%n[EmployeeRepository] rows=%,d heap/employee=%d B%n", size, bytesPerEmployee);
+        measure("total salary", () -> repository.stream().mapToDouble(Employee::getSalary).sum());
+        measure("avg salary (DevOps)", () -> repository.stream()
+                .filter(e -> e.getDepartment().equalsIgnoreCase("DevOps"))
+                .mapToDouble(Employee::getSalary).average().orElse(0));
+        measure("count 80k-120k", () -> repository.count(e -> e.getSalary() >= 80_000 && e.getSalary() <= 120_000));
+    }
+
+    private static void runColumnar(int size) {
+        long before = usedHeap();
+        ColumnarEmployeeStore<Integer> store = new ColumnarEmployeeStore<>();
+        for (int id = 0; id < size; id++) {
+            store.save(EmployeeDataGenerator.employee(id));
+        }
+        long bytesPerEmployee = (usedHeap() - before) / size;
+
+        System.out.printf("%n[Columnar] rows=%,d heap/employee=%d B%n", size, bytesPerEmployee);
+        measure("total salary", store::totalSalary);
+        measure("avg salary (DevOps)", () -> store.averageSalary("DevOps"));
+        measure("count 80k-120k", () -> store.countBySalaryRange(80_000, 120_000));
+    }
+
+    private static void measure(String name, DoubleSupplier scan) {
+        double sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += scan.getAsDouble();
+        }
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += scan.getAsDouble();
+            long elapsed = System.nanoTime() - start;
+            best = Math.min(best, elapsed);
+            total += elapsed;
+        }
+        System.out.printf("  %-22s best %8.2f ms  mean %8.2f ms  (%s)%n",
+                name, best / 1e6, total / 1e6 / MEASURED_ROUNDS, sink != 0 ? "ok" : "empty");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i].replace("_", ""));
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.ingest.EmployeeCsvImporter;
+import com.example.employee_management_system.ingest.ImportListener;
+import com.example.employee_management_system.ingest.ImportProgress;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures {@link EmployeeCsvImporter} throughput on a generated CSV file, printing progress as the
+ * import runs.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes \
+ *     com.example.employee_management_system.benchmark.CsvImportBenchmark 2000000
+ * </pre>
+ */
+public class CsvImportBenchmark {
+    private static final long PROGRESS_INTERVAL_NANOS = 1_000_000_000L;
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        Path file = Files.createTempFile("employees", ".csv");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(file)) {
+                out.write(EmployeeCsvImporter.HEADER);
+                out.newLine();
+                for (int id = 0; id < size; id++) {
+                    Employee<Integer> e = EmployeeDataGenerator.employee(id);
+                    out.write(e.getEmployeeId() + "," + e.getName() + "," + e.getDepartment() + "," + e.getSalary()
+                            + "," + e.getPerformanceRating() + "," + e.getYearsOfExperience() + "," + e.isActive());
+                    out.newLine();
+                }
+            }
+            System.out.printf("rows=%,d  file=%,d KB  processors=%d%n",
+                    size, Files.size(file) >> 10, Runtime.getRuntime().availableProcessors());
+
+            EmployeeRepository<Integer> repository = new EmployeeRepository<>();
+            EmployeeCsvImporter<Integer> importer = new EmployeeCsvImporter<>(repository, Integer::valueOf);
+            ImportProgress result = importer.importFile(file, new ImportListener() {
+                private long lastReport = System.nanoTime();
+
+                @Override
+                public void onProgress(ImportProgress progress) {
+                    if (System.nanoTime() - lastReport >= PROGRESS_INTERVAL_NANOS) {
+                        lastReport = System.nanoTime();
+                        System.out.println("  " + progress);
+                    }
+                }
+            });
+            System.out.printf("done: %s  (%,.0f rows/min)%n", result, result.getRowsPerSecond() * 60);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
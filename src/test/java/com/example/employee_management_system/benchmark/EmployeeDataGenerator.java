@@ -0,0 +1,56 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.domain.Employee;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a stable synthetic dataset for benchmarks.
+ * The employee generated for a given ID is always the same, so runs are comparable.
+ */
+public final class EmployeeDataGenerator {
+    private static final long SEED = 0x5EED_2024L;
+    private static final String[] DEPARTMENTS = {"Backend", "Frontend", "DevOps", "QA", "DataEng"};
+    private static final String[] FIRST_NAMES = {
+            "Elias", "Patrick", "Ama", "Kofi", "Jane", "John", "Alice", "Yaw", "Efua", "Kwame",
+            "Maria", "Chen", "Fatima", "Lars", "Priya", "Diego", "Akosua", "Noah", "Zara", "Ivan"
+    };
+    private static final String[] LAST_NAMES = {
+            "Mensah", "Owusu", "Smith", "Boateng", "Garcia", "Nguyen", "Asante", "Muller", "Okafor", "Silva",
+            "Larsen", "Kowalski", "Addo", "Patel", "Rossi", "Tanaka", "Appiah", "Dubois", "Quartey", "Novak"
+    };
+    private static final String[] NAMES = new String[FIRST_NAMES.length * LAST_NAMES.length];
+
+    static {
+        for (int i = 0; i < FIRST_NAMES.length; i++) {
+            for (int j = 0; j < LAST_NAMES.length; j++) {
+                NAMES[i * LAST_NAMES.length + j] = FIRST_NAMES[i] + " " + LAST_NAMES[j];
+            }
+        }
+    }
+
+    private EmployeeDataGenerator() {
+    }
+
+    /**
+     * Returns the employee with the given ID.
+     *
+     * @param id the employee ID
+     * @return a new employee with deterministic attributes
+     */
+    public static Employee<Integer> employee(int id) {
+        SplittableRandom random = new SplittableRandom(SEED ^ (id * 0x9E3779B97F4A7C15L));
+        return new Employee<>(
+                id,
+                NAMES[random.nextInt(NAMES.length)],
+                DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                Math.round(random.nextDouble(30_000, 200_000) * 100) / 100.0,
+                Math.round(random.nextDouble(2.0, 10.0) * 10) / 10.0,
+                random.nextInt(1, 30),
+                random.nextInt(10) != 0
+        );
+    }
+
+    public static String department(int index) {
+        return DEPARTMENTS[index % DEPARTMENTS.length];
+    }
+}
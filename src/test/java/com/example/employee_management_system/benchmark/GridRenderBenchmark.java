@@ -0,0 +1,165 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.EmployeeGrid;
+import com.example.employee_management_system.domain.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.stage.Stage;
+
+/**
+ * Measures refresh time and scene-graph size against row count for {@link EmployeeGrid} and for the
+ * previous grid, which built one row of labels per employee. Runs headless on the Monocle platform.
+ * <p>
+ * Laying out text needs the system Pango library. On a machine without it, run with
+ * {@code -Dbenchmark.layout=false} to measure only building the rows and applying CSS.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -Xmx4g -cp "target/classes:target/test-classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     com.example.employee_management_system.benchmark.GridRenderBenchmark 1000 10000 100000 1000000
+ * </pre>
+ */
+public class GridRenderBenchmark {
+    private static final int ROUNDS = 3;
+    // The previous grid takes tens of seconds at this size and runs out of a 4 GB heap at 100k rows
+    private static final int MAX_EAGER_ROWS = 10_000;
+    private static final boolean LAYOUT = Boolean.parseBoolean(System.getProperty("benchmark.layout", "true"));
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("glass.platform", "Monocle");
+        System.setProperty("monocle.platform", "Headless");
+        System.setProperty("prism.order", "sw");
+        Platform.startup(() -> {
+        });
+
+        int[] sizes = args.length == 0 ? new int[]{1_000, 10_000, 100_000, 1_000_000} : parseSizes(args);
+        for (int size : sizes) {
+            List<Employee<Integer>> employees = new ArrayList<>(size);
+            for (int id = 0; id < size; id++) {
+                employees.add(EmployeeDataGenerator.employee(id));
+            }
+            System.out.printf("%nrows=%,d%n", size);
+
+            onFxThread(() -> {
+                EmployeeGrid<Integer> grid = new EmployeeGrid<>();
+                Stage stage = show(grid);
+                long best = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    grid.setEmployees(new ArrayList<>(employees));
+                    layout(grid);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                ListView<?> list = (ListView<?>) grid.lookup(".list-view");
+                list.getSelectionModel().select(0);
+                long start = System.nanoTime();
+                list.scrollTo(size / 2);
+                layout(grid);
+                long scroll = System.nanoTime() - start;
+                System.out.printf("  %-12s refresh %9.2f ms  scroll %7.2f ms  nodes %,9d%n",
+                        "virtualized", best / 1e6, scroll / 1e6, countNodes(grid));
+                stage.close();
+                return null;
+            });
+
+            if (size > MAX_EAGER_ROWS) {
+                System.out.printf("  %-12s skipped%n", "eager");
+                continue;
+            }
+            onFxThread(() -> {
+                GridPane grid = new GridPane();
+                ScrollPane scrollPane = new ScrollPane(grid);
+                Stage stage = show(scrollPane);
+                long start = System.nanoTime();
+                buildEagerGrid(grid, employees);
+                layout(scrollPane);
+                long elapsed = System.nanoTime() - start;
+                System.out.printf("  %-12s refresh %9.2f ms                   nodes %,9d%n",
+                        "eager", elapsed / 1e6, countNodes(scrollPane));
+                stage.close();
+                return null;
+            });
+        }
+        Platform.exit();
+    }
+
+    private static Stage show(Parent root) {
+        Stage stage = new Stage();
+        stage.setScene(new Scene(root, 900, 650));
+        if (LAYOUT) {
+            stage.show();
+        }
+        return stage;
+    }
+
+    private static void layout(Parent root) {
+        root.applyCss();
+        if (LAYOUT) {
+            root.layout();
+        }
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The grid as it was built before virtualization: one row of labels per employee.
+     */
+    private static void buildEagerGrid(GridPane grid, List<Employee<Integer>> employees) {
+        double[] widths = {60.0, 150.0, 120.0, 120.0, 80.0, 60.0, 60.0};
+        grid.getChildren().clear();
+        for (int row = 0; row < employees.size(); row++) {
+            Employee<Integer> emp = employees.get(row);
+            HBox dataRow = new HBox(10);
+            dataRow.setAlignment(Pos.CENTER_LEFT);
+            dataRow.setPadding(new Insets(5, 15, 5, 15));
+            String[] texts = {
+                    emp.getEmployeeId().toString(), emp.getName(), emp.getDepartment(),
+                    String.format("$%,.2f", emp.getSalary()), String.format("%.1f", emp.getPerformanceRating()),
+                    String.valueOf(emp.getYearsOfExperience()), emp.isActive() ? "Yes" : "No"
+            };
+            for (int i = 0; i < texts.length; i++) {
+                Label label = new Label(texts[i]);
+                label.setMinWidth(widths[i]);
+                label.setStyle("-fx-padding: 5 0;");
+                dataRow.getChildren().add(label);
+            }
+            dataRow.setOnMouseClicked(event -> dataRow.setStyle("-fx-background-color: #e3f2fd;"));
+            grid.add(dataRow, 0, row + 1);
+        }
+    }
+
+    private static <V> V onFxThread(Callable<V> task) throws Exception {
+        FutureTask<V> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get();
+    }
+
+    private static int[] parseSizes(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeIdSequence;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.ToIntFunction;
+
+/**
+ * Measures the cost per insert as the repository grows, with IDs from a persisted
+ * {@link EmployeeIdSequence} and from the highest stored ID plus one. The second is measured up to a
+ * smaller size because it scans every employee per insert.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp target/classes:target/test-classes \
+ *     com.example.employee_management_system.benchmark.IdSequenceBenchmark [employees] [scanEmployees]
+ * </pre>
+ */
+public class IdSequenceBenchmark {
+    private static final int ROUNDS = 10;
+
+    public static void main(String[] args) throws Exception {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int scanEmployees = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        Path markFile = Files.createTempFile("employee-ids", ".mark");
+        try {
+            EmployeeRepository<Integer> repository = new EmployeeRepository<>();
+            try (EmployeeIdSequence sequence = EmployeeIdSequence.attach(repository, markFile)) {
+                run("sequence", repository, employees, r -> sequence.next());
+            }
+        } finally {
+            Files.deleteIfExists(markFile);
+        }
+        run("max scan", new EmployeeRepository<>(), scanEmployees,
+                r -> r.stream().mapToInt(Employee::getEmployeeId).max().orElse(0) + 1);
+    }
+
+    private static void run(String label, EmployeeRepository<Integer> repository, int employees,
+                            ToIntFunction<EmployeeRepository<Integer>> nextId) {
+        int perRound = employees / ROUNDS;
+        for (int round = 1; round <= ROUNDS; round++) {
+            long begin = System.nanoTime();
+            for (int i = 0; i < perRound; i++) {
+                repository.save(EmployeeDataGenerator.employee(nextId.applyAsInt(repository)));
+            }
+            long elapsed = System.nanoTime() - begin;
+            System.out.printf("%-8s  size=%,10d  %,10.2f us/insert%n",
+                    label, repository.size(), elapsed / 1e3 / perRound);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.repository.IntEmployeeRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares {@link IntEmployeeRepository} with the generic {@link EmployeeRepository}: heap retained
+ * per employee, which the {@code int} repository raises by its open-addressing table of IDs, and the
+ * time of a lookup by ID, which the {@code int} overload makes in that table without boxing rather
+ * than by walking the trie. The employees themselves are created before the first measurement, so
+ * the heap figures cover the repositories' own structures only.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes \
+ *     com.example.employee_management_system.benchmark.IntRepositoryBenchmark [employees] [lookups]
+ * </pre>
+ */
+public class IntRepositoryBenchmark {
+    public static void main(String[] args) {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int lookups = args.length > 1 ? Integer.parseInt(args[1]) : 20_000_000;
+
+        List<Employee<Integer>> dataset = new ArrayList<>(employees);
+        for (int id = 0; id < employees; id++) {
+            dataset.add(EmployeeDataGenerator.employee(id));
+        }
+        int[] ids = new Random(42).ints(lookups, 0, employees).toArray();
+
+        for (int round = 0; round < 3; round++) {
+            measureGeneric(dataset, ids);
+            measureInt(dataset, ids);
+        }
+    }
+
+    private static void measureGeneric(List<Employee<Integer>> dataset, int[] ids) {
+        long before = usedHeap();
+        EmployeeRepository<Integer> repository = new EmployeeRepository<>();
+        dataset.forEach(repository::save);
+        long bytes = usedHeap() - before;
+
+        long begin = System.nanoTime();
+        long checksum = 0;
+        for (int id : ids) {
+            checksum += repository.findById(id).isPresent() ? id : 0;
+        }
+        report("generic", bytes, dataset.size(), System.nanoTime() - begin, ids.length, checksum);
+    }
+
+    private static void measureInt(List<Employee<Integer>> dataset, int[] ids) {
+        long before = usedHeap();
+        IntEmployeeRepository repository = new IntEmployeeRepository();
+        dataset.forEach(repository::save);
+        long bytes = usedHeap() - before;
+
+        long begin = System.nanoTime();
+        long checksum = 0;
+        for (int id : ids) {
+            checksum += repository.findById(id).isPresent() ? id : 0;
+        }
+        report("int", bytes, dataset.size(), System.nanoTime() - begin, ids.length, checksum);
+    }
+
+    private static void report(String label, long bytes, int employees, long lookupNanos, int lookups, long checksum) {
+        System.out.printf("%-8s  %,8.1f bytes/employee  %,8.1f ns/lookup  (checksum %d)%n",
+                label, (double) bytes / employees, (double) lookupNanos / lookups, checksum);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.persistence.EmployeeSnapshot;
+import com.example.employee_management_system.persistence.IdCodec;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.service.EmployeeCRUDService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares cold-start load time from an {@link EmployeeSnapshot} with constructing each
+ * {@code Employee} and adding it through {@link EmployeeCRUDService#addEmployee}, and with saving the
+ * decoded employees in batches through {@link EmployeeRepository#saveAll} instead of building the
+ * repository's contents in one pass.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes \
+ *     com.example.employee_management_system.benchmark.SnapshotLoadBenchmark 1000000
+ * </pre>
+ */
+public class SnapshotLoadBenchmark {
+    private static final int ROUNDS = 3;
+    private static final int SAVE_BATCH_SIZE = 1 << 16;
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Employee<Integer>> source = new ArrayList<>(size);
+        EmployeeRepository<Integer> original = new EmployeeRepository<>();
+        for (int id = 0; id < size; id++) {
+            Employee<Integer> employee = EmployeeDataGenerator.employee(id);
+            source.add(employee);
+            original.save(employee);
+        }
+
+        Path file = Files.createTempFile("employees", ".snapshot");
+        try {
+            long start = System.nanoTime();
+            EmployeeSnapshot.write(original, file, IdCodec.integers());
+            System.out.printf("rows=%,d  snapshot=%,d KB (%d B/employee)  write %.0f ms%n",
+                    size, Files.size(file) >> 10, Files.size(file) / size, (System.nanoTime() - start) / 1e6);
+            original = null;
+
+            for (int round = 1; round <= ROUNDS; round++) {
+                System.out.printf("round %d%n", round);
+
+                EmployeeRepository<Integer> viaService = new EmployeeRepository<>();
+                EmployeeCRUDService<Integer> crudService = new EmployeeCRUDService<>(viaService);
+                start = System.nanoTime();
+                for (Employee<Integer> e : source) {
+                    crudService.addEmployee(new Employee<>(e.getEmployeeId(), e.getName(), e.getDepartment(),
+                            e.getSalary(), e.getPerformanceRating(), e.getYearsOfExperience(), e.isActive()));
+                }
+                report("addEmployee per row", start, viaService.size());
+                viaService = null;
+                System.gc();
+
+                long[] decoded = new long[1];
+                start = System.nanoTime();
+                EmployeeSnapshot.read(file, IdCodec.integers(), e -> decoded[0]++);
+                report("snapshot decode only", start, (int) decoded[0]);
+
+                EmployeeRepository<Integer> viaBatches = new EmployeeRepository<>();
+                List<Employee<Integer>> batch = new ArrayList<>(SAVE_BATCH_SIZE);
+                start = System.nanoTime();
+                EmployeeSnapshot.read(file, IdCodec.integers(), e -> {
+                    batch.add(e);
+                    if (batch.size() == SAVE_BATCH_SIZE) {
+                        viaBatches.saveAll(batch);
+                        batch.clear();
+                    }
+                });
+                viaBatches.saveAll(batch);
+                report("snapshot saveAll", start, viaBatches.size());
+                System.gc();
+
+                EmployeeRepository<Integer> viaSnapshot = new EmployeeRepository<>();
+                start = System.nanoTime();
+                EmployeeSnapshot.load(viaSnapshot, file, IdCodec.integers());
+                report("snapshot load", start, viaSnapshot.size());
+                viaSnapshot = null;
+                System.gc();
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void report(String name, long start, int rows) {
+        double millis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("  %-22s %8.0f ms  %,12.0f rows/s%n", name, millis, rows / (millis / 1e3));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.domain.Employee;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import com.example.employee_management_system.service.EmployeeReportService;
+import com.example.employee_management_system.service.ReportFormat;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Measures reports read from repository snapshots against concurrent writes: the time of a report
+ * and of a batch of single saves alone, then both running together. Neither waits for the other, so
+ * the slowdown under contention is only that of sharing the CPUs, and the cost of taking a snapshot
+ * is shown separately.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -Xmx4g -cp target/classes:target/test-classes \
+ *     com.example.employee_management_system.benchmark.SnapshotReadBenchmark [employees] [saves]
+ * </pre>
+ */
+public class SnapshotReadBenchmark {
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) throws Exception {
+        int employees = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int saves = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        EmployeeRepository<Integer> repository = new EmployeeRepository<>();
+        for (int id = 0; id < employees; id++) {
+            repository.save(EmployeeDataGenerator.employee(id));
+        }
+        EmployeeReportService<Integer> reportService = new EmployeeReportService<>(repository);
+
+        long begin = System.nanoTime();
+        long sizes = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            sizes += repository.snapshot().size();
+        }
+        System.out.printf("snapshot        %8.1f ns  (checksum %d)%n", (System.nanoTime() - begin) / 1e6, sizes);
+
+        Path file = Files.createTempFile("employees", ".report");
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                long report = timeReport(reportService, file);
+                long writes = timeSaves(repository, employees, saves);
+                System.out.printf("alone           report %6.0f ms  saves %6.0f ns/save%n",
+                        report / 1e6, (double) writes / saves);
+
+                long[] concurrentReport = new long[1];
+                Thread reader = new Thread(() -> {
+                    try {
+                        concurrentReport[0] = timeReport(reportService, file);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                reader.start();
+                long concurrentWrites = timeSaves(repository, employees, saves);
+                reader.join();
+                System.out.printf("concurrently    report %6.0f ms  saves %6.0f ns/save%n",
+                        concurrentReport[0] / 1e6, (double) concurrentWrites / saves);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static long timeReport(EmployeeReportService<Integer> reportService, Path file) throws Exception {
+        return reportService.writeReport(file, ReportFormat.CSV).getElapsedNanos();
+    }
+
+    private static long timeSaves(EmployeeRepository<Integer> repository, int employees, int saves) {
+        long begin = System.nanoTime();
+        for (int i = 0; i < saves; i++) {
+            Employee<Integer> raised = new Employee<>(EmployeeDataGenerator.employee(i % employees));
+            raised.setSalary(raised.getSalary() * 1.01);
+            repository.save(raised);
+        }
+        return System.nanoTime() - begin;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.employee_management_system.benchmark;
+
+import com.example.employee_management_system.persistence.FsyncPolicy;
+import com.example.employee_management_system.persistence.IdCodec;
+import com.example.employee_management_system.persistence.WriteAheadLog;
+import com.example.employee_management_system.repository.EmployeeRepository;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Measures sustained logged writes per second under each {@link FsyncPolicy}.
+ * <p>
+ * Run after {@code mvn test-compile} with:
+ * <pre>
+ * java -cp target/classes:target/test-classes \
+ *     com.example.employee_management_system.benchmark.WriteAheadLogBenchmark [threads] [writesPerThread]
+ * </pre>
+ */
+public class WriteAheadLogBenchmark {
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int writesPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+
+        for (FsyncPolicy policy : FsyncPolicy.values()) {
+            Path file = Files.createTempFile("employee-wal", ".log");
+            EmployeeRepository<Integer> repository = new EmployeeRepository<>();
+            try (WriteAheadLog<Integer> log = WriteAheadLog.attach(repository, file, IdCodec.integers(), policy)) {
+                double writesPerSecond = run(repository, threads, writesPerThread);
+                System.out.printf("%-8s threads=%d  %,12.0f writes/s  log=%,d KB%n",
+                        policy, threads, writesPerSecond, Files.size(file) >> 10);
+            } finally {
+                Files.deleteIfExists(file);
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".snapshot"));
+                Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".old"));
+            }
+        }
+    }
+
+    private static double run(EmployeeRepository<Integer> repository, int threads, int writesPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int firstId = t * writesPerThread;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int id = firstId; id < firstId + writesPerThread; id++) {
+                    repository.save(EmployeeDataGenerator.employee(id));
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        return (double) threads * writesPerThread / (elapsed / 1e9);
+    }
+}